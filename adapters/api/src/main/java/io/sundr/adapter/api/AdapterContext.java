@@ -19,6 +19,7 @@ package io.sundr.adapter.api;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 import io.sundr.model.AttributeKey;
 import io.sundr.model.AttributeSupport;
@@ -26,9 +27,12 @@ import io.sundr.model.repo.DefinitionRepository;
 
 public class AdapterContext extends AttributeSupport implements AdapterContextAware {
 
-  protected static AdapterContext INSTANCE;
+  protected static volatile AdapterContext INSTANCE;
+  private static final ThreadLocal<AdapterContext> SCOPE = new ThreadLocal<>();
 
   private final DefinitionRepository definitionRepository;
+  private final AdapterRegistry adapterRegistry = new AdapterRegistry(this);
+  private final TypeLookupChain typeLookupChain = new TypeLookupChain(this);
 
   private AdapterContext(DefinitionRepository definitionRepository) {
     this(definitionRepository, new HashMap<>());
@@ -39,27 +43,100 @@ public class AdapterContext extends AttributeSupport implements AdapterContextAw
     this.definitionRepository = definitionRepository;
   }
 
-  public synchronized static AdapterContext create(DefinitionRepository definitionRepository) {
+  public static AdapterContext create(DefinitionRepository definitionRepository) {
     return create(definitionRepository, new HashMap<>());
   }
 
-  public synchronized static AdapterContext create(DefinitionRepository definitionRepository,
+  public static AdapterContext create(DefinitionRepository definitionRepository,
       Map<AttributeKey, Object> attributes) {
-    INSTANCE = new AdapterContext(definitionRepository, attributes);
-    return INSTANCE;
+    AdapterContext context = new AdapterContext(definitionRepository, attributes);
+    // Within a scope, the new context replaces the scoped one (until the scope exits).
+    if (SCOPE.get() != null) {
+      SCOPE.set(context);
+    } else {
+      INSTANCE = context;
+    }
+    return context;
   }
 
-  public synchronized static AdapterContext getContext() {
-    if (INSTANCE != null) {
-      return INSTANCE;
+  /**
+   * Get the current context.
+   * This is the context scoped to the current thread via {@link #call(Callable)} (or the last one created within that
+   * scope) if any, or the last created context otherwise.
+   *
+   * @return the current context.
+   */
+  public static AdapterContext getContext() {
+    AdapterContext scoped = SCOPE.get();
+    if (scoped != null) {
+      return scoped;
+    }
+    AdapterContext current = INSTANCE;
+    if (current != null) {
+      return current;
     }
     return create(DefinitionRepository.getRepository());
   }
 
+  /**
+   * Call the specified callable, using this context (and its {@link DefinitionRepository}) as the current one.
+   * The scope is bound to the current thread and is not inherited by other threads, see
+   * {@link #withCurrentScope(Callable)}. Contexts that are used this way do not interfere with each other, so that
+   * independent generations may run concurrently.
+   *
+   * @param callable the callable.
+   * @return the value returned by the callable.
+   */
+  public <V> V call(Callable<V> callable) {
+    AdapterContext previous = SCOPE.get();
+    try {
+      SCOPE.set(this);
+      return DefinitionRepository.withRepository(definitionRepository).call(callable);
+    } finally {
+      if (previous != null) {
+        SCOPE.set(previous);
+      } else {
+        SCOPE.remove();
+      }
+    }
+  }
+
+  /**
+   * Wrap the specified callable, so that it uses the context and {@link DefinitionRepository} of the current thread,
+   * when called from another thread (e.g. a pooled one).
+   *
+   * @param callable the callable.
+   * @return the wrapped callable.
+   */
+  public static <V> Callable<V> withCurrentScope(Callable<V> callable) {
+    AdapterContext context = SCOPE.get();
+    DefinitionRepository repository = DefinitionRepository.getRepository();
+    Callable<V> withRepository = () -> DefinitionRepository.withRepository(repository).call(callable);
+    return context != null ? () -> context.call(withRepository) : withRepository;
+  }
+
   public DefinitionRepository getDefinitionRepository() {
     return definitionRepository;
   }
 
+  /**
+   * Get the registry of the adapters that are used within this context.
+   *
+   * @return the registry.
+   */
+  public AdapterRegistry getAdapterRegistry() {
+    return adapterRegistry;
+  }
+
+  /**
+   * Get the chain of lookups that is used to find types within this context.
+   *
+   * @return the chain.
+   */
+  public TypeLookupChain getTypeLookupChain() {
+    return typeLookupChain;
+  }
+
   public AdapterContext getAdapterContext() {
     return this;
   }
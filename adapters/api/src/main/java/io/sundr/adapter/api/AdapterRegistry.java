@@ -0,0 +1,135 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * The registry of the {@link Adapter} instances of an {@link AdapterContext}.
+ *
+ * The {@link AdapterFactory} services are discovered once (per class loader of the adapter api) and the factory that
+ * supports each input class is looked up once per context. Adapters are created once per context and factory, so they
+ * may be used by multiple threads concurrently.
+ */
+public class AdapterRegistry {
+
+  private static volatile List<AdapterFactory> factories;
+
+  //The lookups are per context, as a static cache keyed by class (e.g. a ClassValue) would keep the factories, and
+  //their class loader, reachable from the input classes (e.g. the ones of javac).
+  private final FactoryLookup typeFactories = new FactoryLookup(AdapterFactory::getTypeAdapterType);
+  private final FactoryLookup referenceFactories = new FactoryLookup(AdapterFactory::getReferenceAdapterType);
+  private final FactoryLookup propertyFactories = new FactoryLookup(AdapterFactory::getPropertyAdapterType);
+  private final FactoryLookup methodFactories = new FactoryLookup(AdapterFactory::getMethodAdapterType);
+
+  private final AdapterContext context;
+  private final ConcurrentMap<AdapterFactory, Adapter> adapters = new ConcurrentHashMap<>();
+
+  AdapterRegistry(AdapterContext context) {
+    this.context = context;
+  }
+
+  /**
+   * Get the discovered {@link AdapterFactory} instances, in discovery order.
+   *
+   * @return an unmodifiable list of factories.
+   */
+  public static List<AdapterFactory> getFactories() {
+    List<AdapterFactory> result = factories;
+    if (result == null) {
+      synchronized (AdapterRegistry.class) {
+        result = factories;
+        if (result == null) {
+          List<AdapterFactory> discovered = new ArrayList<>();
+          for (AdapterFactory factory : ServiceLoader.load(AdapterFactory.class, Adapter.class.getClassLoader())) {
+            discovered.add(factory);
+          }
+          result = Collections.unmodifiableList(discovered);
+          factories = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  public <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForType(Class type) {
+    return getAdapter(typeFactories.get(type));
+  }
+
+  public <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForReference(Class type) {
+    return getAdapter(referenceFactories.get(type));
+  }
+
+  public <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForProperty(Class type) {
+    return getAdapter(propertyFactories.get(type));
+  }
+
+  public <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForMethod(Class type) {
+    return getAdapter(methodFactories.get(type));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapter(Optional<AdapterFactory> factory) {
+    return factory.map(f -> (Adapter<T, R, P, M>) getAdapter(f));
+  }
+
+  private Adapter getAdapter(AdapterFactory factory) {
+    Adapter adapter = adapters.get(factory);
+    if (adapter != null) {
+      return adapter;
+    }
+    //Factories may use adapters themselves, so don't create the adapter while holding a lock on the map.
+    adapter = factory.create(context);
+    Adapter existing = adapters.putIfAbsent(factory, adapter);
+    return existing != null ? existing : adapter;
+  }
+
+  /**
+   * Finds the first factory that supports a class, for one of the adapter kinds.
+   */
+  private static final class FactoryLookup {
+
+    private final Function<AdapterFactory, Class> supportedType;
+    private final ConcurrentMap<Class, Optional<AdapterFactory>> factories = new ConcurrentHashMap<>();
+
+    private FactoryLookup(Function<AdapterFactory, Class> supportedType) {
+      this.supportedType = supportedType;
+    }
+
+    private Optional<AdapterFactory> get(Class type) {
+      return factories.computeIfAbsent(type, this::find);
+    }
+
+    private Optional<AdapterFactory> find(Class type) {
+      for (AdapterFactory factory : getFactories()) {
+        Class supported = supportedType.apply(factory);
+        if (supported != null && supported.isAssignableFrom(type)) {
+          return Optional.of(factory);
+        }
+      }
+      return Optional.empty();
+    }
+  }
+}
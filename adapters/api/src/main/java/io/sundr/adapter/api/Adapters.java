@@ -18,8 +18,6 @@
 package io.sundr.adapter.api;
 
 import java.util.Optional;
-import java.util.ServiceLoader;
-import java.util.stream.StreamSupport;
 
 import io.sundr.model.Method;
 import io.sundr.model.Property;
@@ -60,40 +58,20 @@ public class Adapters {
         .orElseThrow(() -> new IllegalStateException("No adapter found for method: " + input.getClass()));
   }
 
-  @SuppressWarnings("unchecked")
   public static <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForType(Class type, AdapterContextAware ctx) {
-    return StreamSupport.stream(ServiceLoader.load(AdapterFactory.class, Adapter.class.getClassLoader()).spliterator(), false)
-        .filter(f -> f.getTypeAdapterType() != null)
-        .filter(f -> f.getTypeAdapterType().isAssignableFrom(type))
-        .map(f -> (Adapter<T, R, P, M>) f.create(ctx.getAdapterContext()))
-        .findFirst();
+    return ctx.getAdapterContext().getAdapterRegistry().getAdapterForType(type);
   }
 
-  @SuppressWarnings("unchecked")
   public static <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForReference(Class type, AdapterContextAware ctx) {
-    return StreamSupport.stream(ServiceLoader.load(AdapterFactory.class, Adapter.class.getClassLoader()).spliterator(), false)
-        .filter(f -> f.getReferenceAdapterType() != null)
-        .filter(f -> f.getReferenceAdapterType().isAssignableFrom(type))
-        .map(f -> (Adapter<T, R, P, M>) f.create(ctx.getAdapterContext()))
-        .findFirst();
+    return ctx.getAdapterContext().getAdapterRegistry().getAdapterForReference(type);
   }
 
-  @SuppressWarnings("unchecked")
   public static <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForProperty(Class type, AdapterContextAware ctx) {
-    return StreamSupport.stream(ServiceLoader.load(AdapterFactory.class, Adapter.class.getClassLoader()).spliterator(), false)
-        .filter(f -> f.getPropertyAdapterType() != null)
-        .filter(f -> f.getPropertyAdapterType().isAssignableFrom(type))
-        .map(f -> (Adapter<T, R, P, M>) f.create(ctx.getAdapterContext()))
-        .findFirst();
+    return ctx.getAdapterContext().getAdapterRegistry().getAdapterForProperty(type);
   }
 
-  @SuppressWarnings("unchecked")
   public static <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForMethod(Class type, AdapterContextAware ctx) {
-    return StreamSupport.stream(ServiceLoader.load(AdapterFactory.class, Adapter.class.getClassLoader()).spliterator(), false)
-        .filter(f -> f.getMethodAdapterType() != null)
-        .filter(f -> f.getMethodAdapterType().isAssignableFrom(type))
-        .map(f -> (Adapter<T, R, P, M>) f.create(ctx.getAdapterContext()))
-        .findFirst();
+    return ctx.getAdapterContext().getAdapterRegistry().getAdapterForMethod(type);
   }
 
   public static WithContext withContext(AdapterContext ctx) {
@@ -18,21 +18,24 @@
 package io.sundr.adapter.api;
 
 import java.util.Optional;
-import java.util.ServiceLoader;
-import java.util.stream.StreamSupport;
 
 import io.sundr.model.TypeDef;
 
 public interface TypeLookup<T> {
 
+  int DEFAULT_PRIORITY = 1000;
+
   public static Optional<TypeDef> lookup(String fullyQualifiedName, AdapterContextAware context) {
-    return StreamSupport.stream(ServiceLoader.load(TypeLookup.class, TypeLookup.class.getClassLoader()).spliterator(), false)
-        .filter(TypeLookup::isAvailable)
-        .map(l -> l.forName(fullyQualifiedName))
-        .filter(Optional::isPresent)
-        .map(Optional::get)
-        .map(t -> Adapters.adaptType(t, context))
-        .findFirst();
+    return context.getAdapterContext().getTypeLookupChain().lookup(fullyQualifiedName);
+  }
+
+  /**
+   * The priority of the lookup. Lookups with lower values are tried first.
+   *
+   * @return the priority.
+   */
+  default int getPriority() {
+    return DEFAULT_PRIORITY;
   }
 
   /**
@@ -0,0 +1,175 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.sundr.model.TypeDef;
+
+/**
+ * The chain of {@link TypeLookup} services used by an {@link AdapterContext}.
+ *
+ * Lookups are discovered once (per class loader of the adapter api) and are tried in the order of their
+ * {@link TypeLookup#getPriority() priority}. The outcome of each lookup, including misses, is cached per context, so
+ * that each name is only looked up once. As a type may become available later (e.g. when it is generated), a miss is
+ * dropped once a definition with that name is registered to the repository, and all misses are dropped by
+ * {@link #clear()} (e.g. when a new processing round begins).
+ */
+public class TypeLookupChain {
+
+  private static volatile List<TypeLookup> lookups;
+
+  private final AdapterContextAware context;
+  private final ConcurrentMap<String, TypeDef> cache = new ConcurrentHashMap<>();
+  private final Set<String> misses = ConcurrentHashMap.newKeySet();
+  private final ConcurrentMap<TypeLookup, Statistics> statistics = new ConcurrentHashMap<>();
+
+  TypeLookupChain(AdapterContextAware context) {
+    this.context = context;
+  }
+
+  /**
+   * Get the discovered {@link TypeLookup} instances, ordered by priority.
+   *
+   * @return an unmodifiable list of lookups.
+   */
+  public static List<TypeLookup> getLookups() {
+    List<TypeLookup> result = lookups;
+    if (result == null) {
+      synchronized (TypeLookupChain.class) {
+        result = lookups;
+        if (result == null) {
+          List<TypeLookup> discovered = new ArrayList<>();
+          for (TypeLookup lookup : ServiceLoader.load(TypeLookup.class, TypeLookup.class.getClassLoader())) {
+            discovered.add(lookup);
+          }
+          //The sort is stable, so lookups with the same priority retain the discovery order.
+          discovered.sort(Comparator.comparingInt(TypeLookup::getPriority));
+          result = Collections.unmodifiableList(discovered);
+          lookups = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Lookup the definition of the specified type.
+   *
+   * @param fullyQualifiedName the fully qualified name of the type.
+   * @return the definition if found, empty otherwise.
+   */
+  public Optional<TypeDef> lookup(String fullyQualifiedName) {
+    TypeDef cached = cache.get(fullyQualifiedName);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    if (misses.contains(fullyQualifiedName)) {
+      if (!context.getAdapterContext().getDefinitionRepository().hasDefinition(fullyQualifiedName)) {
+        return Optional.empty();
+      }
+      //A definition has been registered since, so the lookups may now find the type.
+      misses.remove(fullyQualifiedName);
+    }
+    //Adapting a type may perform nested lookups, so don't hold a lock on the cache while looking up.
+    for (TypeLookup lookup : getLookups()) {
+      if (!lookup.isAvailable()) {
+        continue;
+      }
+      Statistics stats = statistics.computeIfAbsent(lookup, l -> new Statistics(l.getClass().getName()));
+      long start = System.nanoTime();
+      Optional<?> found = lookup.forName(fullyQualifiedName);
+      stats.record(found.isPresent(), System.nanoTime() - start);
+      if (found.isPresent()) {
+        TypeDef result = Adapters.adaptType(found.get(), context);
+        TypeDef existing = cache.putIfAbsent(fullyQualifiedName, result);
+        return Optional.of(existing != null ? existing : result);
+      }
+    }
+    misses.add(fullyQualifiedName);
+    return Optional.empty();
+  }
+
+  /**
+   * Get the statistics of each lookup, in the order the lookups are tried.
+   *
+   * @return the statistics.
+   */
+  public List<Statistics> getStatistics() {
+    List<Statistics> result = new ArrayList<>();
+    for (TypeLookup lookup : getLookups()) {
+      result.add(statistics.computeIfAbsent(lookup, l -> new Statistics(l.getClass().getName())));
+    }
+    return result;
+  }
+
+  /**
+   * Clear the cached outcomes, so that all types are looked up again.
+   */
+  public void clear() {
+    cache.clear();
+    misses.clear();
+  }
+
+  public static class Statistics {
+
+    private final String name;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    private Statistics(String name) {
+      this.name = name;
+    }
+
+    private void record(boolean hit, long elapsed) {
+      (hit ? hits : misses).increment();
+      nanos.add(elapsed);
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public long getHits() {
+      return hits.sum();
+    }
+
+    public long getMisses() {
+      return misses.sum();
+    }
+
+    public long getNanos() {
+      return nanos.sum();
+    }
+
+    @Override
+    public String toString() {
+      return name + " [hits=" + getHits() + ", misses=" + getMisses() + ", time=" + getNanos() / 1000000 + "ms]";
+    }
+  }
+}
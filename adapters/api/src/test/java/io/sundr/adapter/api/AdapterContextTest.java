@@ -0,0 +1,49 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.api;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import io.sundr.model.repo.DefinitionRepository;
+
+public class AdapterContextTest {
+
+  @Test
+  public void shouldScopeContextAndRepository() throws Exception {
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    AdapterContext context = AdapterContext.create(repository);
+    assertSame(context, AdapterContext.getContext());
+
+    AdapterContext other = AdapterContext.create(DefinitionRepository.createRepository());
+    context.call(() -> {
+      assertSame(context, AdapterContext.getContext());
+      assertSame(repository, DefinitionRepository.getRepository());
+
+      AdapterContext created = AdapterContext.create(repository);
+      assertNotSame(context, created);
+      assertSame(created, AdapterContext.getContext());
+      return null;
+    });
+
+    assertSame(other, AdapterContext.getContext());
+    assertNotSame(repository, DefinitionRepository.getRepository());
+  }
+}
@@ -54,6 +54,17 @@ public class AnnotationMirrorToAnnotationRef implements Function<AnnotationMirro
 
   @Override
   public AnnotationRef apply(AnnotationMirror item) {
+    String key = AptContext.keyOf(item);
+    AnnotationRef cached = context.getAnnotationRef(key);
+    if (cached != null) {
+      return cached;
+    }
+    AnnotationRef result = convert(item);
+    context.putAnnotationRef(key, result);
+    return result;
+  }
+
+  private AnnotationRef convert(AnnotationMirror item) {
     TypeRef annotationType = item.getAnnotationType().accept(new TypeRefTypeVisitor(context), 0);
     Map<String, Object> parameters = new HashMap<String, Object>();
     if (annotationType instanceof ClassRef) {
@@ -16,37 +16,65 @@
 
 package io.sundr.adapter.apt;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 
 import io.sundr.adapter.api.AdapterContext;
 import io.sundr.adapter.api.AdapterContextAware;
+import io.sundr.model.AnnotationRef;
 import io.sundr.model.AttributeKey;
 import io.sundr.model.AttributeSupport;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeRef;
 import io.sundr.model.repo.DefinitionRepository;
 
 public class AptContext extends AttributeSupport implements AdapterContextAware {
 
   private static final AttributeKey<Types> TYPES_KEY = new AttributeKey<>(Types.class);
   private static final AttributeKey<Elements> ELEMENTS_KEY = new AttributeKey<>(Elements.class);
+  /**
+   * The maximum number of reference hops that deep adaptation will follow from the adapted element.
+   * A value of zero only adapts the element itself, no value means unlimited.
+   */
+  public static final AttributeKey<Integer> REFERENCE_DEPTH = new AttributeKey<>("REFERENCE_DEPTH", Integer.class);
+
   private static AptContext INSTANCE;
 
   private final AdapterContext adapterContext;
   private final Set<TypeElement> references = new HashSet<>();
 
+  // Conversion caches, only valid while the underlying javac round is.
+  private final Map<String, TypeRef> typeRefs = new HashMap<>();
+  private final Map<String, TypeDef> typeDefs = new HashMap<>();
+  private final Map<String, Set<TypeElement>> typeDefReferences = new HashMap<>();
+  private final Map<String, Integer> typeDefDepths = new HashMap<>();
+  private final Map<String, AnnotationRef> annotationRefs = new HashMap<>();
+  private RoundEnvironment round;
+
   private AptContext(Elements elements, Types types, DefinitionRepository repository) {
-    super(createAttributes(elements, types));
+    this(elements, types, repository, new HashMap<>());
+  }
+
+  private AptContext(Elements elements, Types types, DefinitionRepository repository,
+      Map<AttributeKey, Object> attributes) {
+    super(createAttributes(elements, types, attributes));
     this.adapterContext = AdapterContext.create(repository, getAttributes());
   }
 
-  private static Map<AttributeKey, Object> createAttributes(Elements elements, Types types) {
-    Map<AttributeKey, Object> attributes = new HashMap<>();
+  private static Map<AttributeKey, Object> createAttributes(Elements elements, Types types,
+      Map<AttributeKey, Object> extra) {
+    Map<AttributeKey, Object> attributes = new HashMap<>(extra);
     if (elements == null) {
       throw new NullPointerException("Elements cannot be null!");
     }
@@ -59,6 +87,10 @@ public class AptContext extends AttributeSupport implements AdapterContextAware
   }
 
   public synchronized static AptContext create(AdapterContext adapterContext) {
+    if (INSTANCE != null && INSTANCE.adapterContext == adapterContext) {
+      //The adapter context is owned by the current instance, so let's share it (and its caches).
+      return INSTANCE;
+    }
     Types types = adapterContext.getAttribute(TYPES_KEY);
     Elements elements = adapterContext.getAttribute(ELEMENTS_KEY);
 
@@ -76,7 +108,8 @@ public class AptContext extends AttributeSupport implements AdapterContextAware
       }
     }
 
-    INSTANCE = new AptContext(elements, types, adapterContext.getDefinitionRepository());
+    INSTANCE = new AptContext(elements, types, adapterContext.getDefinitionRepository(),
+        adapterContext.getAttributes());
     return INSTANCE;
   }
 
@@ -109,6 +142,11 @@ public class AptContext extends AttributeSupport implements AdapterContextAware
     return true;
   }
 
+  public int getReferenceDepth() {
+    Integer depth = getAttribute(REFERENCE_DEPTH);
+    return depth != null && depth >= 0 ? depth : Integer.MAX_VALUE;
+  }
+
   public AdapterContext getAdapterContext() {
     return adapterContext;
   }
@@ -126,4 +164,110 @@ public class AptContext extends AttributeSupport implements AdapterContextAware
       this.references.add(element);
     }
   }
+
+  /**
+   * Returns the canonical key of a {@link TypeMirror} or null if the mirror should not be cached.
+   * Error types are excluded as they may resolve once the types that are missing get generated.
+   */
+  static String keyOf(TypeMirror mirror) {
+    if (mirror == null || mirror.getKind() == TypeKind.ERROR) {
+      return null;
+    }
+    return mirror.getKind() + ":" + mirror;
+  }
+
+  static String keyOf(AnnotationMirror mirror) {
+    if (mirror == null || mirror.getAnnotationType().getKind() == TypeKind.ERROR) {
+      return null;
+    }
+    return mirror.toString();
+  }
+
+  TypeRef getTypeRef(String key) {
+    return key != null ? typeRefs.get(key) : null;
+  }
+
+  void putTypeRef(String key, TypeRef typeRef) {
+    if (key != null && typeRef != null) {
+      typeRefs.put(key, typeRef);
+    }
+  }
+
+  TypeDef getTypeDef(String fqcn) {
+    return typeDefs.get(fqcn);
+  }
+
+  void putTypeDef(String fqcn, TypeDef typeDef, Set<TypeElement> references) {
+    if (typeDef != null) {
+      typeDefs.put(fqcn, typeDef);
+      typeDefReferences.put(fqcn, references);
+    }
+  }
+
+  /**
+   * Returns the elements that were referenced when the definition was adapted.
+   */
+  Set<TypeElement> getTypeDefReferences(String fqcn) {
+    return typeDefReferences.getOrDefault(fqcn, Collections.emptySet());
+  }
+
+  /**
+   * Records that the definition is needed at the specified reference depth.
+   *
+   * @return true if the depth is closer to the adapted element than any depth the definition was needed at so far.
+   */
+  boolean requestDepth(String fqcn, int depth) {
+    Integer current = typeDefDepths.get(fqcn);
+    if (current != null && current <= depth) {
+      return false;
+    }
+    typeDefDepths.put(fqcn, depth);
+    return true;
+  }
+
+  /**
+   * Returns the smallest reference depth the definition was needed at.
+   */
+  int getRequestedDepth(String fqcn) {
+    return typeDefDepths.getOrDefault(fqcn, Integer.MAX_VALUE);
+  }
+
+  AnnotationRef getAnnotationRef(String key) {
+    return key != null ? annotationRefs.get(key) : null;
+  }
+
+  void putAnnotationRef(String key, AnnotationRef annotationRef) {
+    if (key != null && annotationRef != null) {
+      annotationRefs.put(key, annotationRef);
+    }
+  }
+
+  /**
+   * Binds the context to the specified round. When a new round begins, the caches of the previous one, including the
+   * outcomes of the type lookups, are dropped, so that a single context can be shared by all the elements and
+   * processors of a round.
+   *
+   * @param env the environment of the round
+   * @return the context
+   */
+  public synchronized AptContext forRound(RoundEnvironment env) {
+    if (round != env) {
+      clearCaches();
+      references.clear();
+      getAdapterContext().getTypeLookupChain().clear();
+      round = env;
+    }
+    return this;
+  }
+
+  /**
+   * Drops all memoized conversions. Needs to be called whenever the mirrors of the previous round are no longer valid.
+   */
+  public void clearCaches() {
+    typeRefs.clear();
+    typeDefs.clear();
+    typeDefReferences.clear();
+    typeDefDepths.clear();
+    annotationRefs.clear();
+  }
 }
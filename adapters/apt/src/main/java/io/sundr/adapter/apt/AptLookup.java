@@ -25,6 +25,11 @@ import io.sundr.adapter.api.TypeLookup;
 
 public class AptLookup implements TypeLookup<TypeElement> {
 
+  @Override
+  public int getPriority() {
+    return 100;
+  }
+
   @Override
   public boolean isAvailable() {
     try {
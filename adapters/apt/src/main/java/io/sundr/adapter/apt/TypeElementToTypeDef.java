@@ -51,6 +51,8 @@ import io.sundr.model.TypeDef;
 import io.sundr.model.TypeDefBuilder;
 import io.sundr.model.TypeParamDef;
 import io.sundr.model.TypeRef;
+import io.sundr.utils.Profiler;
+import io.sundr.utils.Profiler.Phase;
 import io.sundr.utils.Strings;
 
 public class TypeElementToTypeDef implements Function<TypeElement, TypeDef> {
@@ -86,22 +88,55 @@ public class TypeElementToTypeDef implements Function<TypeElement, TypeDef> {
 
   @Override
   public TypeDef apply(TypeElement classElement) {
-    TypeDef result = buildAndRegister(classElement);
-
-    //Also register other types
-    if (context.isDeep()) {
-      context.getReferences().stream()
-          .filter(t -> !t.toString().startsWith("sun.") && !t.toString().startsWith("com.sun."))
-          .forEach(t -> {
-            String fqcn = t.toString();
-            context.getDefinitionRepository().registerIfAbsent(fqcn, () -> apply(t));
-          });
-      context.getReferences().clear();
+    return Profiler.profile(Phase.ADAPT, () -> adapt(classElement, 0));
+  }
+
+  private TypeDef adapt(TypeElement classElement, int depth) {
+    String name = classElement.toString();
+    TypeDef result = context.getTypeDef(name);
+    if (result != null) {
+      //When requested closer to the adapted element than before, references that were out of reach may be within it.
+      if (context.requestDepth(name, depth)) {
+        registerReferences(context.getTypeDefReferences(name), depth);
+      }
+      //The repository may hold a newer version of the definition (e.g. registered by a processor).
+      TypeDef current = context.getDefinitionRepository().getDefinition(name, false);
+      return current != null ? current : result;
     }
 
+    //The definition may have been requested at a smaller depth since its supplier was registered.
+    context.requestDepth(name, depth);
+    int effectiveDepth = context.getRequestedDepth(name);
+
+    result = buildAndRegister(classElement);
+    Set<TypeElement> references = new LinkedHashSet<>(context.getReferences());
+    context.getReferences().clear();
+    context.putTypeDef(name, result, references);
+    registerReferences(references, effectiveDepth);
     return result;
   }
 
+  /**
+   * Registers the referenced types, as long as we are within the configured reference depth.
+   */
+  private void registerReferences(Set<TypeElement> references, int depth) {
+    if (!context.isDeep() || depth >= context.getReferenceDepth()) {
+      return;
+    }
+    references.stream()
+        .filter(t -> !t.toString().startsWith("sun.") && !t.toString().startsWith("com.sun."))
+        .forEach(t -> {
+          String fqcn = t.toString();
+          if (context.getTypeDef(fqcn) != null) {
+            adapt(t, depth + 1);
+          } else {
+            context.requestDepth(fqcn, depth + 1);
+            context.getDefinitionRepository().registerIfAbsent(fqcn,
+                () -> Profiler.profile(Phase.ADAPT, () -> adapt(t, depth + 1)));
+          }
+        });
+  }
+
   private TypeDef buildAndRegister(TypeElement classElement) {
     TypeDef existing = context.getDefinitionRepository().getDefinition(classElement.toString(), false);
     if (existing != null) {
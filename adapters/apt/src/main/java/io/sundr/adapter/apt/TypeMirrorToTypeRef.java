@@ -21,6 +21,8 @@ import java.util.function.Function;
 
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.NoType;
 import javax.lang.model.type.TypeMirror;
 
@@ -28,6 +30,7 @@ import io.sundr.adapter.apt.visitors.TypeRefTypeVisitor;
 import io.sundr.model.ClassRef;
 import io.sundr.model.ClassRefBuilder;
 import io.sundr.model.TypeRef;
+import io.sundr.model.TypeRefPool;
 import io.sundr.model.VoidRef;
 
 public class TypeMirrorToTypeRef implements Function<TypeMirror, TypeRef> {
@@ -49,13 +52,41 @@ public class TypeMirrorToTypeRef implements Function<TypeMirror, TypeRef> {
     }
 
     Element element = AptContext.getContext().getTypes().asElement(item);
+    String key = AptContext.keyOf(item);
+    TypeRef cached = context.getTypeRef(key);
+    if (cached != null) {
+      addReferences(item);
+      return cached;
+    }
+
+    TypeRef result = convert(item, element);
+    context.putTypeRef(key, result);
+    return result;
+  }
+
+  /**
+   * Adds the elements that converting the mirror would reference, i.e. the declared type and its type arguments.
+   */
+  private void addReferences(TypeMirror item) {
+    if (item instanceof ArrayType) {
+      addReferences(((ArrayType) item).getComponentType());
+    } else if (item instanceof DeclaredType) {
+      DeclaredType declaredType = (DeclaredType) item;
+      for (TypeMirror argument : declaredType.getTypeArguments()) {
+        addReferences(argument);
+      }
+      context.addReference((TypeElement) declaredType.asElement());
+    }
+  }
+
+  private TypeRef convert(TypeMirror item, Element element) {
     TypeRef typeRef = item.accept(new TypeRefTypeVisitor(context), 0);
     if (typeRef instanceof ClassRef && element instanceof TypeElement) {
       TypeElement typeElement = (TypeElement) element;
       String fqcn = typeElement.toString();
       context.addReference(typeElement);
-      return new ClassRefBuilder((ClassRef) typeRef).withFullyQualifiedName(fqcn).build();
+      return TypeRefPool.intern(new ClassRefBuilder((ClassRef) typeRef).withFullyQualifiedName(fqcn).build());
     }
-    return typeRef;
+    return TypeRefPool.intern(typeRef);
   }
 }
@@ -0,0 +1,174 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.apt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.testing.compile.CompilationRule;
+
+import io.sundr.adapter.api.AdapterContext;
+import io.sundr.adapter.api.TypeLookupChain;
+import io.sundr.model.AttributeKey;
+import io.sundr.model.TypeRef;
+import io.sundr.model.repo.DefinitionRepository;
+
+public class AptContextTest {
+
+  public @Rule CompilationRule rule = new CompilationRule();
+
+  private Elements elements;
+  private Types types;
+
+  @Before
+  public void setup() {
+    elements = rule.getElements();
+    types = rule.getTypes();
+  }
+
+  @Test
+  public void shouldMemoizeReferences() {
+    AptContext context = AptContext.create(elements, types, DefinitionRepository.createRepository());
+    AptAdapter adapter = new AptAdapter(context.getAdapterContext());
+    TypeElement optional = elements.getTypeElement(Optional.class.getName());
+
+    TypeRef first = adapter.getReferenceAdapterFunction().apply(optional.asType());
+    TypeRef second = adapter.getReferenceAdapterFunction()
+        .apply(elements.getTypeElement(Optional.class.getName()).asType());
+    assertSame(first, second);
+
+    context.clearCaches();
+    TypeRef third = adapter.getReferenceAdapterFunction().apply(optional.asType());
+    assertEquals(first, third);
+    assertSame(third, adapter.getReferenceAdapterFunction().apply(optional.asType()));
+  }
+
+  @Test
+  public void shouldShareContextWithinRound() {
+    AptContext context = AptContext.create(elements, types, DefinitionRepository.createRepository());
+    assertSame(context, AptContext.create(context.getAdapterContext()));
+
+    AptAdapter adapter = new AptAdapter(context.getAdapterContext());
+    TypeElement optional = elements.getTypeElement(Optional.class.getName());
+    TypeRef first = adapter.getReferenceAdapterFunction().apply(optional.asType());
+
+    String key = AptContext.keyOf(optional.asType());
+    assertSame(first, context.getTypeRef(key));
+
+    RoundEnvironment round = (RoundEnvironment) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class[] { RoundEnvironment.class }, (proxy, method, args) -> null);
+    assertSame(context, context.forRound(round));
+    assertNull(context.getTypeRef(key));
+
+    TypeRef second = adapter.getReferenceAdapterFunction().apply(optional.asType());
+    assertSame(second, context.forRound(round).getTypeRef(key));
+  }
+
+  @Test
+  public void shouldLookupTypesAgainInNewRound() {
+    AptContext context = AptContext.create(elements, types, DefinitionRepository.createRepository());
+    TypeLookupChain chain = context.getAdapterContext().getTypeLookupChain();
+    assertTrue(chain.lookup(Optional.class.getName()).isPresent());
+    long hits = hits(chain);
+    assertTrue(chain.lookup(Optional.class.getName()).isPresent());
+    assertEquals(hits, hits(chain));
+
+    RoundEnvironment round = (RoundEnvironment) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class[] { RoundEnvironment.class }, (proxy, method, args) -> null);
+    context.forRound(round);
+    assertTrue(chain.lookup(Optional.class.getName()).isPresent());
+    assertTrue(hits(chain) > hits);
+  }
+
+  private static long hits(TypeLookupChain chain) {
+    return chain.getStatistics().stream().mapToLong(TypeLookupChain.Statistics::getHits).sum();
+  }
+
+  @Test
+  public void shouldFollowReferencesByDefault() {
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    AptContext.create(elements, types, repository);
+    AptAdapter adapter = new AptAdapter(AdapterContext.create(repository));
+
+    adapter.getTypeAdapterFunction().apply(elements.getTypeElement(Optional.class.getName()));
+    assertTrue(repository.hasDefinition(Optional.class.getName()));
+    assertTrue(repository.hasDefinition(Stream.class.getName()));
+  }
+
+  @Test
+  public void shouldRespectReferenceDepth() {
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    AptContext.create(elements, types, repository);
+    Map<AttributeKey, Object> attributes = new HashMap<>();
+    attributes.put(AptContext.REFERENCE_DEPTH, 0);
+    AptAdapter adapter = new AptAdapter(AdapterContext.create(repository, attributes));
+
+    adapter.getTypeAdapterFunction().apply(elements.getTypeElement(Optional.class.getName()));
+    assertTrue(repository.hasDefinition(Optional.class.getName()));
+    assertFalse(repository.hasDefinition(Stream.class.getName()));
+  }
+
+  @Test
+  public void shouldTrackClosestRequestedDepth() {
+    AptContext context = AptContext.create(elements, types, DefinitionRepository.createRepository());
+    String name = Stream.class.getName();
+    assertEquals(Integer.MAX_VALUE, context.getRequestedDepth(name));
+    assertTrue(context.requestDepth(name, 2));
+    assertFalse(context.requestDepth(name, 3));
+    assertFalse(context.requestDepth(name, 2));
+    assertTrue(context.requestDepth(name, 1));
+    assertEquals(1, context.getRequestedDepth(name));
+
+    context.clearCaches();
+    assertEquals(Integer.MAX_VALUE, context.getRequestedDepth(name));
+  }
+
+  @Test
+  public void shouldReferenceTypeArgumentsOfMemoizedReferences() {
+    AptContext context = AptContext.create(elements, types, DefinitionRepository.createRepository());
+    AptAdapter adapter = new AptAdapter(context.getAdapterContext());
+    TypeElement optional = elements.getTypeElement(Optional.class.getName());
+    TypeElement string = elements.getTypeElement(String.class.getName());
+    DeclaredType optionalOfString = types.getDeclaredType(optional, string.asType());
+
+    adapter.getReferenceAdapterFunction().apply(optionalOfString);
+    context.getReferences().clear();
+    adapter.getReferenceAdapterFunction().apply(optionalOfString);
+    assertTrue(context.getReferences().contains(optional));
+    assertTrue(context.getReferences().contains(string));
+  }
+}
@@ -0,0 +1,52 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.classfile;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * An annotation as found in a class file.
+ *
+ * Values are kept as they are found in the class file: constants are boxed, class literals are {@link TypeSignature}
+ * instances, enum constants are their names, nested annotations are {@link AnnotationInfo} instances and arrays are
+ * lists.
+ */
+public class AnnotationInfo {
+
+  private final TypeSignature type;
+  private final Map<String, Object> values;
+
+  public AnnotationInfo(TypeSignature type, Map<String, Object> values) {
+    this.type = type;
+    this.values = values != null ? Collections.unmodifiableMap(values) : Collections.emptyMap();
+  }
+
+  public TypeSignature getType() {
+    return type;
+  }
+
+  public Map<String, Object> getValues() {
+    return values;
+  }
+
+  @Override
+  public String toString() {
+    return "@" + type + values;
+  }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.classfile;
+
+import java.lang.reflect.Array;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import io.sundr.model.AnnotationRef;
+import io.sundr.model.AnnotationRefBuilder;
+import io.sundr.model.ClassRef;
+import io.sundr.model.TypeRef;
+
+public class AnnotationInfoToAnnotationRef implements Function<AnnotationInfo, AnnotationRef> {
+
+  private final Function<TypeSignature, TypeRef> typeSignatureToTypeRef;
+
+  public AnnotationInfoToAnnotationRef(Function<TypeSignature, TypeRef> typeSignatureToTypeRef) {
+    this.typeSignatureToTypeRef = typeSignatureToTypeRef;
+  }
+
+  @Override
+  public AnnotationRef apply(AnnotationInfo item) {
+    TypeRef annotationType = typeSignatureToTypeRef.apply(item.getType());
+    if (!(annotationType instanceof ClassRef)) {
+      throw new IllegalStateException("Annotation type: [" + annotationType + "] is not a class reference.");
+    }
+    Map<String, Object> parameters = new HashMap<>();
+    for (Map.Entry<String, Object> entry : item.getValues().entrySet()) {
+      parameters.put(entry.getKey(), mapValue(entry.getValue()));
+    }
+    return new AnnotationRefBuilder().withClassRef((ClassRef) annotationType).withParameters(parameters).build();
+  }
+
+  /**
+   * Maps a value found in a class file to its model representation.
+   *
+   * @param value the value.
+   * @return the mapped value.
+   */
+  public Object mapValue(Object value) {
+    if (value instanceof List) {
+      return toArray((List<Object>) ((List) value).stream().map(this::mapValue).collect(Collectors.toList()));
+    } else if (value instanceof AnnotationInfo) {
+      return apply((AnnotationInfo) value);
+    } else if (value instanceof TypeSignature) {
+      return typeSignatureToTypeRef.apply((TypeSignature) value);
+    } else {
+      return value;
+    }
+  }
+
+  /**
+   * Convert the specified {@link List} into an array, using primitive arrays for boxed values.
+   *
+   * @return an {@link Object} instance that holds the array, or null if the list is empty.
+   */
+  private static Object toArray(List<Object> list) {
+    if (list.isEmpty()) {
+      return null;
+    }
+    Class type = list.get(0).getClass();
+    for (Object item : list) {
+      if (!type.isInstance(item)) {
+        type = Object.class;
+        break;
+      }
+    }
+    Object result = Array.newInstance(toPrimitive(type), list.size());
+    for (int i = 0; i < list.size(); i++) {
+      Array.set(result, i, list.get(i));
+    }
+    return result;
+  }
+
+  private static Class toPrimitive(Class type) {
+    if (Boolean.class.equals(type)) {
+      return boolean.class;
+    } else if (Byte.class.equals(type)) {
+      return byte.class;
+    } else if (Character.class.equals(type)) {
+      return char.class;
+    } else if (Short.class.equals(type)) {
+      return short.class;
+    } else if (Integer.class.equals(type)) {
+      return int.class;
+    } else if (Long.class.equals(type)) {
+      return long.class;
+    } else if (Float.class.equals(type)) {
+      return float.class;
+    } else if (Double.class.equals(type)) {
+      return double.class;
+    }
+    return type;
+  }
+}
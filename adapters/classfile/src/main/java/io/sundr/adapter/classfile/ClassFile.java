@@ -0,0 +1,251 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.classfile;
+
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * A class as found in a class file.
+ *
+ * Names are kept in their internal form (e.g. {@code java/util/Map$Entry}), as found in the class file.
+ */
+public class ClassFile {
+
+  static final int ACC_INTERFACE = 0x0200;
+  static final int ACC_SYNTHETIC = 0x1000;
+  static final int ACC_ANNOTATION = 0x2000;
+  static final int ACC_ENUM = 0x4000;
+
+  private final ClassPath classPath;
+  private final int accessFlags;
+  private final String name;
+  private final String superName;
+  private final List<String> interfaces;
+  private final String signature;
+  private final List<FieldInfo> fields;
+  private final List<MethodInfo> methods;
+  private final List<AnnotationInfo> annotations;
+  private final List<InnerClass> innerClasses;
+
+  public ClassFile(ClassPath classPath, int accessFlags, String name, String superName, List<String> interfaces,
+      String signature, List<FieldInfo> fields, List<MethodInfo> methods, List<AnnotationInfo> annotations,
+      List<InnerClass> innerClasses) {
+    this.classPath = classPath;
+    this.accessFlags = accessFlags;
+    this.name = name;
+    this.superName = superName;
+    this.interfaces = interfaces != null ? Collections.unmodifiableList(interfaces) : Collections.emptyList();
+    this.signature = signature;
+    this.fields = fields != null ? Collections.unmodifiableList(fields) : Collections.emptyList();
+    this.methods = methods != null ? Collections.unmodifiableList(methods) : Collections.emptyList();
+    this.annotations = annotations != null ? Collections.unmodifiableList(annotations) : Collections.emptyList();
+    this.innerClasses = innerClasses != null ? Collections.unmodifiableList(innerClasses) : Collections.emptyList();
+  }
+
+  /**
+   * Converts an internal name (e.g. {@code java/util/Map$Entry}) to a fully qualified name (e.g. {@code java.util.Map.Entry}).
+   *
+   * @param internalName the internal name.
+   * @return the fully qualified name.
+   */
+  public static String toFullyQualifiedName(String internalName) {
+    return internalName.replace('/', '.').replace('$', '.');
+  }
+
+  /**
+   * The class path the class file was read from.
+   *
+   * @return the class path, or null if the class file was not read from a class path.
+   */
+  public ClassPath getClassPath() {
+    return classPath;
+  }
+
+  public int getAccessFlags() {
+    return accessFlags;
+  }
+
+  /**
+   * The java language modifiers of the class.
+   * For member classes these are the modifiers found in the InnerClasses attribute, as they include static, private
+   * and protected.
+   *
+   * @return the modifiers.
+   */
+  public int getModifiers() {
+    int flags = getSelf().map(InnerClass::getAccessFlags).orElse(accessFlags);
+    return flags & Modifier.classModifiers();
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * The internal name of the super class.
+   *
+   * @return the name, or null for {@code java.lang.Object} and module descriptors.
+   */
+  public String getSuperName() {
+    return superName;
+  }
+
+  public List<String> getInterfaces() {
+    return interfaces;
+  }
+
+  /**
+   * The generic signature of the class.
+   *
+   * @return the signature, or null if the class has no generic parameters or super types.
+   */
+  public String getSignature() {
+    return signature;
+  }
+
+  public List<FieldInfo> getFields() {
+    return fields;
+  }
+
+  public List<MethodInfo> getMethods() {
+    return methods;
+  }
+
+  public List<AnnotationInfo> getAnnotations() {
+    return annotations;
+  }
+
+  public List<InnerClass> getInnerClasses() {
+    return innerClasses;
+  }
+
+  public String getFullyQualifiedName() {
+    return toFullyQualifiedName(name);
+  }
+
+  public String getPackageName() {
+    int index = name.lastIndexOf('/');
+    return index > 0 ? name.substring(0, index).replace('/', '.') : null;
+  }
+
+  public String getSimpleName() {
+    return getSelf().map(InnerClass::getSimpleName)
+        .orElseGet(() -> name.substring(name.lastIndexOf('/') + 1));
+  }
+
+  /**
+   * The internal name of the class that declares this class.
+   *
+   * @return the name, or null if this is not a member class.
+   */
+  public String getOuterName() {
+    return getSelf().map(InnerClass::getOuterName).orElse(null);
+  }
+
+  /**
+   * Checks if this is a member class that is not static, whose constructors take the outer instance as an argument.
+   *
+   * @return true if this is a non static member class.
+   */
+  public boolean isInner() {
+    return getSelf().filter(i -> i.getOuterName() != null && (i.getAccessFlags() & Modifier.STATIC) == 0).isPresent();
+  }
+
+  public boolean isInterface() {
+    return (accessFlags & ACC_INTERFACE) != 0;
+  }
+
+  public boolean isAnnotation() {
+    return (accessFlags & ACC_ANNOTATION) != 0;
+  }
+
+  public boolean isEnum() {
+    return (accessFlags & ACC_ENUM) != 0;
+  }
+
+  public boolean isSynthetic() {
+    return (accessFlags & ACC_SYNTHETIC) != 0;
+  }
+
+  /**
+   * The member classes declared by this class.
+   *
+   * @return the member classes.
+   */
+  public List<InnerClass> getDeclaredClasses() {
+    return innerClasses.stream().filter(i -> name.equals(i.getOuterName()) && i.getSimpleName() != null)
+        .collect(Collectors.toList());
+  }
+
+  private Optional<InnerClass> getSelf() {
+    return innerClasses.stream().filter(i -> name.equals(i.getName())).findFirst();
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+
+  /**
+   * An entry of the InnerClasses attribute.
+   */
+  public static class InnerClass {
+
+    private final String name;
+    private final String outerName;
+    private final String simpleName;
+    private final int accessFlags;
+
+    public InnerClass(String name, String outerName, String simpleName, int accessFlags) {
+      this.name = name;
+      this.outerName = outerName;
+      this.simpleName = simpleName;
+      this.accessFlags = accessFlags;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * The internal name of the declaring class.
+     *
+     * @return the name, or null for local and anonymous classes.
+     */
+    public String getOuterName() {
+      return outerName;
+    }
+
+    /**
+     * The simple name.
+     *
+     * @return the name, or null for anonymous classes.
+     */
+    public String getSimpleName() {
+      return simpleName;
+    }
+
+    public int getAccessFlags() {
+      return accessFlags;
+    }
+  }
+}
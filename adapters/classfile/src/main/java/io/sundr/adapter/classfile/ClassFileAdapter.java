@@ -0,0 +1,66 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.classfile;
+
+import java.util.function.Function;
+
+import io.sundr.adapter.api.Adapter;
+import io.sundr.adapter.api.AdapterContext;
+import io.sundr.model.Method;
+import io.sundr.model.Property;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeRef;
+
+public class ClassFileAdapter implements Adapter<ClassFile, TypeSignature, FieldInfo, MethodInfo> {
+
+  private final AdapterContext context;
+  private final Function<ClassFile, TypeDef> typeAdapterFunction;
+  private final Function<TypeSignature, TypeRef> referenceAdapterFunction;
+  private final Function<FieldInfo, Property> propertyAdapterFunction;
+  private final Function<MethodInfo, Method> methodAdapterFunction;
+
+  public ClassFileAdapter(AdapterContext context) {
+    this.context = context;
+    this.referenceAdapterFunction = new TypeSignatureToTypeRef();
+    AnnotationInfoToAnnotationRef annotationAdapterFunction = new AnnotationInfoToAnnotationRef(referenceAdapterFunction);
+    this.propertyAdapterFunction = new FieldInfoToProperty(referenceAdapterFunction, annotationAdapterFunction);
+    this.methodAdapterFunction = new MethodInfoToMethod(referenceAdapterFunction, annotationAdapterFunction);
+    this.typeAdapterFunction = new ClassFileToTypeDef(context, referenceAdapterFunction, annotationAdapterFunction,
+        propertyAdapterFunction, methodAdapterFunction);
+  }
+
+  @Override
+  public Function<ClassFile, TypeDef> getTypeAdapterFunction() {
+    return typeAdapterFunction;
+  }
+
+  @Override
+  public Function<TypeSignature, TypeRef> getReferenceAdapterFunction() {
+    return referenceAdapterFunction;
+  }
+
+  @Override
+  public Function<FieldInfo, Property> getPropertyAdapterFunction() {
+    return propertyAdapterFunction;
+  }
+
+  @Override
+  public Function<MethodInfo, Method> getMethodAdapterFunction() {
+    return methodAdapterFunction;
+  }
+}
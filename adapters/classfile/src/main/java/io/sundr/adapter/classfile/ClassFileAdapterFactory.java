@@ -0,0 +1,50 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.classfile;
+
+import io.sundr.adapter.api.Adapter;
+import io.sundr.adapter.api.AdapterContext;
+import io.sundr.adapter.api.AdapterFactory;
+
+public class ClassFileAdapterFactory implements AdapterFactory<ClassFile, TypeSignature, FieldInfo, MethodInfo> {
+
+  @Override
+  public Adapter<ClassFile, TypeSignature, FieldInfo, MethodInfo> create(AdapterContext ctx) {
+    return new ClassFileAdapter(ctx);
+  }
+
+  @Override
+  public Class<ClassFile> getTypeAdapterType() {
+    return ClassFile.class;
+  }
+
+  @Override
+  public Class<TypeSignature> getReferenceAdapterType() {
+    return TypeSignature.class;
+  }
+
+  @Override
+  public Class<MethodInfo> getMethodAdapterType() {
+    return MethodInfo.class;
+  }
+
+  @Override
+  public Class<FieldInfo> getPropertyAdapterType() {
+    return FieldInfo.class;
+  }
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.classfile;
+
+import java.util.Optional;
+
+import io.sundr.adapter.api.TypeLookup;
+import io.sundr.utils.ClassPathIndex;
+
+/**
+ * Looks up types in the class files of the default {@link ClassPath}.
+ * It's tried before reflection, as it neither loads nor initializes classes.
+ */
+public class ClassFileLookup implements TypeLookup<ClassFile> {
+
+  @Override
+  public int getPriority() {
+    return 150;
+  }
+
+  @Override
+  public Optional<ClassFile> forName(String fullyQualifiedName) {
+    try {
+      ClassPathIndex index = ClassPathIndex.getDefault();
+      if (index.isComplete()) {
+        return index.getBinaryName(fullyQualifiedName).flatMap(n -> ClassPath.getDefault().read(n.replace('.', '/')));
+      }
+      return ClassPath.getDefault().find(fullyQualifiedName);
+    } catch (Exception e) {
+      return Optional.empty();
+    }
+  }
+}
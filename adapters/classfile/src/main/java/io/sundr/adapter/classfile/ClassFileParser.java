@@ -0,0 +1,383 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.classfile;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A lightweight class file parser.
+ *
+ * Only the parts of the class file that are needed for adaptation are read: the constant pool, the class header, the
+ * fields, the methods and the attributes that carry signatures, exceptions, parameter names, annotations, parameter
+ * annotations and inner classes. Code and all other attributes are skipped.
+ */
+public class ClassFileParser {
+
+  private static final int MAGIC = 0xCAFEBABE;
+
+  private static final int CONSTANT_UTF8 = 1;
+  private static final int CONSTANT_INTEGER = 3;
+  private static final int CONSTANT_FLOAT = 4;
+  private static final int CONSTANT_LONG = 5;
+  private static final int CONSTANT_DOUBLE = 6;
+  private static final int CONSTANT_CLASS = 7;
+  private static final int CONSTANT_STRING = 8;
+  private static final int CONSTANT_FIELDREF = 9;
+  private static final int CONSTANT_METHODREF = 10;
+  private static final int CONSTANT_INTERFACE_METHODREF = 11;
+  private static final int CONSTANT_NAME_AND_TYPE = 12;
+  private static final int CONSTANT_METHOD_HANDLE = 15;
+  private static final int CONSTANT_METHOD_TYPE = 16;
+  private static final int CONSTANT_DYNAMIC = 17;
+  private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+  private static final int CONSTANT_MODULE = 19;
+  private static final int CONSTANT_PACKAGE = 20;
+
+  private static final String SIGNATURE = "Signature";
+  private static final String EXCEPTIONS = "Exceptions";
+  private static final String INNER_CLASSES = "InnerClasses";
+  private static final String METHOD_PARAMETERS = "MethodParameters";
+  private static final String ANNOTATION_DEFAULT = "AnnotationDefault";
+  private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+  private static final String RUNTIME_INVISIBLE_ANNOTATIONS = "RuntimeInvisibleAnnotations";
+  private static final String RUNTIME_VISIBLE_PARAMETER_ANNOTATIONS = "RuntimeVisibleParameterAnnotations";
+  private static final String RUNTIME_INVISIBLE_PARAMETER_ANNOTATIONS = "RuntimeInvisibleParameterAnnotations";
+
+  private final DataInputStream in;
+  private final ClassPath classPath;
+  private Object[] pool;
+
+  private ClassFileParser(InputStream in, ClassPath classPath) {
+    this.in = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in));
+    this.classPath = classPath;
+  }
+
+  /**
+   * Parse the class file from the specified stream.
+   * The stream is not closed.
+   *
+   * @param in the stream.
+   * @param classPath the class path the class file is read from, or null.
+   * @return the class file.
+   * @throws IOException if the stream can't be read or doesn't contain a valid class file.
+   */
+  public static ClassFile parse(InputStream in, ClassPath classPath) throws IOException {
+    return new ClassFileParser(in, classPath).parse();
+  }
+
+  private ClassFile parse() throws IOException {
+    if (in.readInt() != MAGIC) {
+      throw new IOException("Not a class file.");
+    }
+    in.readUnsignedShort(); //minor version
+    in.readUnsignedShort(); //major version
+    readConstantPool();
+
+    int accessFlags = in.readUnsignedShort();
+    String name = className(in.readUnsignedShort());
+    String superName = className(in.readUnsignedShort());
+    int interfaceCount = in.readUnsignedShort();
+    List<String> interfaces = new ArrayList<>(interfaceCount);
+    for (int i = 0; i < interfaceCount; i++) {
+      interfaces.add(className(in.readUnsignedShort()));
+    }
+
+    int fieldCount = in.readUnsignedShort();
+    List<FieldInfo> fields = new ArrayList<>(fieldCount);
+    for (int i = 0; i < fieldCount; i++) {
+      fields.add(readField());
+    }
+
+    boolean isInterface = (accessFlags & ClassFile.ACC_INTERFACE) != 0;
+    int methodCount = in.readUnsignedShort();
+    List<MethodInfo> methods = new ArrayList<>(methodCount);
+    for (int i = 0; i < methodCount; i++) {
+      methods.add(readMethod(isInterface));
+    }
+
+    String signature = null;
+    List<AnnotationInfo> annotations = new ArrayList<>();
+    List<ClassFile.InnerClass> innerClasses = new ArrayList<>();
+    int attributeCount = in.readUnsignedShort();
+    for (int i = 0; i < attributeCount; i++) {
+      String attributeName = utf8(in.readUnsignedShort());
+      int length = in.readInt();
+      if (SIGNATURE.equals(attributeName)) {
+        signature = utf8(in.readUnsignedShort());
+      } else if (INNER_CLASSES.equals(attributeName)) {
+        int count = in.readUnsignedShort();
+        for (int j = 0; j < count; j++) {
+          String innerName = className(in.readUnsignedShort());
+          String outerName = className(in.readUnsignedShort());
+          int simpleNameIndex = in.readUnsignedShort();
+          int innerAccessFlags = in.readUnsignedShort();
+          innerClasses.add(new ClassFile.InnerClass(innerName, outerName,
+              simpleNameIndex != 0 ? utf8(simpleNameIndex) : null, innerAccessFlags));
+        }
+      } else if (isAnnotations(attributeName)) {
+        readAnnotations(annotations);
+      } else {
+        skip(length);
+      }
+    }
+    return new ClassFile(classPath, accessFlags, name, superName, interfaces, signature, fields, methods, annotations,
+        innerClasses);
+  }
+
+  private void readConstantPool() throws IOException {
+    int count = in.readUnsignedShort();
+    pool = new Object[count];
+    for (int i = 1; i < count; i++) {
+      int tag = in.readUnsignedByte();
+      switch (tag) {
+        case CONSTANT_UTF8:
+          pool[i] = in.readUTF();
+          break;
+        case CONSTANT_INTEGER:
+          pool[i] = in.readInt();
+          break;
+        case CONSTANT_FLOAT:
+          pool[i] = in.readFloat();
+          break;
+        case CONSTANT_LONG:
+          pool[i++] = in.readLong();
+          break;
+        case CONSTANT_DOUBLE:
+          pool[i++] = in.readDouble();
+          break;
+        case CONSTANT_CLASS:
+          pool[i] = new ClassEntry(in.readUnsignedShort());
+          break;
+        case CONSTANT_STRING:
+        case CONSTANT_METHOD_TYPE:
+        case CONSTANT_MODULE:
+        case CONSTANT_PACKAGE:
+          in.readUnsignedShort();
+          break;
+        case CONSTANT_FIELDREF:
+        case CONSTANT_METHODREF:
+        case CONSTANT_INTERFACE_METHODREF:
+        case CONSTANT_NAME_AND_TYPE:
+        case CONSTANT_DYNAMIC:
+        case CONSTANT_INVOKE_DYNAMIC:
+          in.readInt();
+          break;
+        case CONSTANT_METHOD_HANDLE:
+          in.readUnsignedByte();
+          in.readUnsignedShort();
+          break;
+        default:
+          throw new IOException("Unknown constant pool tag: " + tag + ".");
+      }
+    }
+  }
+
+  private FieldInfo readField() throws IOException {
+    int accessFlags = in.readUnsignedShort();
+    String name = utf8(in.readUnsignedShort());
+    String descriptor = utf8(in.readUnsignedShort());
+    String signature = null;
+    List<AnnotationInfo> annotations = new ArrayList<>();
+    int attributeCount = in.readUnsignedShort();
+    for (int i = 0; i < attributeCount; i++) {
+      String attributeName = utf8(in.readUnsignedShort());
+      int length = in.readInt();
+      if (SIGNATURE.equals(attributeName)) {
+        signature = utf8(in.readUnsignedShort());
+      } else if (isAnnotations(attributeName)) {
+        readAnnotations(annotations);
+      } else {
+        skip(length);
+      }
+    }
+    return new FieldInfo(accessFlags, name, descriptor, signature, annotations);
+  }
+
+  private MethodInfo readMethod(boolean declaredInInterface) throws IOException {
+    int accessFlags = in.readUnsignedShort();
+    String name = utf8(in.readUnsignedShort());
+    String descriptor = utf8(in.readUnsignedShort());
+    String signature = null;
+    List<String> exceptions = new ArrayList<>();
+    List<String> parameterNames = new ArrayList<>();
+    List<AnnotationInfo> annotations = new ArrayList<>();
+    List<List<AnnotationInfo>> parameterAnnotations = new ArrayList<>();
+    Object defaultValue = null;
+    int attributeCount = in.readUnsignedShort();
+    for (int i = 0; i < attributeCount; i++) {
+      String attributeName = utf8(in.readUnsignedShort());
+      int length = in.readInt();
+      if (SIGNATURE.equals(attributeName)) {
+        signature = utf8(in.readUnsignedShort());
+      } else if (EXCEPTIONS.equals(attributeName)) {
+        int count = in.readUnsignedShort();
+        for (int j = 0; j < count; j++) {
+          exceptions.add(className(in.readUnsignedShort()));
+        }
+      } else if (METHOD_PARAMETERS.equals(attributeName)) {
+        int count = in.readUnsignedByte();
+        for (int j = 0; j < count; j++) {
+          int nameIndex = in.readUnsignedShort();
+          in.readUnsignedShort(); //access flags
+          parameterNames.add(nameIndex != 0 ? utf8(nameIndex) : null);
+        }
+      } else if (ANNOTATION_DEFAULT.equals(attributeName)) {
+        defaultValue = readElementValue();
+      } else if (isAnnotations(attributeName)) {
+        readAnnotations(annotations);
+      } else if (isParameterAnnotations(attributeName)) {
+        readParameterAnnotations(parameterAnnotations);
+      } else {
+        skip(length);
+      }
+    }
+    return new MethodInfo(accessFlags, name, descriptor, signature, exceptions, parameterNames, annotations,
+        parameterAnnotations, defaultValue, declaredInInterface);
+  }
+
+  private static boolean isAnnotations(String attributeName) {
+    return RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName) || RUNTIME_INVISIBLE_ANNOTATIONS.equals(attributeName);
+  }
+
+  private static boolean isParameterAnnotations(String attributeName) {
+    return RUNTIME_VISIBLE_PARAMETER_ANNOTATIONS.equals(attributeName)
+        || RUNTIME_INVISIBLE_PARAMETER_ANNOTATIONS.equals(attributeName);
+  }
+
+  /**
+   * Reads the annotations of each parameter.
+   * Visible and invisible annotations are stored in separate attributes, so the annotations of a parameter are
+   * appended to the ones already read.
+   */
+  private void readParameterAnnotations(List<List<AnnotationInfo>> parameterAnnotations) throws IOException {
+    int count = in.readUnsignedByte();
+    for (int i = 0; i < count; i++) {
+      if (parameterAnnotations.size() <= i) {
+        parameterAnnotations.add(new ArrayList<>());
+      }
+      readAnnotations(parameterAnnotations.get(i));
+    }
+  }
+
+  private void readAnnotations(List<AnnotationInfo> annotations) throws IOException {
+    int count = in.readUnsignedShort();
+    for (int i = 0; i < count; i++) {
+      annotations.add(readAnnotation());
+    }
+  }
+
+  private AnnotationInfo readAnnotation() throws IOException {
+    TypeSignature type = TypeSignature.of(utf8(in.readUnsignedShort()));
+    int count = in.readUnsignedShort();
+    Map<String, Object> values = new LinkedHashMap<>();
+    for (int i = 0; i < count; i++) {
+      String name = utf8(in.readUnsignedShort());
+      values.put(name, readElementValue());
+    }
+    return new AnnotationInfo(type, values);
+  }
+
+  private Object readElementValue() throws IOException {
+    int tag = in.readUnsignedByte();
+    switch (tag) {
+      case 'B':
+        return ((Integer) constant(in.readUnsignedShort())).byteValue();
+      case 'C':
+        return (char) ((Integer) constant(in.readUnsignedShort())).intValue();
+      case 'S':
+        return ((Integer) constant(in.readUnsignedShort())).shortValue();
+      case 'Z':
+        return ((Integer) constant(in.readUnsignedShort())) != 0;
+      case 'I':
+      case 'J':
+      case 'F':
+      case 'D':
+      case 's':
+        return constant(in.readUnsignedShort());
+      case 'e':
+        in.readUnsignedShort(); //enum type
+        return utf8(in.readUnsignedShort());
+      case 'c':
+        return TypeSignature.of(utf8(in.readUnsignedShort()));
+      case '@':
+        return readAnnotation();
+      case '[':
+        int count = in.readUnsignedShort();
+        List<Object> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+          values.add(readElementValue());
+        }
+        return values;
+      default:
+        throw new IOException("Unknown element value tag: " + (char) tag + ".");
+    }
+  }
+
+  private Object constant(int index) throws IOException {
+    if (index <= 0 || index >= pool.length || pool[index] == null) {
+      throw new IOException("Invalid constant pool index: " + index + ".");
+    }
+    return pool[index];
+  }
+
+  private String utf8(int index) throws IOException {
+    Object value = constant(index);
+    if (!(value instanceof String)) {
+      throw new IOException("Constant pool entry: " + index + " is not a UTF8 entry.");
+    }
+    return (String) value;
+  }
+
+  private String className(int index) throws IOException {
+    if (index == 0) {
+      return null;
+    }
+    Object value = constant(index);
+    if (!(value instanceof ClassEntry)) {
+      throw new IOException("Constant pool entry: " + index + " is not a class entry.");
+    }
+    return utf8(((ClassEntry) value).nameIndex);
+  }
+
+  private void skip(int length) throws IOException {
+    int remaining = length;
+    while (remaining > 0) {
+      int skipped = in.skipBytes(remaining);
+      if (skipped <= 0) {
+        throw new IOException("Unexpected end of class file.");
+      }
+      remaining -= skipped;
+    }
+  }
+
+  private static final class ClassEntry {
+
+    private final int nameIndex;
+
+    private ClassEntry(int nameIndex) {
+      this.nameIndex = nameIndex;
+    }
+  }
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.classfile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import io.sundr.adapter.api.AdapterContext;
+import io.sundr.model.AnnotationRef;
+import io.sundr.model.ClassRef;
+import io.sundr.model.Kind;
+import io.sundr.model.LazyList;
+import io.sundr.model.Method;
+import io.sundr.model.MethodBuilder;
+import io.sundr.model.Modifiers;
+import io.sundr.model.Property;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeParamDef;
+import io.sundr.model.TypeRef;
+
+public class ClassFileToTypeDef implements Function<ClassFile, TypeDef> {
+
+  private static final String JAVA_LANG_OBJECT = "java/lang/Object";
+
+  private final AdapterContext context;
+  private final Function<TypeSignature, TypeRef> typeSignatureToTypeRef;
+  private final Function<AnnotationInfo, AnnotationRef> annotationInfoToAnnotationRef;
+  private final Function<FieldInfo, Property> fieldInfoToProperty;
+  private final Function<MethodInfo, Method> methodInfoToMethod;
+
+  public ClassFileToTypeDef(AdapterContext context, Function<TypeSignature, TypeRef> typeSignatureToTypeRef,
+      Function<AnnotationInfo, AnnotationRef> annotationInfoToAnnotationRef,
+      Function<FieldInfo, Property> fieldInfoToProperty,
+      Function<MethodInfo, Method> methodInfoToMethod) {
+    this.context = context;
+    this.typeSignatureToTypeRef = typeSignatureToTypeRef;
+    this.annotationInfoToAnnotationRef = annotationInfoToAnnotationRef;
+    this.fieldInfoToProperty = fieldInfoToProperty;
+    this.methodInfoToMethod = methodInfoToMethod;
+  }
+
+  @Override
+  public TypeDef apply(ClassFile item) {
+    if (JAVA_LANG_OBJECT.equals(item.getName())) {
+      return TypeDef.OBJECT;
+    }
+
+    List<TypeParamDef> parameters = Collections.emptyList();
+    TypeRef superClass = null;
+    List<TypeRef> interfaces = new ArrayList<>();
+    if (item.getSignature() != null) {
+      SignatureReader reader = new SignatureReader(item.getSignature());
+      parameters = reader.readTypeParameters();
+      superClass = reader.readType();
+      while (reader.hasMore()) {
+        interfaces.add(reader.readType());
+      }
+    } else {
+      if (item.getSuperName() != null) {
+        superClass = toTypeRef(item.getSuperName());
+      }
+      for (String interfaceName : item.getInterfaces()) {
+        interfaces.add(toTypeRef(interfaceName));
+      }
+    }
+
+    List<ClassRef> extendsList = new ArrayList<>();
+    List<ClassRef> implementsList = new ArrayList<>();
+    //Like reflection, interfaces don't extend Object and list their super interfaces as implemented.
+    if (!item.isInterface() && superClass instanceof ClassRef) {
+      extendsList.add((ClassRef) superClass);
+    }
+    for (TypeRef interfaceRef : interfaces) {
+      if (interfaceRef instanceof ClassRef) {
+        implementsList.add((ClassRef) interfaceRef);
+      }
+    }
+
+    List<Property> properties = item.getFields().stream().map(fieldInfoToProperty).collect(Collectors.toList());
+    List<Method> constructors = item.getMethods().stream()
+        .filter(m -> m.isConstructor() && !m.isSynthetic())
+        .map(m -> toConstructor(item, m))
+        .collect(Collectors.toList());
+    List<Method> methods = item.getMethods().stream()
+        .filter(m -> !m.isConstructor() && !m.isStaticInitializer() && !m.isSynthetic())
+        .map(methodInfoToMethod)
+        .collect(Collectors.toList());
+    List<AnnotationRef> annotations = item.getAnnotations().stream().map(annotationInfoToAnnotationRef)
+        .collect(Collectors.toList());
+
+    String outerName = item.getOuterName();
+    TypeDef result = context.getDefinitionRepository().register(new TypeDef(toKind(item), item.getPackageName(),
+        item.getSimpleName(), Collections.emptyList(), annotations, extendsList, implementsList, parameters, properties,
+        constructors, methods, outerName != null ? ClassFile.toFullyQualifiedName(outerName) : null,
+        //Inner types are only read the first time they are accessed.
+        LazyList.of(() -> getDeclaredClasses(item)),
+        Modifiers.from(item.getModifiers()), Collections.emptyMap()));
+
+    ClassPath classPath = item.getClassPath();
+    if (classPath != null) {
+      for (ClassRef superType : extendsList) {
+        registerIfAbsent(classPath, superType.getFullyQualifiedName());
+      }
+      for (ClassRef superType : implementsList) {
+        registerIfAbsent(classPath, superType.getFullyQualifiedName());
+      }
+    }
+    return result;
+  }
+
+  private static Kind toKind(ClassFile item) {
+    if (item.isAnnotation()) {
+      return Kind.ANNOTATION;
+    } else if (item.isEnum()) {
+      return Kind.ENUM;
+    } else if (item.isInterface()) {
+      return Kind.INTERFACE;
+    } else {
+      return Kind.CLASS;
+    }
+  }
+
+  private Method toConstructor(ClassFile item, MethodInfo constructor) {
+    Method result = methodInfoToMethod.apply(constructor);
+    //The descriptor of inner class constructors has the outer instance as the first argument.
+    if (item.isInner() && constructor.getSignature() == null && !result.getArguments().isEmpty()) {
+      List<Property> arguments = result.getArguments();
+      return new MethodBuilder(result).withArguments(arguments.subList(1, arguments.size())).build();
+    }
+    return result;
+  }
+
+  private List<TypeDef> getDeclaredClasses(ClassFile item) {
+    ClassPath classPath = item.getClassPath();
+    if (classPath == null) {
+      return Collections.emptyList();
+    }
+    return item.getDeclaredClasses().stream()
+        .map(i -> classPath.read(i.getName()))
+        .filter(Optional::isPresent)
+        .map(c -> apply(c.get()))
+        .collect(Collectors.toList());
+  }
+
+  private void registerIfAbsent(ClassPath classPath, String fullyQualifiedName) {
+    context.getDefinitionRepository().registerIfAbsent(fullyQualifiedName,
+        () -> classPath.find(fullyQualifiedName).map(this).orElse(null));
+  }
+
+  private TypeRef toTypeRef(String internalName) {
+    return typeSignatureToTypeRef.apply(TypeSignature.of("L" + internalName + ";"));
+  }
+}
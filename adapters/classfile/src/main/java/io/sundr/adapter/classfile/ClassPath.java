@@ -0,0 +1,346 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.classfile;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+
+import io.sundr.SundrException;
+
+/**
+ * A class path of directories and jars, that reads class files without loading them into a {@link ClassLoader}.
+ *
+ * The classes of the java runtime are always found first, using the runtime image (if available). Jars are opened
+ * the first time they are searched and looked up using their central directory, so finding a class doesn't scan
+ * the class path.
+ */
+public class ClassPath implements Closeable {
+
+  private static final String CLASS_SUFFIX = ".class";
+  private static final String JAVA_CLASS_PATH = "java.class.path";
+  private static final String JRT = "jrt:/";
+
+  private static volatile ClassPath DEFAULT;
+
+  private final List<Entry> entries;
+
+  private ClassPath(List<Entry> entries) {
+    this.entries = entries;
+  }
+
+  /**
+   * Get the class path of the running vm (i.e. the runtime image and the {@code java.class.path} entries, including
+   * the entries of jar manifests).
+   *
+   * @return the class path.
+   */
+  public static ClassPath getDefault() {
+    ClassPath result = DEFAULT;
+    if (result == null) {
+      synchronized (ClassPath.class) {
+        result = DEFAULT;
+        if (result == null) {
+          String classPath = System.getProperty(JAVA_CLASS_PATH, "");
+          result = of(Arrays.stream(classPath.split(File.pathSeparator)).filter(s -> !s.isEmpty()).map(Paths::get)
+              .collect(Collectors.toList()));
+          DEFAULT = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  public static ClassPath of(Path... paths) {
+    return of(Arrays.asList(paths));
+  }
+
+  /**
+   * Create a class path from the specified directories and jars.
+   * Jar manifest entries are included and non existing paths are ignored.
+   *
+   * @param paths the paths.
+   * @return the class path.
+   */
+  public static ClassPath of(Collection<Path> paths) {
+    List<Entry> entries = new ArrayList<>();
+    RuntimeImageEntry.create().ifPresent(entries::add);
+    Set<Path> visited = new LinkedHashSet<>();
+    for (Path path : paths) {
+      addEntries(path, visited, entries);
+    }
+    return new ClassPath(entries);
+  }
+
+  private static void addEntries(Path path, Set<Path> visited, List<Entry> entries) {
+    Path normalized = path.toAbsolutePath().normalize();
+    if (!visited.add(normalized)) {
+      return;
+    }
+    if (Files.isDirectory(normalized)) {
+      entries.add(new DirectoryEntry(normalized));
+    } else if (Files.isRegularFile(normalized)) {
+      entries.add(new JarEntry(normalized));
+      for (Path manifestPath : getManifestClassPath(normalized)) {
+        addEntries(manifestPath, visited, entries);
+      }
+    }
+  }
+
+  private static List<Path> getManifestClassPath(Path jar) {
+    try (JarFile jarFile = new JarFile(jar.toFile())) {
+      Manifest manifest = jarFile.getManifest();
+      String classPath = manifest != null ? manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH) : null;
+      if (classPath == null) {
+        return Collections.emptyList();
+      }
+      List<Path> result = new ArrayList<>();
+      for (String element : classPath.trim().split("\\s+")) {
+        try {
+          URI uri = jar.getParent().toUri().resolve(element);
+          if ("file".equals(uri.getScheme())) {
+            result.add(Paths.get(uri));
+          }
+        } catch (IllegalArgumentException e) {
+          //Ignore invalid entries, like the vm does.
+        }
+      }
+      return result;
+    } catch (IOException e) {
+      return Collections.emptyList();
+    }
+  }
+
+  /**
+   * Find the class file of the specified type.
+   * Nested types can be specified either using their binary name or their fully qualified name.
+   *
+   * @param fullyQualifiedName the name of the type.
+   * @return the class file if found, empty otherwise.
+   */
+  public Optional<ClassFile> find(String fullyQualifiedName) {
+    String name = fullyQualifiedName.replace('.', '/');
+    while (true) {
+      Optional<ClassFile> result = read(name);
+      if (result.isPresent()) {
+        return result;
+      }
+      int index = name.lastIndexOf('/');
+      if (index < 0) {
+        return Optional.empty();
+      }
+      name = name.substring(0, index) + '$' + name.substring(index + 1);
+    }
+  }
+
+  /**
+   * Read the class file of the specified type.
+   *
+   * @param internalName the internal name (e.g. {@code java/util/Map$Entry}) of the type.
+   * @return the class file if found, empty otherwise.
+   */
+  public Optional<ClassFile> read(String internalName) {
+    String resource = internalName + CLASS_SUFFIX;
+    for (Entry entry : entries) {
+      try (InputStream in = entry.open(resource)) {
+        if (in != null) {
+          return Optional.of(ClassFileParser.parse(in, this));
+        }
+      } catch (IOException e) {
+        throw new SundrException("Failed to read class file:" + resource + " from:" + entry + ".", e);
+      }
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public void close() throws IOException {
+    for (Entry entry : entries) {
+      entry.close();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return entries.stream().map(Object::toString).collect(Collectors.joining(File.pathSeparator));
+  }
+
+  private interface Entry extends Closeable {
+
+    /**
+     * Open the specified resource.
+     *
+     * @param resource the name of the resource.
+     * @return the stream, or null if the resource doesn't exist in this entry.
+     */
+    InputStream open(String resource) throws IOException;
+
+    @Override
+    default void close() throws IOException {
+    }
+  }
+
+  private static final class DirectoryEntry implements Entry {
+
+    private final Path directory;
+
+    private DirectoryEntry(Path directory) {
+      this.directory = directory;
+    }
+
+    @Override
+    public InputStream open(String resource) throws IOException {
+      Path path = directory.resolve(resource);
+      return Files.isRegularFile(path) ? Files.newInputStream(path) : null;
+    }
+
+    @Override
+    public String toString() {
+      return directory.toString();
+    }
+  }
+
+  private static final class JarEntry implements Entry {
+
+    private final Path jar;
+    private volatile JarFile jarFile;
+    private volatile boolean closed;
+
+    private JarEntry(Path jar) {
+      this.jar = jar;
+    }
+
+    private JarFile getJarFile() throws IOException {
+      JarFile result = jarFile;
+      if (result == null) {
+        synchronized (this) {
+          result = jarFile;
+          if (result == null && !closed) {
+            result = new JarFile(jar.toFile());
+            jarFile = result;
+          }
+        }
+      }
+      return result;
+    }
+
+    @Override
+    public InputStream open(String resource) throws IOException {
+      JarFile file = getJarFile();
+      if (file == null) {
+        return null;
+      }
+      ZipEntry entry = file.getEntry(resource);
+      return entry != null ? file.getInputStream(entry) : null;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+      closed = true;
+      if (jarFile != null) {
+        jarFile.close();
+        jarFile = null;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return jar.toString();
+    }
+  }
+
+  /**
+   * The classes of the java runtime, read from the jrt file system.
+   */
+  private static final class RuntimeImageEntry implements Entry {
+
+    private final FileSystem fileSystem;
+    private final Map<String, List<Path>> modulesByPackage = new ConcurrentHashMap<>();
+
+    private RuntimeImageEntry(FileSystem fileSystem) {
+      this.fileSystem = fileSystem;
+    }
+
+    private static Optional<Entry> create() {
+      try {
+        return Optional.of(new RuntimeImageEntry(FileSystems.getFileSystem(URI.create(JRT))));
+      } catch (Exception e) {
+        //No runtime image (e.g. the vm doesn't provide the jrt file system).
+        return Optional.empty();
+      }
+    }
+
+    private List<Path> getModules(String packageName) {
+      return modulesByPackage.computeIfAbsent(packageName, p -> {
+        Path packagePath = fileSystem.getPath("/packages", p);
+        if (!Files.isDirectory(packagePath)) {
+          return Collections.emptyList();
+        }
+        try (Stream<Path> modules = Files.list(packagePath)) {
+          return modules.map(m -> fileSystem.getPath("/modules", m.getFileName().toString()))
+              .collect(Collectors.toList());
+        } catch (IOException e) {
+          return Collections.emptyList();
+        }
+      });
+    }
+
+    @Override
+    public InputStream open(String resource) throws IOException {
+      int index = resource.lastIndexOf('/');
+      if (index < 0) {
+        return null;
+      }
+      for (Path module : getModules(resource.substring(0, index).replace('/', '.'))) {
+        Path path = module.resolve(resource);
+        if (Files.isRegularFile(path)) {
+          return Files.newInputStream(path);
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public String toString() {
+      return JRT;
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.classfile;
+
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A field as found in a class file.
+ */
+public class FieldInfo {
+
+  static final int ACC_SYNTHETIC = 0x1000;
+  static final int ACC_ENUM = 0x4000;
+
+  private final int accessFlags;
+  private final String name;
+  private final String descriptor;
+  private final String signature;
+  private final List<AnnotationInfo> annotations;
+
+  public FieldInfo(int accessFlags, String name, String descriptor, String signature, List<AnnotationInfo> annotations) {
+    this.accessFlags = accessFlags;
+    this.name = name;
+    this.descriptor = descriptor;
+    this.signature = signature;
+    this.annotations = annotations != null ? Collections.unmodifiableList(annotations) : Collections.emptyList();
+  }
+
+  public int getAccessFlags() {
+    return accessFlags;
+  }
+
+  /**
+   * The access flags that are also java language modifiers.
+   *
+   * @return the modifiers.
+   */
+  public int getModifiers() {
+    return accessFlags & Modifier.fieldModifiers();
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getDescriptor() {
+    return descriptor;
+  }
+
+  /**
+   * The generic signature of the field.
+   *
+   * @return the signature, or null if the field type is not generic.
+   */
+  public String getSignature() {
+    return signature;
+  }
+
+  /**
+   * The type of the field, using the generic signature if available.
+   *
+   * @return the type.
+   */
+  public TypeSignature getType() {
+    return TypeSignature.of(signature != null ? signature : descriptor);
+  }
+
+  public List<AnnotationInfo> getAnnotations() {
+    return annotations;
+  }
+
+  public boolean isSynthetic() {
+    return (accessFlags & ACC_SYNTHETIC) != 0;
+  }
+
+  public boolean isEnumConstant() {
+    return (accessFlags & ACC_ENUM) != 0;
+  }
+
+  @Override
+  public String toString() {
+    return name + ":" + descriptor;
+  }
+}
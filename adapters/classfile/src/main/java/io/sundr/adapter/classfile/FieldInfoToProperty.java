@@ -0,0 +1,51 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.classfile;
+
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import io.sundr.model.AnnotationRef;
+import io.sundr.model.Modifiers;
+import io.sundr.model.Property;
+import io.sundr.model.PropertyBuilder;
+import io.sundr.model.TypeRef;
+
+public class FieldInfoToProperty implements Function<FieldInfo, Property> {
+
+  private final Function<TypeSignature, TypeRef> typeSignatureToTypeRef;
+  private final Function<AnnotationInfo, AnnotationRef> annotationInfoToAnnotationRef;
+
+  public FieldInfoToProperty(Function<TypeSignature, TypeRef> typeSignatureToTypeRef,
+      Function<AnnotationInfo, AnnotationRef> annotationInfoToAnnotationRef) {
+    this.typeSignatureToTypeRef = typeSignatureToTypeRef;
+    this.annotationInfoToAnnotationRef = annotationInfoToAnnotationRef;
+  }
+
+  @Override
+  public Property apply(FieldInfo item) {
+    return new PropertyBuilder()
+        .withName(item.getName())
+        .withModifiers(Modifiers.from(item.getModifiers()))
+        .withEnumConstant(item.isEnumConstant())
+        .withSynthetic(item.isSynthetic())
+        .withAnnotations(item.getAnnotations().stream().map(annotationInfoToAnnotationRef).collect(Collectors.toList()))
+        .withTypeRef(typeSignatureToTypeRef.apply(item.getType()))
+        .build();
+  }
+}
@@ -0,0 +1,166 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.classfile;
+
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A method or constructor as found in a class file.
+ */
+public class MethodInfo {
+
+  public static final String CONSTRUCTOR_NAME = "<init>";
+  public static final String STATIC_INITIALIZER_NAME = "<clinit>";
+
+  static final int ACC_BRIDGE = 0x0040;
+  static final int ACC_VARARGS = 0x0080;
+  static final int ACC_SYNTHETIC = 0x1000;
+
+  private final int accessFlags;
+  private final String name;
+  private final String descriptor;
+  private final String signature;
+  private final List<String> exceptions;
+  private final List<String> parameterNames;
+  private final List<AnnotationInfo> annotations;
+  private final List<List<AnnotationInfo>> parameterAnnotations;
+  private final Object defaultValue;
+  private final boolean declaredInInterface;
+
+  public MethodInfo(int accessFlags, String name, String descriptor, String signature, List<String> exceptions,
+      List<String> parameterNames, List<AnnotationInfo> annotations, List<List<AnnotationInfo>> parameterAnnotations,
+      Object defaultValue, boolean declaredInInterface) {
+    this.accessFlags = accessFlags;
+    this.name = name;
+    this.descriptor = descriptor;
+    this.signature = signature;
+    this.exceptions = exceptions != null ? Collections.unmodifiableList(exceptions) : Collections.emptyList();
+    this.parameterNames = parameterNames != null ? Collections.unmodifiableList(parameterNames) : Collections.emptyList();
+    this.annotations = annotations != null ? Collections.unmodifiableList(annotations) : Collections.emptyList();
+    this.parameterAnnotations = parameterAnnotations != null
+        ? Collections.unmodifiableList(parameterAnnotations.stream().map(Collections::unmodifiableList)
+            .collect(Collectors.toList()))
+        : Collections.emptyList();
+    this.defaultValue = defaultValue;
+    this.declaredInInterface = declaredInInterface;
+  }
+
+  public int getAccessFlags() {
+    return accessFlags;
+  }
+
+  /**
+   * The access flags that are also java language modifiers.
+   *
+   * @return the modifiers.
+   */
+  public int getModifiers() {
+    return accessFlags & (isConstructor() ? Modifier.constructorModifiers() : Modifier.methodModifiers());
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getDescriptor() {
+    return descriptor;
+  }
+
+  /**
+   * The generic signature of the method.
+   *
+   * @return the signature, or null if the method is not generic.
+   */
+  public String getSignature() {
+    return signature;
+  }
+
+  /**
+   * The internal names of the declared exceptions.
+   *
+   * @return the exceptions.
+   */
+  public List<String> getExceptions() {
+    return exceptions;
+  }
+
+  /**
+   * The parameter names, if recorded in the class file (e.g. when compiled with {@code -parameters}).
+   *
+   * @return the names, or an empty list if the names are not available.
+   */
+  public List<String> getParameterNames() {
+    return parameterNames;
+  }
+
+  public List<AnnotationInfo> getAnnotations() {
+    return annotations;
+  }
+
+  /**
+   * The annotations of each parameter.
+   * The class file may list fewer parameters than the descriptor (e.g. javac leaves out the outer instance of inner class
+   * constructors), in which case the listed ones are the trailing parameters.
+   *
+   * @return the annotations of each listed parameter, or an empty list if no parameter is annotated.
+   */
+  public List<List<AnnotationInfo>> getParameterAnnotations() {
+    return parameterAnnotations;
+  }
+
+  /**
+   * The default value of an annotation method.
+   *
+   * @return the value (see {@link AnnotationInfo} for the representation of values), or null.
+   */
+  public Object getDefaultValue() {
+    return defaultValue;
+  }
+
+  public boolean isDeclaredInInterface() {
+    return declaredInInterface;
+  }
+
+  public boolean isConstructor() {
+    return CONSTRUCTOR_NAME.equals(name);
+  }
+
+  public boolean isStaticInitializer() {
+    return STATIC_INITIALIZER_NAME.equals(name);
+  }
+
+  public boolean isSynthetic() {
+    return (accessFlags & (ACC_SYNTHETIC | ACC_BRIDGE)) != 0;
+  }
+
+  public boolean isVarArgs() {
+    return (accessFlags & ACC_VARARGS) != 0;
+  }
+
+  public boolean isDefault() {
+    return declaredInInterface && (accessFlags & (Modifier.ABSTRACT | Modifier.STATIC | Modifier.PRIVATE)) == 0;
+  }
+
+  @Override
+  public String toString() {
+    return name + descriptor;
+  }
+}
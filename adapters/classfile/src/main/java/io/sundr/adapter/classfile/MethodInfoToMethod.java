@@ -0,0 +1,122 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.classfile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import io.sundr.model.AnnotationRef;
+import io.sundr.model.AttributeKey;
+import io.sundr.model.Attributeable;
+import io.sundr.model.ClassRef;
+import io.sundr.model.Method;
+import io.sundr.model.MethodBuilder;
+import io.sundr.model.Modifiers;
+import io.sundr.model.Property;
+import io.sundr.model.PropertyBuilder;
+import io.sundr.model.TypeParamDef;
+import io.sundr.model.TypeRef;
+
+public class MethodInfoToMethod implements Function<MethodInfo, Method> {
+
+  private static final String ARGUMENT_PREFIX = "arg";
+
+  private final Function<TypeSignature, TypeRef> typeSignatureToTypeRef;
+  private final AnnotationInfoToAnnotationRef annotationInfoToAnnotationRef;
+
+  public MethodInfoToMethod(Function<TypeSignature, TypeRef> typeSignatureToTypeRef,
+      AnnotationInfoToAnnotationRef annotationInfoToAnnotationRef) {
+    this.typeSignatureToTypeRef = typeSignatureToTypeRef;
+    this.annotationInfoToAnnotationRef = annotationInfoToAnnotationRef;
+  }
+
+  @Override
+  public Method apply(MethodInfo item) {
+    SignatureReader reader = new SignatureReader(item.getSignature() != null ? item.getSignature() : item.getDescriptor());
+    List<TypeParamDef> parameters = reader.readTypeParameters();
+
+    List<TypeRef> argumentTypes = new ArrayList<>();
+    reader.expect('(');
+    while (!reader.peek(')')) {
+      argumentTypes.add(reader.readType());
+    }
+    reader.expect(')');
+    TypeRef returnType = reader.readType();
+
+    List<ClassRef> exceptions = new ArrayList<>();
+    while (reader.peek('^')) {
+      reader.expect('^');
+      TypeRef exception = reader.readType();
+      if (exception instanceof ClassRef) {
+        exceptions.add((ClassRef) exception);
+      }
+    }
+    //The signature only lists exceptions when they involve type variables, the Exceptions attribute always has them.
+    if (exceptions.isEmpty()) {
+      for (String exception : item.getExceptions()) {
+        exceptions.add((ClassRef) typeSignatureToTypeRef.apply(TypeSignature.of("L" + exception + ";")));
+      }
+    }
+
+    List<String> names = item.getParameterNames();
+    List<List<AnnotationInfo>> parameterAnnotations = item.getParameterAnnotations();
+    //Parameter annotations may leave out leading parameters, so they are aligned to the last argument.
+    int annotationOffset = argumentTypes.size() - parameterAnnotations.size();
+    List<Property> arguments = new ArrayList<>();
+    for (int i = 1; i <= argumentTypes.size(); i++) {
+      String name = names.size() == argumentTypes.size() && names.get(i - 1) != null ? names.get(i - 1)
+          : ARGUMENT_PREFIX + i;
+      int annotationIndex = i - 1 - annotationOffset;
+      List<AnnotationRef> argumentAnnotations = annotationIndex >= 0 && annotationIndex < parameterAnnotations.size()
+          ? parameterAnnotations.get(annotationIndex).stream().map(annotationInfoToAnnotationRef)
+              .collect(Collectors.toList())
+          : Collections.emptyList();
+      arguments.add(new PropertyBuilder()
+          .withName(name)
+          .withTypeRef(argumentTypes.get(i - 1))
+          .withAnnotations(argumentAnnotations)
+          .build());
+    }
+
+    Map<AttributeKey, Object> attributes = new HashMap<>();
+    if (item.getDefaultValue() != null) {
+      attributes.put(Attributeable.DEFAULT_VALUE, annotationInfoToAnnotationRef.mapValue(item.getDefaultValue()));
+    }
+
+    List<AnnotationRef> annotations = item.getAnnotations().stream().map(annotationInfoToAnnotationRef)
+        .collect(Collectors.toList());
+
+    return new MethodBuilder()
+        .withName(item.isConstructor() ? null : item.getName())
+        .withDefaultMethod(item.isDefault())
+        .withModifiers(Modifiers.from(item.getModifiers()))
+        .withParameters(parameters)
+        .withArguments(arguments)
+        .withVarArgPreferred(item.isVarArgs())
+        .withReturnType(item.isConstructor() ? null : returnType)
+        .withExceptions(exceptions)
+        .withAnnotations(annotations)
+        .withAttributes(attributes)
+        .build();
+  }
+}
@@ -0,0 +1,210 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.classfile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.sundr.model.ClassRef;
+import io.sundr.model.ClassRefBuilder;
+import io.sundr.model.PrimitiveRefBuilder;
+import io.sundr.model.TypeParamDef;
+import io.sundr.model.TypeParamDefBuilder;
+import io.sundr.model.TypeParamRefBuilder;
+import io.sundr.model.TypeRef;
+import io.sundr.model.TypeRefPool;
+import io.sundr.model.VoidRefBuilder;
+import io.sundr.model.WildcardRef;
+import io.sundr.model.WildcardRefBuilder;
+
+/**
+ * Reads descriptors and generic signatures (JVMS 4.3 and 4.7.9.1) into the sundrio model.
+ */
+class SignatureReader {
+
+  private static final String JAVA_LANG_OBJECT = "java/lang/Object";
+
+  private final String signature;
+  private int position;
+
+  SignatureReader(String signature) {
+    this.signature = signature;
+  }
+
+  boolean hasMore() {
+    return position < signature.length();
+  }
+
+  boolean peek(char c) {
+    return hasMore() && signature.charAt(position) == c;
+  }
+
+  void expect(char c) {
+    if (!peek(c)) {
+      throw new IllegalArgumentException("Expected '" + c + "' at position " + position + " of: " + signature + ".");
+    }
+    position++;
+  }
+
+  /**
+   * Reads the formal type parameters, if any.
+   *
+   * @return the type parameters.
+   */
+  List<TypeParamDef> readTypeParameters() {
+    if (!peek('<')) {
+      return Collections.emptyList();
+    }
+    expect('<');
+    List<TypeParamDef> result = new ArrayList<>();
+    while (!peek('>')) {
+      String name = readIdentifier(':');
+      List<ClassRef> bounds = new ArrayList<>();
+      expect(':');
+      //The class bound may be omitted, the interface bounds are each preceded by a colon.
+      if (!peek(':')) {
+        addBound(bounds, readType());
+      }
+      while (peek(':')) {
+        expect(':');
+        addBound(bounds, readType());
+      }
+      result.add(new TypeParamDefBuilder().withName(name).withBounds(bounds).build());
+    }
+    expect('>');
+    return result;
+  }
+
+  /**
+   * Reads a field type, a return type or a type argument.
+   *
+   * @return the type.
+   */
+  TypeRef readType() {
+    if (!hasMore()) {
+      throw new IllegalArgumentException("Unexpected end of: " + signature + ".");
+    }
+    char c = signature.charAt(position++);
+    switch (c) {
+      case 'B':
+        return primitive("byte");
+      case 'C':
+        return primitive("char");
+      case 'D':
+        return primitive("double");
+      case 'F':
+        return primitive("float");
+      case 'I':
+        return primitive("int");
+      case 'J':
+        return primitive("long");
+      case 'S':
+        return primitive("short");
+      case 'Z':
+        return primitive("boolean");
+      case 'V':
+        return TypeRefPool.intern(new VoidRefBuilder().build());
+      case 'T':
+        String name = readIdentifier(';');
+        expect(';');
+        return TypeRefPool.intern(new TypeParamRefBuilder().withName(name).build());
+      case '[':
+        TypeRef component = readType();
+        return TypeRefPool.intern(component.withDimensions(component.getDimensions() + 1));
+      case 'L':
+        return readClassType();
+      default:
+        throw new IllegalArgumentException("Unexpected '" + c + "' at position " + (position - 1) + " of: " + signature + ".");
+    }
+  }
+
+  private TypeRef readClassType() {
+    StringBuilder internalName = new StringBuilder(readIdentifier('<', '.', ';'));
+    List<TypeRef> arguments = readTypeArguments();
+    //Arguments of outer types are not part of the model, only the arguments of the innermost type are kept.
+    while (peek('.')) {
+      expect('.');
+      internalName.append('$').append(readIdentifier('<', '.', ';'));
+      arguments = readTypeArguments();
+    }
+    expect(';');
+    if (arguments.isEmpty() && JAVA_LANG_OBJECT.contentEquals(internalName)) {
+      return ClassRef.OBJECT;
+    }
+    return TypeRefPool.intern(new ClassRefBuilder()
+        .withFullyQualifiedName(ClassFile.toFullyQualifiedName(internalName.toString()))
+        .withArguments(arguments)
+        .build());
+  }
+
+  private List<TypeRef> readTypeArguments() {
+    if (!peek('<')) {
+      return Collections.emptyList();
+    }
+    expect('<');
+    List<TypeRef> result = new ArrayList<>();
+    while (!peek('>')) {
+      if (peek('*')) {
+        expect('*');
+        result.add(TypeRefPool.intern(new WildcardRefBuilder().build()));
+      } else if (peek('+')) {
+        expect('+');
+        result.add(wildcard(WildcardRef.BoundKind.EXTENDS, readType()));
+      } else if (peek('-')) {
+        expect('-');
+        result.add(wildcard(WildcardRef.BoundKind.SUPER, readType()));
+      } else {
+        result.add(readType());
+      }
+    }
+    expect('>');
+    return result;
+  }
+
+  private String readIdentifier(char... terminators) {
+    int start = position;
+    while (hasMore() && !isTerminator(signature.charAt(position), terminators)) {
+      position++;
+    }
+    return signature.substring(start, position);
+  }
+
+  private static boolean isTerminator(char c, char... terminators) {
+    for (char t : terminators) {
+      if (c == t) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void addBound(List<ClassRef> bounds, TypeRef bound) {
+    if (bound instanceof ClassRef) {
+      bounds.add((ClassRef) bound);
+    }
+  }
+
+  private static TypeRef primitive(String name) {
+    return TypeRefPool.intern(new PrimitiveRefBuilder().withName(name).build());
+  }
+
+  private static TypeRef wildcard(WildcardRef.BoundKind boundKind, TypeRef bound) {
+    return TypeRefPool.intern(new WildcardRefBuilder().withBoundKind(boundKind).withBounds(bound).build());
+  }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.classfile;
+
+import java.util.Objects;
+
+/**
+ * A type as found in a class file, either as a field descriptor (e.g. {@code Ljava/util/List;}) or as a generic
+ * signature (e.g. {@code Ljava/util/List<Ljava/lang/String;>;}).
+ */
+public final class TypeSignature {
+
+  private final String value;
+
+  public TypeSignature(String value) {
+    this.value = Objects.requireNonNull(value);
+  }
+
+  public static TypeSignature of(String value) {
+    return new TypeSignature(value);
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return value.equals(((TypeSignature) o).value);
+  }
+
+  @Override
+  public int hashCode() {
+    return value.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return value;
+  }
+}
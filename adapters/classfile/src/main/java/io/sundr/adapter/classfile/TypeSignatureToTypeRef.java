@@ -0,0 +1,35 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.classfile;
+
+import java.util.function.Function;
+
+import io.sundr.model.TypeRef;
+
+public class TypeSignatureToTypeRef implements Function<TypeSignature, TypeRef> {
+
+  @Override
+  public TypeRef apply(TypeSignature item) {
+    SignatureReader reader = new SignatureReader(item.getValue());
+    TypeRef result = reader.readType();
+    if (reader.hasMore()) {
+      throw new IllegalArgumentException("Can't convert signature:" + item + " to a TypeRef");
+    }
+    return result;
+  }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.classfile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import io.sundr.adapter.api.AdapterContext;
+import io.sundr.adapter.api.Adapters;
+import io.sundr.adapter.testing.AbstractAdapterTest;
+import io.sundr.model.Attributeable;
+import io.sundr.model.ClassRef;
+import io.sundr.model.Kind;
+import io.sundr.model.Method;
+import io.sundr.model.Property;
+import io.sundr.model.TypeDef;
+import io.sundr.model.WildcardRef;
+import io.sundr.model.repo.DefinitionRepository;
+
+public class ClassFileAdapterTest extends AbstractAdapterTest<ClassFile> {
+
+  private AdapterContext context = AdapterContext.create(DefinitionRepository.getRepository());
+
+  @Override
+  public AdapterContext getContext() {
+    return context;
+  }
+
+  @Override
+  public ClassFile getInput(Class type) {
+    return ClassPath.getDefault().find(type.getName()).orElseThrow(IllegalStateException::new);
+  }
+
+  @Test
+  public void shouldNotInitializeClass() {
+    TypeDef typeDef = Adapters.adaptType(ClassPath.getDefault().find(Failing.class.getName()).get(), context);
+    assertEquals("io.sundr.adapter.classfile.ClassFileAdapterTest.Failing", typeDef.getFullyQualifiedName());
+    assertEquals("io.sundr.adapter.classfile.ClassFileAdapterTest", typeDef.getOuterTypeName());
+    assertTrue(typeDef.isStatic());
+    assertEquals("VALUE", typeDef.getProperties().get(0).getName());
+  }
+
+  @Test
+  public void shouldReadRuntimeImage() {
+    TypeDef map = Adapters.adaptType(ClassPath.getDefault().find(Map.class.getName()).get(), context);
+    assertEquals(Kind.INTERFACE, map.getKind());
+    assertEquals(2, map.getParameters().size());
+    assertTrue(map.getInnerTypes().stream().anyMatch(t -> t.getName().equals("Entry")));
+
+    Method putAll = map.getMethods().stream().filter(m -> m.getName().equals("putAll")).findFirst().get();
+    ClassRef argument = (ClassRef) putAll.getArguments().get(0).getTypeRef();
+    assertEquals("java.util.Map", argument.getFullyQualifiedName());
+    assertEquals(WildcardRef.BoundKind.EXTENDS, ((WildcardRef) argument.getArguments().get(0)).getBoundKind());
+  }
+
+  @Test
+  public void shouldStripOuterInstanceFromInnerClassConstructor() {
+    TypeDef inner = Adapters.adaptType(getInput(ClassFileParserTest.Fixture.Inner.class), context);
+    assertFalse(inner.isStatic());
+    List<Property> arguments = inner.getConstructors().get(0).getArguments();
+    assertEquals(1, arguments.size());
+    assertEquals("value", arguments.get(0).getName());
+    assertEquals("java.lang.String", ((ClassRef) arguments.get(0).getTypeRef()).getFullyQualifiedName());
+    assertEquals(Collections.singletonList(ClassFileParserTest.Visible.class.getCanonicalName()),
+        annotationsOf(arguments.get(0)));
+  }
+
+  @Test
+  public void shouldAdaptParameterNamesAndAnnotations() {
+    TypeDef fixture = Adapters.adaptType(getInput(ClassFileParserTest.Fixture.class), context);
+    Method greet = fixture.getMethods().stream().filter(m -> m.getName().equals("greet")).findFirst().get();
+    assertEquals(Arrays.asList("name", "times"),
+        greet.getArguments().stream().map(Property::getName).collect(Collectors.toList()));
+    assertEquals(Collections.singletonList(ClassFileParserTest.Visible.class.getCanonicalName()),
+        annotationsOf(greet.getArguments().get(0)));
+    assertEquals(
+        Arrays.asList(ClassFileParserTest.Visible.class.getCanonicalName(),
+            ClassFileParserTest.Invisible.class.getCanonicalName()),
+        annotationsOf(greet.getArguments().get(1)));
+  }
+
+  @Test
+  public void shouldAdaptAnnotationDefault() {
+    TypeDef limits = Adapters.adaptType(getInput(ClassFileParserTest.Limits.class), context);
+    assertEquals(Kind.ANNOTATION, limits.getKind());
+    Method max = limits.getMethods().stream().filter(m -> m.getName().equals("max")).findFirst().get();
+    assertEquals(Long.MAX_VALUE, max.getAttribute(Attributeable.DEFAULT_VALUE));
+  }
+
+  private static List<String> annotationsOf(Property property) {
+    return property.getAnnotations().stream().map(a -> a.getClassRef().getFullyQualifiedName())
+        .collect(Collectors.toList());
+  }
+
+  public static class Failing {
+
+    public static final int VALUE = fail();
+
+    private static int fail() {
+      throw new IllegalStateException("Class should not be initialized.");
+    }
+  }
+}
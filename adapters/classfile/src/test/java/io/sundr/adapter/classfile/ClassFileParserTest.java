@@ -0,0 +1,138 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.classfile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class ClassFileParserTest {
+
+  @Test
+  public void shouldReadConstantsAfterLongAndDoubleEntries() {
+    //Long and double entries take two constant pool slots, so reading the values after them checks the slot count.
+    AnnotationInfo limits = read(Constants.class).getAnnotations().get(0);
+    assertEquals(TypeSignature.of("L" + internalName(Limits.class) + ";"), limits.getType());
+    assertEquals(42L, limits.getValues().get("max"));
+    assertEquals(2.5d, limits.getValues().get("ratio"));
+    assertEquals("after", limits.getValues().get("name"));
+    assertEquals(Arrays.asList("LONG", "DOUBLE", "AFTER"),
+        read(Constants.class).getFields().stream().map(FieldInfo::getName).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void shouldReadAnnotationDefault() {
+    ClassFile limits = read(Limits.class);
+    assertEquals(Long.MAX_VALUE, method(limits, "max").getDefaultValue());
+    assertEquals(0.5d, method(limits, "ratio").getDefaultValue());
+    assertEquals("none", method(limits, "name").getDefaultValue());
+  }
+
+  @Test
+  public void shouldReadMethodParameters() {
+    assertEquals(Arrays.asList("name", "times"), method(read(Fixture.class), "greet").getParameterNames());
+  }
+
+  @Test
+  public void shouldReadVisibleAndInvisibleParameterAnnotations() {
+    List<List<AnnotationInfo>> annotations = method(read(Fixture.class), "greet").getParameterAnnotations();
+    assertEquals(2, annotations.size());
+    assertEquals(Collections.singletonList(internalName(Visible.class)), typesOf(annotations.get(0)));
+    assertEquals(Arrays.asList(internalName(Visible.class), internalName(Invisible.class)), typesOf(annotations.get(1)));
+    assertEquals(Collections.emptyList(), method(read(Fixture.class), "none").getParameterAnnotations());
+  }
+
+  @Test
+  public void shouldListOnlyDeclaredParametersOfInnerClassConstructors() {
+    MethodInfo constructor = method(read(Fixture.Inner.class), MethodInfo.CONSTRUCTOR_NAME);
+    //The outer instance is a mandated parameter: it has a name but no annotations.
+    assertEquals(2, constructor.getParameterNames().size());
+    assertEquals("value", constructor.getParameterNames().get(1));
+    assertEquals(1, constructor.getParameterAnnotations().size());
+    assertTrue(constructor.getParameterAnnotations().get(0).stream()
+        .anyMatch(a -> a.getType().getValue().equals("L" + internalName(Visible.class) + ";")));
+  }
+
+  static ClassFile read(Class<?> type) {
+    return ClassPath.getDefault().find(type.getName()).orElseThrow(IllegalStateException::new);
+  }
+
+  static MethodInfo method(ClassFile classFile, String name) {
+    return classFile.getMethods().stream().filter(m -> m.getName().equals(name)).findFirst()
+        .orElseThrow(IllegalStateException::new);
+  }
+
+  private static String internalName(Class<?> type) {
+    return type.getName().replace('.', '/');
+  }
+
+  private static List<String> typesOf(List<AnnotationInfo> annotations) {
+    return annotations.stream().map(a -> a.getType().getValue())
+        .map(v -> v.substring(1, v.length() - 1))
+        .collect(Collectors.toList());
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  public @interface Visible {
+  }
+
+  @Retention(RetentionPolicy.CLASS)
+  public @interface Invisible {
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  public @interface Limits {
+
+    long max() default Long.MAX_VALUE;
+
+    double ratio() default 0.5;
+
+    String name() default "none";
+  }
+
+  @Limits(max = 42L, ratio = 2.5, name = "after")
+  public static class Constants {
+
+    public static final long LONG = 1234567890123L;
+    public static final double DOUBLE = 3.25;
+    public static final String AFTER = "after";
+  }
+
+  public static class Fixture {
+
+    public void greet(@Visible String name, @Visible @Invisible int times) {
+    }
+
+    public void none(String value) {
+    }
+
+    public class Inner {
+
+      public Inner(@Visible String value) {
+      }
+    }
+  }
+}
@@ -20,11 +20,21 @@ package io.sundr.adapter.reflect;
 import java.util.Optional;
 
 import io.sundr.adapter.api.TypeLookup;
+import io.sundr.utils.ClassPathIndex;
 
 public class ClassLookup implements TypeLookup<Class> {
 
+  @Override
+  public int getPriority() {
+    return 200;
+  }
+
   @Override
   public Optional<Class> forName(String fullyQualifiedName) {
+    //Avoid loading (and failing to load) classes that are known to not exist.
+    if (!ClassPathIndex.of(ClassLookup.class.getClassLoader()).mayContain(fullyQualifiedName)) {
+      return Optional.empty();
+    }
     try {
       return Optional.of(Class.forName(fullyQualifiedName));
     } catch (Exception e) {
@@ -26,12 +26,15 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -43,6 +46,7 @@ import io.sundr.model.AttributeKey;
 import io.sundr.model.Attributeable;
 import io.sundr.model.ClassRef;
 import io.sundr.model.Kind;
+import io.sundr.model.LazyList;
 import io.sundr.model.Method;
 import io.sundr.model.MethodBuilder;
 import io.sundr.model.Modifiers;
@@ -64,6 +68,8 @@ public class ClassToTypeDef implements Function<Class, TypeDef> {
   private final Function<Type, TypeParamDef> typeToTypeParamDef;
   private final Function<Class<? extends Annotation>, AnnotationRef> annotationTypeToAnnotationRef;
   private final Function<Class, Kind> classToKind;
+  private final boolean shallow;
+  private final Map<Class, TypeDef> shallowDefinitions = new ConcurrentHashMap<>();
 
   public ClassToTypeDef(AdapterContext context, Set<Class> references, Function<Type, TypeRef> typeToTypeRef,
       Function<Type, TypeParamDef> typeToTypeParamDef,
@@ -75,6 +81,7 @@ public class ClassToTypeDef implements Function<Class, TypeDef> {
     this.typeToTypeParamDef = typeToTypeParamDef;
     this.annotationTypeToAnnotationRef = annotationTypeToAnnotationRef;
     this.classToKind = classToKind;
+    this.shallow = Boolean.TRUE.equals(context.getAttribute(ReflectionAdapter.SHALLOW));
   }
 
   @Override
@@ -82,6 +89,16 @@ public class ClassToTypeDef implements Function<Class, TypeDef> {
     if (Object.class.equals(item)) {
       return TypeDef.OBJECT;
     }
+    if (shallow) {
+      TypeDef result = shallowDefinitions.get(item);
+      if (result == null) {
+        TypeDef adapted = adaptShallow(item);
+        TypeDef existing = shallowDefinitions.putIfAbsent(item, adapted);
+        result = existing != null ? existing : adapted;
+      }
+      context.getDefinitionRepository().registerIfAbsent(result);
+      return result;
+    }
     Kind kind = classToKind.apply(item);
     List<ClassRef> extendsList = new ArrayList<>();
     List<ClassRef> implementsList = new ArrayList<>();
@@ -156,6 +173,63 @@ public class ClassToTypeDef implements Function<Class, TypeDef> {
     return result;
   }
 
+  /**
+   * Adapts the class without its members and inner types, which are adapted the first time they are accessed.
+   * Referenced classes are not registered.
+   */
+  private TypeDef adaptShallow(Class item) {
+    List<ClassRef> extendsList = new ArrayList<>();
+    List<ClassRef> implementsList = new ArrayList<>();
+    if (item.getSuperclass() != null) {
+      extendsList.add((ClassRef) typeToTypeRef.apply(item.getGenericSuperclass()));
+    }
+    for (Type interfaceClass : item.getGenericInterfaces()) {
+      TypeRef ref = typeToTypeRef.apply(interfaceClass);
+      if (ref instanceof ClassRef) {
+        implementsList.add((ClassRef) ref);
+      }
+    }
+
+    List<TypeParamDef> parameters = new ArrayList<>();
+    for (TypeVariable typeVariable : item.getTypeParameters()) {
+      List<ClassRef> bounds = new ArrayList<>();
+      for (Type boundType : typeVariable.getBounds()) {
+        TypeRef typeRef = typeToTypeRef.apply(boundType);
+        if (typeRef instanceof ClassRef) {
+          bounds.add((ClassRef) typeRef);
+        }
+      }
+      parameters.add(new TypeParamDefBuilder()
+          .withName(typeVariable.getName())
+          .withBounds(bounds)
+          .build());
+    }
+
+    String outerFQCN = item.getDeclaringClass() != null ? item.getDeclaringClass().getName() : null;
+    TypeDef result = new TypeDef(classToKind.apply(item), item.getPackage() != null ? item.getPackage().getName() : null,
+        item.getSimpleName(), Collections.emptyList(), getAnnotations(item), extendsList, implementsList, parameters,
+        LazyList.of(() -> withoutReferences(() -> getProperties(item, references))),
+        LazyList.of(() -> withoutReferences(() -> getConstructors(item, references))),
+        LazyList.of(() -> withoutReferences(() -> getMethods(item, references))),
+        outerFQCN,
+        LazyList.of(() -> Arrays.stream(item.getDeclaredClasses()).map(i -> apply(i)).collect(Collectors.toList())),
+        Modifiers.from(item.getModifiers()), Collections.emptyMap());
+    //Shallow adaptation doesn't register referenced classes.
+    references.clear();
+    return result;
+  }
+
+  /**
+   * Adapts the members of a shallow definition, dropping the classes they reference.
+   */
+  private <T> List<T> withoutReferences(Supplier<Set<T>> members) {
+    try {
+      return new ArrayList<>(members.get());
+    } finally {
+      references.clear();
+    }
+  }
+
   private List<AnnotationRef> getAnnotations(Class item) {
     List<AnnotationRef> annotationRefs = new ArrayList<AnnotationRef>();
     processAnnotatedElement(item, annotationRefs);
@@ -20,24 +20,33 @@ package io.sundr.adapter.reflect;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import io.sundr.adapter.api.Adapter;
 import io.sundr.adapter.api.AdapterContext;
+import io.sundr.model.AttributeKey;
 import io.sundr.model.Property;
 import io.sundr.model.TypeDef;
 import io.sundr.model.TypeRef;
 
 public class ReflectionAdapter implements Adapter<Class, Type, Field, Method> {
 
+  /**
+   * When set to true on the {@link AdapterContext}, classes are adapted shallowly: members and inner types are adapted
+   * the first time they are accessed, referenced classes are not registered and adapted classes are cached per context.
+   */
+  public static final AttributeKey<Boolean> SHALLOW = new AttributeKey<>("SHALLOW", Boolean.class);
+
   private final AdapterContext context;
   private final Function<Class, TypeDef> typeAdapterFunction;
   private final Function<Type, TypeRef> referenceAdapterFunction;
   private final Function<Field, Property> propertyAdapterFunction;
   private final Function<Method, io.sundr.model.Method> methodAdapterFunction;
-  private final Set<Class> references = new HashSet<>();
+  //Adapters are shared by all the threads of a context, so the classes referenced during adaptation are collected in a
+  //concurrent set.
+  private final Set<Class> references = ConcurrentHashMap.newKeySet();
 
   @Override
   public Function<Class, TypeDef> getTypeAdapterFunction() {
@@ -47,10 +56,20 @@ public class ReflectionAdapter implements Adapter<Class, Type, Field, Method> {
   public ReflectionAdapter(AdapterContext context) {
     this.context = context;
     this.referenceAdapterFunction = new TypeToTypeRef(references);
-    this.typeAdapterFunction = new ClassToTypeDef(context, references, referenceAdapterFunction,
-        new TypeToTypeParamDef(referenceAdapterFunction),
-        new AnnotationClassToAnnotationRef(referenceAdapterFunction),
-        new ClassToKind());
+    if (Boolean.TRUE.equals(context.getAttribute(SHALLOW))) {
+      // Shallow adaptation never registers referenced classes, so it collects them in a set of its own.
+      Set<Class> shallowReferences = ConcurrentHashMap.newKeySet();
+      Function<Type, TypeRef> shallowReferenceAdapterFunction = new TypeToTypeRef(shallowReferences);
+      this.typeAdapterFunction = new ClassToTypeDef(context, shallowReferences, shallowReferenceAdapterFunction,
+          new TypeToTypeParamDef(shallowReferenceAdapterFunction),
+          new AnnotationClassToAnnotationRef(shallowReferenceAdapterFunction),
+          new ClassToKind());
+    } else {
+      this.typeAdapterFunction = new ClassToTypeDef(context, references, referenceAdapterFunction,
+          new TypeToTypeParamDef(referenceAdapterFunction),
+          new AnnotationClassToAnnotationRef(referenceAdapterFunction),
+          new ClassToKind());
+    }
     this.propertyAdapterFunction = null;
     this.methodAdapterFunction = null;
   }
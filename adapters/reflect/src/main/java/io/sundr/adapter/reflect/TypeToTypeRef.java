@@ -35,6 +35,7 @@ import io.sundr.model.ClassRefBuilder;
 import io.sundr.model.PrimitiveRefBuilder;
 import io.sundr.model.TypeParamRefBuilder;
 import io.sundr.model.TypeRef;
+import io.sundr.model.TypeRefPool;
 import io.sundr.model.VoidRefBuilder;
 import io.sundr.model.WildcardRefBuilder;
 
@@ -48,6 +49,10 @@ public class TypeToTypeRef implements Function<Type, TypeRef> {
 
   @Override
   public TypeRef apply(Type item) {
+    return TypeRefPool.intern(toTypeRef(item));
+  }
+
+  private TypeRef toTypeRef(Type item) {
     if (item == null) {
       return new VoidRefBuilder().build();
     } else if (item instanceof WildcardType) {
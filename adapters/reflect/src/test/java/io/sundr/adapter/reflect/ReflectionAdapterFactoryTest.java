@@ -17,18 +17,36 @@
 
 package io.sundr.adapter.reflect;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Test;
 
 import io.sundr.adapter.api.Adapter;
 import io.sundr.adapter.api.AdapterContext;
 import io.sundr.adapter.api.Adapters;
+import io.sundr.model.TypeDef;
 import io.sundr.model.repo.DefinitionRepository;
 
 public class ReflectionAdapterFactoryTest {
@@ -52,4 +70,36 @@ public class ReflectionAdapterFactoryTest {
     adapter.ifPresent(a -> {
     });
   }
+
+  @Test
+  public void shouldReuseAdapterWithinContext() throws Exception {
+    Adapter<Class, Type, Field, Method> adapter = createAdapter().get();
+    assertSame(adapter, createAdapter().get());
+    assertSame(adapter, Adapters.getAdapterForReference(Class.class, context).get());
+    assertFalse(Adapters.getAdapterForType(String.class, context).isPresent());
+
+    AdapterContext other = AdapterContext.create(DefinitionRepository.createRepository());
+    assertNotSame(adapter, Adapters.getAdapterForType(Class.class, other).get());
+  }
+
+  @Test
+  public void shouldShareAdapterAcrossThreads() throws Exception {
+    AdapterContext shared = AdapterContext.create(DefinitionRepository.createRepository());
+    Adapter<Class, Type, Field, Method> adapter = Adapters.<Class, Type, Field, Method> getAdapterForType(Class.class, shared)
+        .get();
+    List<Class> types = Arrays.asList(ArrayList.class, HashMap.class, LinkedList.class, TreeMap.class, HashSet.class,
+        TreeSet.class, ConcurrentHashMap.class, ConcurrentLinkedQueue.class);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<TypeDef>> futures = new ArrayList<>();
+      for (Class type : types) {
+        futures.add(executor.submit(() -> shared.call(() -> adapter.adaptType(type))));
+      }
+      for (int i = 0; i < types.size(); i++) {
+        assertEquals(types.get(i).getName(), futures.get(i).get().getFullyQualifiedName());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
 }
@@ -0,0 +1,73 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+package io.sundr.adapter.reflect;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.sundr.adapter.api.AdapterContext;
+import io.sundr.model.AttributeKey;
+import io.sundr.model.TypeDef;
+import io.sundr.model.repo.DefinitionRepository;
+
+public class ShallowReflectionAdapterTest {
+
+  private final DefinitionRepository repository = DefinitionRepository.createRepository();
+  private final ReflectionAdapter adapter = new ReflectionAdapter(createContext());
+
+  private AdapterContext createContext() {
+    Map<AttributeKey, Object> attributes = new HashMap<>();
+    attributes.put(ReflectionAdapter.SHALLOW, true);
+    return AdapterContext.create(repository, attributes);
+  }
+
+  @Test
+  public void shouldNotRegisterReferencedClasses() throws Exception {
+    TypeDef typeDef = adapter.adaptType(ArrayList.class);
+    assertTrue(repository.hasDefinition("java.util.ArrayList"));
+    assertFalse(repository.hasDefinition("java.util.AbstractList"));
+    assertEquals("java.util.AbstractList", typeDef.getExtendsList().get(0).getFullyQualifiedName());
+  }
+
+  @Test
+  public void shouldAdaptMembersOnAccess() throws Exception {
+    TypeDef typeDef = adapter.adaptType(ArrayList.class);
+    assertTrue(typeDef.getMethods().stream().anyMatch(m -> m.getName().equals("add")));
+    assertFalse(typeDef.getConstructors().isEmpty());
+    assertTrue(typeDef.getConstructors().stream().allMatch(c -> c.getName() == null));
+  }
+
+  @Test
+  public void shouldCacheAdaptedClasses() throws Exception {
+    assertSame(adapter.adaptType(ArrayList.class), adapter.adaptType(ArrayList.class));
+  }
+
+  @Test
+  public void shouldCacheAdaptedClassesPerAdapter() throws Exception {
+    ReflectionAdapter other = new ReflectionAdapter(createContext());
+    assertNotSame(adapter.adaptType(ArrayList.class), other.adaptType(ArrayList.class));
+  }
+}
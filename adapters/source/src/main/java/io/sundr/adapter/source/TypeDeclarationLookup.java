@@ -18,8 +18,6 @@
 package io.sundr.adapter.source;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
@@ -31,6 +29,11 @@ import io.sundr.adapter.source.utils.Sources;
 
 public class TypeDeclarationLookup implements TypeLookup<TypeDeclaration> {
 
+  @Override
+  public int getPriority() {
+    return 300;
+  }
+
   @Override
   public Optional<TypeDeclaration> forName(String fullyQualifiedName) {
     //1. Lookup resources
@@ -46,9 +49,9 @@ public class TypeDeclarationLookup implements TypeLookup<TypeDeclaration> {
 
     //2. Lookup project path
     return Project.findJavaSourceFile(fullyQualifiedName).flatMap(f -> {
-      try (FileInputStream fis = new FileInputStream(f.toFile())) {
-        return Optional.ofNullable(Sources.readTypeFromStream(fis));
-      } catch (IOException e) {
+      try {
+        return Sources.readTypesFromFile(f).stream().findFirst();
+      } catch (Exception e) {
         return Optional.empty();
       }
     });
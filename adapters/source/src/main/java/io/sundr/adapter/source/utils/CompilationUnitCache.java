@@ -0,0 +1,96 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.source.utils;
+
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+
+/**
+ * A cache of parsed {@link CompilationUnit} instances per file.
+ *
+ * Entries are validated against the last modified time and the size of the file, so a file is parsed again only when
+ * it changes. Compilation units are softly referenced, so that they can be reclaimed under memory pressure.
+ * Cached compilation units are shared and must not be modified.
+ */
+public final class CompilationUnitCache {
+
+  private static final ConcurrentMap<Path, Entry> CACHE = new ConcurrentHashMap<>();
+
+  private CompilationUnitCache() {
+    //Utility class
+  }
+
+  /**
+   * Get the compilation unit of the specified file, parsing the file if it's not cached or has been modified.
+   *
+   * @param path the path to the file.
+   * @return the compilation unit.
+   */
+  public static CompilationUnit get(Path path) {
+    Path key = path.toAbsolutePath().normalize();
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+      long lastModified = attributes.lastModifiedTime().toMillis();
+      long size = attributes.size();
+
+      Entry entry = CACHE.get(key);
+      CompilationUnit cu = entry != null && entry.isValid(lastModified, size) ? entry.compilationUnit.get() : null;
+      if (cu == null) {
+        try (InputStream is = Files.newInputStream(key)) {
+          cu = JavaParser.parse(is);
+        }
+        CACHE.put(key, new Entry(lastModified, size, cu));
+      }
+      return cu;
+    } catch (Exception e) {
+      throw new RuntimeException("Failed to load file: [" + key + "] from file system.", e);
+    }
+  }
+
+  /**
+   * Remove all cached compilation units.
+   */
+  public static void clear() {
+    CACHE.clear();
+  }
+
+  private static final class Entry {
+
+    private final long lastModified;
+    private final long size;
+    private final SoftReference<CompilationUnit> compilationUnit;
+
+    private Entry(long lastModified, long size, CompilationUnit compilationUnit) {
+      this.lastModified = lastModified;
+      this.size = size;
+      this.compilationUnit = new SoftReference<>(compilationUnit);
+    }
+
+    private boolean isValid(long lastModified, long size) {
+      return this.lastModified == lastModified && this.size == size;
+    }
+  }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.source.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.TypeDeclaration;
+
+import io.sundr.SundrException;
+import io.sundr.adapter.api.AdapterContext;
+import io.sundr.adapter.api.Adapters;
+import io.sundr.model.TypeDef;
+
+/**
+ * Adapts all the java sources of a directory or jar, parsing and adapting files in parallel.
+ *
+ * Each file is parsed by its own parser and adapted within the scope of the {@link AdapterContext}, whose repository
+ * supports concurrent registration. The resulting definitions are returned in the order of the files (sorted by
+ * path), regardless of the order they were adapted in.
+ */
+class ParallelSources {
+
+  private static final String JAVA_SUFFIX = ".java";
+  private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+  private ParallelSources() {
+    //Utility class
+  }
+
+  static List<TypeDef> readTypeDefsFromDirectory(Path directory, AdapterContext ctx, int parallelism) {
+    List<Path> files;
+    try (Stream<Path> paths = Files.walk(directory)) {
+      files = paths.filter(p -> p.getFileName().toString().endsWith(JAVA_SUFFIX) && Files.isRegularFile(p))
+          .sorted()
+          .collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new SundrException("Failed to list sources of: [" + directory + "].", e);
+    }
+    List<Callable<List<TypeDef>>> tasks = new ArrayList<>(files.size());
+    for (Path file : files) {
+      tasks.add(() -> adapt(CompilationUnitCache.get(file), ctx));
+    }
+    return run(tasks, ctx, parallelism);
+  }
+
+  static List<TypeDef> readTypeDefsFromJar(Path jar, AdapterContext ctx, int parallelism) {
+    try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+      List<ZipEntry> entries = new ArrayList<>();
+      Enumeration<? extends ZipEntry> enumeration = zipFile.entries();
+      while (enumeration.hasMoreElements()) {
+        ZipEntry entry = enumeration.nextElement();
+        if (!entry.isDirectory() && entry.getName().endsWith(JAVA_SUFFIX)) {
+          entries.add(entry);
+        }
+      }
+      entries.sort((l, r) -> l.getName().compareTo(r.getName()));
+
+      List<Callable<List<TypeDef>>> tasks = new ArrayList<>(entries.size());
+      for (ZipEntry entry : entries) {
+        tasks.add(() -> {
+          try (InputStream is = zipFile.getInputStream(entry)) {
+            return adapt(JavaParser.parse(is), ctx);
+          } catch (Exception e) {
+            throw new SundrException("Failed to parse: [" + entry.getName() + "] from: [" + jar + "].", e);
+          }
+        });
+      }
+      return run(tasks, ctx, parallelism);
+    } catch (IOException e) {
+      throw new SundrException("Failed to read sources jar: [" + jar + "].", e);
+    }
+  }
+
+  private static List<TypeDef> adapt(CompilationUnit cu, AdapterContext ctx) {
+    List<TypeDef> result = new ArrayList<>();
+    for (TypeDeclaration typeDeclaration : cu.getTypes()) {
+      result.add(Adapters.adaptType(typeDeclaration, ctx));
+    }
+    return result;
+  }
+
+  private static List<TypeDef> run(List<Callable<List<TypeDef>>> tasks, AdapterContext ctx, int parallelism) {
+    if (tasks.isEmpty()) {
+      return new ArrayList<>();
+    }
+    int threads = Math.max(1, Math.min(parallelism, tasks.size()));
+    ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+      Thread thread = new Thread(r, "sundrio-source-adapter-" + THREAD_COUNTER.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      List<Future<List<TypeDef>>> futures = new ArrayList<>(tasks.size());
+      for (Callable<List<TypeDef>> task : tasks) {
+        futures.add(executor.submit(() -> ctx.call(task)));
+      }
+      List<TypeDef> result = new ArrayList<>();
+      for (Future<List<TypeDef>> future : futures) {
+        result.addAll(future.get());
+      }
+      return result;
+    } catch (ExecutionException e) {
+      throw SundrException.launderThrowable(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw SundrException.launderThrowable(e);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -1,12 +1,13 @@
 package io.sundr.adapter.source.utils;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+
+import io.sundr.utils.Strings;
 
 public class Project {
 
@@ -86,8 +87,14 @@ public class Project {
   public static Optional<Path> findJavaFile(File sourceRoot, String fqcn) {
     Optional<String> packageName = packageOf(fqcn);
     String className = classNameOf(fqcn);
+    SourceRootIndex index = SourceRootIndex.of(sourceRoot);
 
     if (packageName.isPresent()) {
+      Optional<Path> indexed = index.findByFullyQualifiedName(fqcn);
+      if (indexed.isPresent()) {
+        return indexed;
+      }
+      //The file may have been created after the source root was indexed.
       Optional<Path> path = packageName.map(p -> p.replaceAll(Pattern.quote("."), File.separator))
           .map(p -> new File(sourceRoot, p))
           .map(f -> new File(f, className + ".java"))
@@ -95,12 +102,13 @@ public class Project {
           .map(File::toPath);
       return path;
     }
-
-    try (Stream<Path> paths = Files.walk(sourceRoot.toPath())) {
-      return paths.filter(p -> p.toFile().getName().equals(className + ".java")).findFirst();
-    } catch (Exception e) {
-      throw new RuntimeException(e);
+    Optional<Path> indexed = index.findBySimpleName(className);
+    if (indexed.isPresent()) {
+      return indexed;
     }
+    //The file may have been created after the source root was indexed, which is only scanned again if it changed since.
+    SourceRootIndex refreshed = SourceRootIndex.refresh(sourceRoot);
+    return refreshed != index ? refreshed.findBySimpleName(className) : indexed;
   }
 
   /**
@@ -135,7 +143,9 @@ public class Project {
    */
   public static String readFile(Path path) {
     try {
-      return Files.readAllLines(path).stream().collect(Collectors.joining(NEWLINE));
+      String content = Strings.toLines(new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+      //Lines are joined, so there is no new line after the last one.
+      return content.isEmpty() ? content : content.substring(0, content.length() - NEWLINE.length());
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
@@ -0,0 +1,186 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.source.utils;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+/**
+ * An index of the java files found under a source root.
+ *
+ * The index is built once per source root, by a single scan, and maps fully qualified names and simple names to
+ * files. The fully qualified name is derived from the location of the file relative to the source root.
+ * Along with the files, the index records the modification time of each directory, so that it can cheaply tell whether
+ * files may have been added since (see {@link #refresh(File)}).
+ */
+public class SourceRootIndex {
+
+  private static final String JAVA_SUFFIX = ".java";
+  //Directories modified this close to the scan may have changed during the scan, without a visible change of their time.
+  private static final long MODIFICATION_TIME_RESOLUTION = 2000;
+  private static final ConcurrentMap<Path, SourceRootIndex> INDEXES = new ConcurrentHashMap<>();
+
+  private final Path root;
+  private final Map<String, Path> byFullyQualifiedName;
+  private final Map<String, List<Path>> bySimpleName;
+  private final Map<Path, FileTime> directories;
+  private final long scanned;
+
+  private SourceRootIndex(Path root, Map<String, Path> byFullyQualifiedName, Map<String, List<Path>> bySimpleName,
+      Map<Path, FileTime> directories, long scanned) {
+    this.root = root;
+    this.byFullyQualifiedName = byFullyQualifiedName;
+    this.bySimpleName = bySimpleName;
+    this.directories = directories;
+    this.scanned = scanned;
+  }
+
+  /**
+   * Get the index of the specified source root.
+   * The source root is scanned the first time its index is requested.
+   *
+   * @param sourceRoot the source root.
+   * @return the index, which is empty if the source root doesn't exist.
+   */
+  public static SourceRootIndex of(File sourceRoot) {
+    Path root = sourceRoot.toPath().toAbsolutePath().normalize();
+    if (!Files.isDirectory(root)) {
+      //Don't remember missing roots, they may be created later on.
+      return new SourceRootIndex(root, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(), 0);
+    }
+    return INDEXES.computeIfAbsent(root, SourceRootIndex::scan);
+  }
+
+  /**
+   * Get the index of the specified source root, scanning it again if it's {@link #isStale() stale}.
+   *
+   * @param sourceRoot the source root.
+   * @return the index, which is empty if the source root doesn't exist.
+   */
+  public static SourceRootIndex refresh(File sourceRoot) {
+    Path root = sourceRoot.toPath().toAbsolutePath().normalize();
+    if (!Files.isDirectory(root)) {
+      return of(sourceRoot);
+    }
+    return INDEXES.compute(root, (r, index) -> index == null || index.isStale() ? scan(r) : index);
+  }
+
+  /**
+   * Discard the index of the specified source root, so that it's scanned again the next time it's requested.
+   *
+   * @param sourceRoot the source root.
+   */
+  public static void invalidate(File sourceRoot) {
+    INDEXES.remove(sourceRoot.toPath().toAbsolutePath().normalize());
+  }
+
+  private static SourceRootIndex scan(Path root) {
+    Map<String, Path> byFullyQualifiedName = new HashMap<>();
+    Map<String, List<Path>> bySimpleName = new HashMap<>();
+    Map<Path, FileTime> directories = new HashMap<>();
+    long scanned = System.currentTimeMillis();
+    try (Stream<Path> paths = Files.walk(root)) {
+      paths.forEach(p -> {
+        if (Files.isDirectory(p)) {
+          directories.put(p, modificationTime(p));
+          return;
+        }
+        if (!p.getFileName().toString().endsWith(JAVA_SUFFIX)) {
+          return;
+        }
+        String relative = root.relativize(p).toString();
+        String fqcn = relative.substring(0, relative.length() - JAVA_SUFFIX.length()).replace(File.separatorChar, '.');
+        byFullyQualifiedName.putIfAbsent(fqcn, p);
+        bySimpleName.computeIfAbsent(Project.classNameOf(fqcn), k -> new ArrayList<>()).add(p);
+      });
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+    return new SourceRootIndex(root, byFullyQualifiedName, bySimpleName, directories, scanned);
+  }
+
+  private static FileTime modificationTime(Path directory) {
+    try {
+      return Files.getLastModifiedTime(directory);
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  /**
+   * Checks whether files may have been added to the source root since it was scanned, i.e. whether any of its
+   * directories has been modified (or was modified too close to the scan to tell).
+   * This only reads the attributes of the directories, it doesn't list them.
+   *
+   * @return true if the index is stale.
+   */
+  public boolean isStale() {
+    for (Map.Entry<Path, FileTime> directory : directories.entrySet()) {
+      FileTime recorded = directory.getValue();
+      if (recorded == null || recorded.toMillis() > scanned - MODIFICATION_TIME_RESOLUTION
+          || !recorded.equals(modificationTime(directory.getKey()))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public Path getRoot() {
+    return root;
+  }
+
+  /**
+   * Find the java file of the specified fully qualified class name.
+   *
+   * @param fqcn the fully qualified class name
+   * @return an optional path or empty if file not found.
+   */
+  public Optional<Path> findByFullyQualifiedName(String fqcn) {
+    return Optional.ofNullable(byFullyQualifiedName.get(fqcn)).filter(Files::exists);
+  }
+
+  /**
+   * Find the first java file (in scan order) with the specified class name.
+   *
+   * @param className the class name
+   * @return an optional path or empty if file not found.
+   */
+  public Optional<Path> findBySimpleName(String className) {
+    return bySimpleName.getOrDefault(className, Collections.emptyList()).stream().filter(Files::exists).findFirst();
+  }
+
+  /**
+   * The number of indexed files.
+   *
+   * @return the number of files.
+   */
+  public int size() {
+    return byFullyQualifiedName.size();
+  }
+}
@@ -22,6 +22,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -80,6 +81,17 @@ public class Sources {
     return readTypesFromStream(is).stream().findFirst().orElseThrow(() -> new IllegalStateException(NO_TYPE_FOUND));
   }
 
+  /**
+   * Read a {@link List} of {@link TypeDeclaration} instances from a file.
+   * The file is only parsed again if it has been modified since it was last read.
+   *
+   * @param path the {@link Path} to the file
+   * @return a {@link List} of {@link TypeDeclaration} instances.
+   */
+  public static List<TypeDeclaration> readTypesFromFile(Path path) {
+    return CompilationUnitCache.get(path).getTypes();
+  }
+
   /**
    * Read a {@link List} of {@link TypeDeclaration} instances from a classpath resource.
    *
@@ -124,6 +136,54 @@ public class Sources {
     return cu.getTypes().stream().map(t -> Adapters.adaptType(t, ctx)).collect(Collectors.toList());
   }
 
+  /**
+   * Read all {@link TypeDef} instances from the java files of a directory (including sub directories).
+   * Files are parsed and adapted in parallel, using as many threads as available processors.
+   *
+   * @param directory the {@link Path} to the directory
+   * @param ctx the {@link AdapterContext}
+   * @return a {@link List} of {@link TypeDef} instances, in the order of the files.
+   */
+  public static List<TypeDef> readTypeDefsFromDirectory(Path directory, AdapterContext ctx) {
+    return readTypeDefsFromDirectory(directory, ctx, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Read all {@link TypeDef} instances from the java files of a directory (including sub directories).
+   *
+   * @param directory the {@link Path} to the directory
+   * @param ctx the {@link AdapterContext}
+   * @param parallelism the number of files to parse and adapt concurrently
+   * @return a {@link List} of {@link TypeDef} instances, in the order of the files.
+   */
+  public static List<TypeDef> readTypeDefsFromDirectory(Path directory, AdapterContext ctx, int parallelism) {
+    return ParallelSources.readTypeDefsFromDirectory(directory, ctx, parallelism);
+  }
+
+  /**
+   * Read all {@link TypeDef} instances from the java files of a jar (e.g. a sources jar).
+   * Files are parsed and adapted in parallel, using as many threads as available processors.
+   *
+   * @param jar the {@link Path} to the jar
+   * @param ctx the {@link AdapterContext}
+   * @return a {@link List} of {@link TypeDef} instances, in the order of the entries.
+   */
+  public static List<TypeDef> readTypeDefsFromJar(Path jar, AdapterContext ctx) {
+    return readTypeDefsFromJar(jar, ctx, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Read all {@link TypeDef} instances from the java files of a jar (e.g. a sources jar).
+   *
+   * @param jar the {@link Path} to the jar
+   * @param ctx the {@link AdapterContext}
+   * @param parallelism the number of files to parse and adapt concurrently
+   * @return a {@link List} of {@link TypeDef} instances, in the order of the entries.
+   */
+  public static List<TypeDef> readTypeDefsFromJar(Path jar, AdapterContext ctx, int parallelism) {
+    return ParallelSources.readTypeDefsFromJar(jar, ctx, parallelism);
+  }
+
   private static final Function<File, CompilationUnit> FROM_FILE_TO_COMPILATIONUNIT = file -> {
     try (FileInputStream fis = new FileInputStream(file)) {
       return JavaParser.parse(fis);
@@ -1,5 +1,8 @@
 package io.sundr.adapter.source;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Optional;
@@ -10,7 +13,9 @@ import com.github.javaparser.ast.body.TypeDeclaration;
 
 import io.sundr.adapter.api.AdapterContext;
 import io.sundr.adapter.api.TypeLookup;
+import io.sundr.adapter.api.TypeLookupChain;
 import io.sundr.model.TypeDef;
+import io.sundr.model.repo.DefinitionRepository;
 
 public class TypeDeclarationLookupTest {
 
@@ -26,4 +31,34 @@ public class TypeDeclarationLookupTest {
     Optional<TypeDef> def = TypeLookup.lookup("io.sundr.adapter.source.utils.Project", AdapterContext.getContext());
     assertTrue(def.isPresent());
   }
+
+  @Test
+  public void testCachedTypeLookup() {
+    AdapterContext context = AdapterContext.create(DefinitionRepository.createRepository());
+    TypeLookupChain chain = context.getTypeLookupChain();
+    Optional<TypeDef> def = chain.lookup("io.sundr.adapter.source.utils.Project");
+    assertTrue(def.isPresent());
+    assertSame(def.get(), chain.lookup("io.sundr.adapter.source.utils.Project").get());
+
+    assertFalse(chain.lookup("io.sundr.adapter.source.utils.Missing").isPresent());
+    assertFalse(chain.lookup("io.sundr.adapter.source.utils.Missing").isPresent());
+    TypeLookupChain.Statistics statistics = chain.getStatistics().stream()
+        .filter(s -> s.getName().equals(TypeDeclarationLookup.class.getName()))
+        .findFirst().get();
+    assertEquals(1, statistics.getHits());
+    assertEquals(1, statistics.getMisses());
+
+    //A miss is looked up again, once a definition with the same name gets registered.
+    context.getDefinitionRepository().register(TypeDef.forName("io.sundr.adapter.source.utils.Missing"));
+    chain.lookup("io.sundr.adapter.source.utils.Missing");
+    assertEquals(2, statistics.getMisses());
+
+    //Misses are dropped when the chain is cleared.
+    chain.lookup("io.sundr.adapter.source.utils.Other");
+    chain.lookup("io.sundr.adapter.source.utils.Other");
+    assertEquals(3, statistics.getMisses());
+    chain.clear();
+    chain.lookup("io.sundr.adapter.source.utils.Other");
+    assertEquals(4, statistics.getMisses());
+  }
 }
@@ -0,0 +1,52 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.adapter.source.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.Test;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.TypeDeclaration;
+
+public class CompilationUnitCacheTest {
+
+  @Test
+  public void shouldParseOnlyModifiedFiles() throws Exception {
+    Path file = Files.createTempFile("Cached", ".java");
+    try {
+      Files.write(file, "class Foo {}".getBytes());
+      CompilationUnit cu = CompilationUnitCache.get(file);
+      assertSame(cu, CompilationUnitCache.get(file));
+
+      Files.write(file, "class Bar {}".getBytes());
+      Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10000));
+      CompilationUnit modified = CompilationUnitCache.get(file);
+      assertNotSame(cu, modified);
+      assertEquals("Bar", ((TypeDeclaration) modified.getTypes().get(0)).getName());
+    } finally {
+      Files.delete(file);
+    }
+  }
+}
@@ -1,7 +1,15 @@
 package io.sundr.adapter.source.utils;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+
 import org.junit.Test;
 
 public class ProjectTest {
@@ -26,4 +34,54 @@ public class ProjectTest {
   public void shoudFindClassByName() {
     assertTrue(Project.findJavaSourceFile("Project").isPresent());
   }
+
+  @Test
+  public void shouldIndexSourceRoot() {
+    SourceRootIndex index = SourceRootIndex.of(Project.SRC_MAIN_JAVA);
+    assertSame(index, SourceRootIndex.of(Project.SRC_MAIN_JAVA));
+    assertTrue(index.findByFullyQualifiedName("io.sundr.adapter.source.utils.Project").isPresent());
+    assertEquals(index.findByFullyQualifiedName("io.sundr.adapter.source.utils.Project"), index.findBySimpleName("Project"));
+    assertFalse(index.findBySimpleName("Missing").isPresent());
+  }
+
+  @Test
+  public void shouldFindClassByNameCreatedAfterIndexing() throws Exception {
+    File root = Files.createTempDirectory("sources").toFile();
+    try {
+      assertFalse(Project.findJavaFile(root, "Created").isPresent());
+      File pkg = new File(root, "my/pkg");
+      assertTrue(pkg.mkdirs());
+      Files.write(new File(pkg, "Created.java").toPath(), "package my.pkg; class Created {}".getBytes());
+      assertTrue(Project.findJavaFile(root, "Created").isPresent());
+    } finally {
+      SourceRootIndex.invalidate(root);
+      Files.walk(root.toPath()).sorted((l, r) -> r.compareTo(l)).forEach(p -> p.toFile().delete());
+    }
+  }
+
+  @Test
+  public void shouldOnlyRescanModifiedSourceRoot() throws Exception {
+    File root = Files.createTempDirectory("sources").toFile();
+    try {
+      File pkg = new File(root, "my/pkg");
+      assertTrue(pkg.mkdirs());
+      FileTime past = FileTime.fromMillis(System.currentTimeMillis() - 60000);
+      for (File dir : new File[] { root, pkg.getParentFile(), pkg }) {
+        Files.setLastModifiedTime(dir.toPath(), past);
+      }
+
+      SourceRootIndex index = SourceRootIndex.of(root);
+      assertFalse(index.isStale());
+      assertSame(index, SourceRootIndex.refresh(root));
+
+      Files.write(new File(pkg, "Created.java").toPath(), "package my.pkg; class Created {}".getBytes());
+      assertTrue(index.isStale());
+      SourceRootIndex refreshed = SourceRootIndex.refresh(root);
+      assertNotSame(index, refreshed);
+      assertTrue(refreshed.findBySimpleName("Created").isPresent());
+    } finally {
+      SourceRootIndex.invalidate(root);
+      Files.walk(root.toPath()).sorted((l, r) -> r.compareTo(l)).forEach(p -> p.toFile().delete());
+    }
+  }
 }
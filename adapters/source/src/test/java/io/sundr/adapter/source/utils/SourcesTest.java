@@ -17,7 +17,19 @@
 
 package io.sundr.adapter.source.utils;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.junit.Test;
 
@@ -34,4 +46,47 @@ public class SourcesTest {
     TypeDef typeDef = Sources.readTypeDefFromResource("java/util/List.java", context);
     assertNotNull(typeDef);
   }
+
+  @Test
+  public void shouldAdaptDirectory() throws Exception {
+    Path directory = Files.createTempDirectory("sources");
+    try {
+      for (int i = 0; i < 10; i++) {
+        Path file = directory.resolve("io/sundr/example/p" + i + "/Type" + i + ".java");
+        Files.createDirectories(file.getParent());
+        Files.write(file, ("package io.sundr.example.p" + i + "; public class Type" + i + " { private String name; }")
+            .getBytes());
+      }
+      AdapterContext ctx = AdapterContext.create(DefinitionRepository.createRepository());
+      List<String> names = Sources.readTypeDefsFromDirectory(directory, ctx, 4).stream()
+          .map(TypeDef::getFullyQualifiedName).collect(Collectors.toList());
+      assertEquals(10, names.size());
+      assertEquals("io.sundr.example.p0.Type0", names.get(0));
+      assertEquals(names, Sources.readTypeDefsFromDirectory(directory, ctx, 1).stream()
+          .map(TypeDef::getFullyQualifiedName).collect(Collectors.toList()));
+      assertTrue(ctx.getDefinitionRepository().hasDefinition("io.sundr.example.p9.Type9"));
+    } finally {
+      try (Stream<Path> paths = Files.walk(directory)) {
+        paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+      }
+    }
+  }
+
+  @Test
+  public void shouldAdaptJar() throws Exception {
+    Path jar = Files.createTempFile("sources", ".jar");
+    try {
+      try (OutputStream os = Files.newOutputStream(jar); ZipOutputStream zos = new ZipOutputStream(os)) {
+        zos.putNextEntry(new ZipEntry("java/util/List.java"));
+        Files.copy(Project.SRC_TEST.toPath().resolve("resources/java/util/List.java"), zos);
+        zos.closeEntry();
+      }
+      AdapterContext ctx = AdapterContext.create(DefinitionRepository.createRepository());
+      List<TypeDef> typeDefs = Sources.readTypeDefsFromJar(jar, ctx);
+      assertEquals(1, typeDefs.size());
+      assertEquals("java.util.List", typeDefs.get(0).getFullyQualifiedName());
+    } finally {
+      Files.delete(jar);
+    }
+  }
 }
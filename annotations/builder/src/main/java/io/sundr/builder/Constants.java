@@ -66,6 +66,8 @@ public class Constants {
       "LAZY_COLLECTIONS_INIT_ENABLED", Boolean.class);
   public static final AttributeKey<Boolean> LAZY_MAP_INIT_ENABLED = new AttributeKey<Boolean>("LAZY_MAPS_INIT_ENABLED",
       Boolean.class);
+  public static final AttributeKey<Boolean> COMPACT_FLUENT_ENABLED = new AttributeKey<Boolean>("COMPACT_FLUENT_ENABLED",
+      Boolean.class);
 
   public static final AttributeKey<Boolean> EDITABLE_ENABLED = new AttributeKey<Boolean>("EDITABLE_ENABLED", Boolean.class);
   public static final AttributeKey<Boolean> BUILDABLE_ENABLED = new AttributeKey<Boolean>("BUILDABLE_ENABLED", Boolean.class);
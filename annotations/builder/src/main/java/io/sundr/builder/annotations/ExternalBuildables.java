@@ -35,6 +35,14 @@ public @interface ExternalBuildables {
 
   boolean lazyMapInitEnabled() default true;
 
+  /**
+   * When enabled, the collection methods of the generated fluent (e.g. addTo, setTo, removeFrom, removeMatchingFrom,
+   * buildMatching, hasMatching) are thin facades that delegate to the shared helpers of the BaseFluent.
+   *
+   * @return true if compact fluents should be generated, false otherwise.
+   */
+  boolean compactFluentEnabled() default false;
+
   boolean generateBuilderPackage() default false;
 
   String builderPackage() default Constants.DEFAULT_BUILDER_PACKAGE;
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.builder.internal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.sundr.model.Method;
+import io.sundr.model.TypeDef;
+
+/**
+ * An immutable snapshot of the {@link BuildableRepository}, keyed by fully qualified name.
+ * Along with the snapshot, the index holds memoized answers to the questions that are repeatedly asked during generation
+ * (e.g. is a type buildable, which are its buildable descendants). The answers are only valid for the snapshot, so a new
+ * index is created as soon as a buildable is registered. Answers that depend on other definitions (e.g. whether a type
+ * has a builder) are not memoized, as those definitions may be registered at any time.
+ */
+public final class BuildableIndex {
+
+  private static final Object NULL = new Object();
+
+  private final Map<String, TypeDef> buildables;
+  private final Set<TypeDef> values;
+
+  private final Map<String, Boolean> canBeBuilt = new ConcurrentHashMap<>();
+  private final Map<String, Set<TypeDef>> descendants = new ConcurrentHashMap<>();
+  private final Map<TypeDef, Object> constructors = Collections.synchronizedMap(new IdentityHashMap<>());
+
+  BuildableIndex(Map<String, TypeDef> buildables) {
+    this.buildables = Collections.unmodifiableMap(new HashMap<>(buildables));
+    this.values = Collections.unmodifiableSet(new LinkedHashSet<>(buildables.values()));
+  }
+
+  public Set<TypeDef> getBuildables() {
+    return values;
+  }
+
+  public TypeDef get(String fullyQualifiedName) {
+    return buildables.get(fullyQualifiedName);
+  }
+
+  public boolean contains(String fullyQualifiedName) {
+    return buildables.containsKey(fullyQualifiedName);
+  }
+
+  /**
+   * Checks if the type is registered as buildable and can actually be built.
+   *
+   * @param fullyQualifiedName the fully qualified name of the type.
+   * @param canBeBuilt computes whether the type can be built (only invoked once per type).
+   * @return true if buildable, false otherwise.
+   */
+  public boolean isBuildable(String fullyQualifiedName, Supplier<Boolean> canBeBuilt) {
+    return contains(fullyQualifiedName) && memoize(this.canBeBuilt, fullyQualifiedName, canBeBuilt);
+  }
+
+  public Set<TypeDef> getDescendants(String fullyQualifiedName, Supplier<Set<TypeDef>> descendants) {
+    return memoize(this.descendants, fullyQualifiedName, descendants);
+  }
+
+  public boolean hasDescendants(String fullyQualifiedName, Supplier<Set<TypeDef>> descendants) {
+    return !getDescendants(fullyQualifiedName, descendants).isEmpty();
+  }
+
+  public Method getBuildableConstructor(TypeDef type, Supplier<Method> constructor) {
+    Object result = constructors.get(type);
+    if (result == null) {
+      Method m = constructor.get();
+      constructors.put(type, m != null ? m : NULL);
+      return m;
+    }
+    return result != NULL ? (Method) result : null;
+  }
+
+  /**
+   * We intentionally don't use computeIfAbsent, as computing a value may recursively query the index.
+   */
+  private static <K, V> V memoize(Map<K, V> cache, K key, Supplier<V> supplier) {
+    V result = cache.get(key);
+    if (result == null) {
+      result = supplier.get();
+      cache.put(key, result);
+    }
+    return result;
+  }
+}
@@ -16,51 +16,71 @@
 
 package io.sundr.builder.internal;
 
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
 import io.sundr.model.ClassRef;
 import io.sundr.model.TypeDef;
 import io.sundr.model.TypeRef;
-import io.sundr.model.functions.GetDefinition;
 
 public class BuildableRepository {
 
   private final Map<String, TypeDef> buildables = new HashMap<String, TypeDef>();
+  private volatile BuildableIndex index;
 
-  public TypeDef register(TypeDef buildable) {
+  public synchronized TypeDef register(TypeDef buildable) {
     if (buildable != null) {
       buildables.put(buildable.getFullyQualifiedName(), buildable);
+      index = null;
     }
     return buildable;
   }
 
+  /**
+   * Returns the index of the buildables registered so far.
+   * The index is immutable and is created lazily, after one or more buildables have been registered.
+   *
+   * @return the current index.
+   */
+  public BuildableIndex getIndex() {
+    BuildableIndex current = index;
+    if (current == null) {
+      synchronized (this) {
+        current = index;
+        if (current == null) {
+          current = new BuildableIndex(buildables);
+          index = current;
+        }
+      }
+    }
+    return current;
+  }
+
   public Set<TypeDef> getBuildables() {
-    return Collections.unmodifiableSet(new LinkedHashSet<TypeDef>(buildables.values()));
+    return getIndex().getBuildables();
   }
 
   public TypeDef getBuildable(TypeRef type) {
     if (type instanceof ClassRef) {
-      return buildables.get(GetDefinition.of((ClassRef) type).getFullyQualifiedName());
+      return getIndex().get(((ClassRef) type).getFullyQualifiedName());
     }
     return null;
   }
 
   public boolean isBuildable(TypeDef type) {
-    return type != null && buildables.containsKey(type.getFullyQualifiedName());
+    return type != null && getIndex().contains(type.getFullyQualifiedName());
   }
 
   public boolean isBuildable(TypeRef type) {
     if (type instanceof ClassRef) {
-      return isBuildable(GetDefinition.of((ClassRef) type));
+      return getIndex().contains(((ClassRef) type).getFullyQualifiedName());
     }
     return false;
   }
 
-  public void clear() {
+  public synchronized void clear() {
     buildables.clear();
+    index = null;
   }
 }
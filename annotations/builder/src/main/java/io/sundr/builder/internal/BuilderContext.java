@@ -91,10 +91,16 @@ public class BuilderContext {
 
   public BuilderContext(Elements elements, Types types, Boolean generateBuilderPackage, Boolean validationEnabled,
       String builderPackage, Inline... inlineables) {
-    this.elements = elements;
-    this.types = types;
+    this(AptContext.create(elements, types, DefinitionRepository.getRepository()), generateBuilderPackage,
+        validationEnabled, builderPackage, inlineables);
+  }
+
+  public BuilderContext(AptContext aptContext, Boolean generateBuilderPackage, Boolean validationEnabled,
+      String builderPackage, Inline... inlineables) {
+    this.elements = aptContext.getElements();
+    this.types = aptContext.getTypes();
     this.validationEnabled = validationEnabled;
-    this.aptContext = AptContext.create(elements, types, DefinitionRepository.getRepository());
+    this.aptContext = aptContext;
     this.generateBuilderPackage = generateBuilderPackage;
     this.builderPackage = builderPackage;
     this.inlineables = inlineables;
@@ -982,6 +988,32 @@ public class BuilderContext {
         .accept(new ApplyImportsFromResources("io/sundr/builder/Visitable.java"))
         .build();
 
+    // type parameters and references used by the compact fluent helpers
+    TypeParamDef B = new TypeParamDefBuilder()
+        .withName("B")
+        .withBounds(visitableInterface.toReference(new WildcardRef()))
+        .build();
+
+    TypeParamDef BT = new TypeParamDefBuilder()
+        .withName("B")
+        .withBounds(builderInterface
+            .toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(T.toReference()).build()))
+        .build();
+
+    TypeParamDef E = new TypeParamDefBuilder()
+        .withName("E")
+        .build();
+
+    ClassRef predicateOfB = new ClassRefBuilder()
+        .withFullyQualifiedName(Predicate.class.getName())
+        .withArguments(new WildcardRefBuilder().withBoundKind(BoundKind.SUPER).withBounds(B.toReference()).build())
+        .build();
+
+    ClassRef predicateOfE = new ClassRefBuilder()
+        .withFullyQualifiedName(Predicate.class.getName())
+        .withArguments(new WildcardRefBuilder().withBoundKind(BoundKind.SUPER).withBounds(E.toReference()).build())
+        .build();
+
     baseFluentClass = new TypeDefBuilder()
         .withNewModifiers().withPublic().endModifiers()
         .withKind(Kind.CLASS)
@@ -1072,6 +1104,85 @@ public class BuilderContext {
         .withVarArgPreferred(true)
         .endMethod()
 
+        .addNewMethod()
+        .withNewModifiers().withProtected().endModifiers()
+        .withName("_addTo")
+        .withParameters(B)
+        .withReturnType(new VoidRef())
+        .addNewArgument().withTypeRef(STRING_REF).withName("name").endArgument()
+        .addNewArgument().withTypeRef(COLLECTION.toReference(B.toReference())).withName("collection").endArgument()
+        .addNewArgument().withTypeRef(B.toReference()).withName("builder").endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().endModifiers()
+        .withName("_addTo")
+        .withParameters(B)
+        .withReturnType(new VoidRef())
+        .addNewArgument().withTypeRef(STRING_REF).withName("name").endArgument()
+        .addNewArgument().withTypeRef(Collections.LIST.toReference(B.toReference())).withName("list").endArgument()
+        .addNewArgument().withTypeRef(PRIMITIVE_INT_REF).withName("index").endArgument()
+        .addNewArgument().withTypeRef(B.toReference()).withName("builder").endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().endModifiers()
+        .withName("_setTo")
+        .withParameters(B)
+        .withReturnType(new VoidRef())
+        .addNewArgument().withTypeRef(STRING_REF).withName("name").endArgument()
+        .addNewArgument().withTypeRef(Collections.LIST.toReference(B.toReference())).withName("list").endArgument()
+        .addNewArgument().withTypeRef(PRIMITIVE_INT_REF).withName("index").endArgument()
+        .addNewArgument().withTypeRef(B.toReference()).withName("builder").endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().endModifiers()
+        .withName("_removeFrom")
+        .withParameters(B)
+        .withReturnType(new VoidRef())
+        .addNewArgument().withTypeRef(STRING_REF).withName("name").endArgument()
+        .addNewArgument().withTypeRef(COLLECTION.toReference(B.toReference())).withName("collection").endArgument()
+        .addNewArgument().withTypeRef(B.toReference()).withName("builder").endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().endModifiers()
+        .withName("_removeMatchingFrom")
+        .withParameters(B)
+        .withReturnType(new VoidRef())
+        .addNewArgument().withTypeRef(STRING_REF).withName("name").endArgument()
+        .addNewArgument().withTypeRef(COLLECTION.toReference(B.toReference())).withName("collection").endArgument()
+        .addNewArgument().withTypeRef(predicateOfB).withName("predicate").endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().withStatic().endModifiers()
+        .withName("_buildMatching")
+        .withParameters(T, BT)
+        .withReturnType(T.toReference())
+        .addNewArgument().withTypeRef(COLLECTION.toReference(BT.toReference())).withName("builders").endArgument()
+        .addNewArgument().withTypeRef(predicateOfB).withName("predicate").endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().withStatic().endModifiers()
+        .withName("_getMatching")
+        .withParameters(E)
+        .withReturnType(E.toReference())
+        .addNewArgument().withTypeRef(COLLECTION.toReference(E.toReference())).withName("items").endArgument()
+        .addNewArgument().withTypeRef(predicateOfE).withName("predicate").endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().withStatic().endModifiers()
+        .withName("_hasMatching")
+        .withParameters(E)
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument().withTypeRef(COLLECTION.toReference(E.toReference())).withName("items").endArgument()
+        .addNewArgument().withTypeRef(predicateOfE).withName("predicate").endArgument()
+        .endMethod()
+
         .addNewMethod()
         .withNewModifiers().withPublic().endModifiers()
         .withName("getVisitableMap")
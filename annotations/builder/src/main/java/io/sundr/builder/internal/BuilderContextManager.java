@@ -54,7 +54,9 @@ public class BuilderContextManager {
       } else if (!generateBuilderPackage.equals(context.getGenerateBuilderPackage())) {
         throw new IllegalStateException("Cannot use different values for generate builder package in a single project.");
       } else if (validationEnabled && !context.isValidationEnabled()) {
-        context = new BuilderContext(elements, types, generateBuilderPackage, validationEnabled, packageName, inlineables);
+        //Keep the adaptation context (and its caches) around.
+        context = new BuilderContext(context.getAptContext(), generateBuilderPackage, validationEnabled, packageName,
+            inlineables);
         return context;
       } else {
         return context;
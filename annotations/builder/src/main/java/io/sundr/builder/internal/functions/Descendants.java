@@ -25,6 +25,7 @@ import static io.sundr.model.utils.Collections.IS_MAP;
 import static io.sundr.utils.Strings.compact;
 import static io.sundr.utils.Strings.deCapitalizeFirst;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -36,7 +37,7 @@ import java.util.regex.Pattern;
 import io.sundr.FunctionFactory;
 import io.sundr.builder.annotations.FilterDescendants;
 import io.sundr.builder.annotations.IgnoreDescendants;
-import io.sundr.builder.internal.BuildableRepository;
+import io.sundr.builder.internal.BuildableIndex;
 import io.sundr.builder.internal.BuilderContext;
 import io.sundr.builder.internal.BuilderContextManager;
 import io.sundr.builder.internal.visitors.InitEnricher;
@@ -55,28 +56,27 @@ public class Descendants {
 
   private static final String VALUE = "value";
 
-  public static final Function<TypeDef, Set<TypeDef>> BUILDABLE_DECENDANTS = FunctionFactory
-      .cache(new Function<TypeDef, Set<TypeDef>>() {
-        @Override
-        public Set<TypeDef> apply(TypeDef item) {
-          if (item.equals(TypeDef.OBJECT)) {
-            return new LinkedHashSet<TypeDef>();
-          }
-
-          Set<TypeDef> result = new LinkedHashSet<TypeDef>();
-          BuilderContext ctx = BuilderContextManager.getContext();
-          BuildableRepository repository = ctx.getBuildableRepository();
-
-          for (TypeDef type : repository.getBuildables()) {
+  public static final Function<TypeDef, Set<TypeDef>> BUILDABLE_DECENDANTS = new Function<TypeDef, Set<TypeDef>>() {
+    @Override
+    public Set<TypeDef> apply(TypeDef item) {
+      if (item.equals(TypeDef.OBJECT)) {
+        return new LinkedHashSet<TypeDef>();
+      }
 
-            if (type.getKind() == Kind.CLASS && !type.isAbstract() && isDescendant(type, item) && !type.equals(item)
-                && !type.hasAttribute(GENERATED)) {
-              result.add(type);
-            }
+      BuilderContext ctx = BuilderContextManager.getContext();
+      BuildableIndex index = ctx.getBuildableRepository().getIndex();
+      return index.getDescendants(item.getFullyQualifiedName(), () -> {
+        Set<TypeDef> result = new LinkedHashSet<TypeDef>();
+        for (TypeDef type : index.getBuildables()) {
+          if (type.getKind() == Kind.CLASS && !type.isAbstract() && isDescendant(type, item)
+              && !type.getFullyQualifiedName().equals(item.getFullyQualifiedName()) && !type.hasAttribute(GENERATED)) {
+            result.add(type);
           }
-          return result;
         }
+        return Collections.unmodifiableSet(result);
       });
+    }
+  };
 
   /**
    * Find all buildable descendant equivalents of a property.
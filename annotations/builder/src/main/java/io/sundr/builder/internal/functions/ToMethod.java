@@ -16,6 +16,7 @@
 
 package io.sundr.builder.internal.functions;
 
+import static io.sundr.builder.Constants.COMPACT_FLUENT_ENABLED;
 import static io.sundr.builder.Constants.DESCENDANTS;
 import static io.sundr.builder.Constants.DESCENDANT_OF;
 import static io.sundr.builder.Constants.GENERIC_TYPE_REF;
@@ -179,6 +180,28 @@ class ToMethod {
     Expression doWithItem(Expression expression);
   }
 
+  private static boolean isCompact(Property property) {
+    return property.hasAttribute(COMPACT_FLUENT_ENABLED) && property.getAttribute(COMPACT_FLUENT_ENABLED);
+  }
+
+  /**
+   * Creates a call to one of the BaseFluent helpers used by compact fluents.
+   * The helpers operate on both the collection of the property and the respective visitables.
+   *
+   * @param helper the name of the helper method.
+   * @param propertyName the name of the property.
+   * @param args the remaining arguments of the helper.
+   * @return the statement string.
+   */
+  private static String createCompactCall(String helper, String propertyName, String... args) {
+    StringBuilder sb = new StringBuilder();
+    sb.append(helper).append("(\"").append(propertyName).append("\", this.").append(propertyName);
+    for (String arg : args) {
+      sb.append(", ").append(arg);
+    }
+    return sb.append(");").toString();
+  }
+
   private static class GetterGenerator {
     GetterGenerator(ToMethod.GeneratorType type) {
       this(type, ToMethod.GeneratorCustomizer.defaultCustomizer);
@@ -255,7 +278,10 @@ class ToMethod {
       Property matchProperty = Property.newProperty(match);
       Property nonMatchProperty = Property.newProperty(nonMatch);
 
-      if (match != null && nonMatch != null) {
+      if (match != null && nonMatch != null && isCompact(property)) {
+        return new Return(Expression.newCall("_" + name().toLowerCase() + "Matching", new This().property(property),
+            predicate.toReference()));
+      } else if (match != null && nonMatch != null) {
         return new Block(new Foreach(item, property, new If(predicate.toReference().call("test", item.toReference()),
             new Return(matchProperty))),
             new Return(nonMatchProperty));
@@ -758,22 +784,70 @@ class ToMethod {
 
             //We need to do it more
             alsoImport.add(BUILDER_REF.apply(targetType));
-            statements.add(new StringStatement("for (" + ((ClassRef) unwrapped).getFullyQualifiedName() + " item : items) {"
-                + builderClass + " builder = new " + builderClass + "(item);_visitables.get(\"" + propertyName
-                + "\").add(builder);this." + propertyName + ".add(builder);} return (" + returnType + ")this;"));
+            if (isCompact(property)) {
+              statements.add(new StringStatement("for (" + ((ClassRef) unwrapped).getFullyQualifiedName() + " item : items) {"
+                  + createCompactCall("_addTo", propertyName, "new " + builderClass + "(item)") + "} return (" + returnType
+                  + ")this;"));
+
+              addSingleItemAtIndex = new MethodBuilder(addSingleItemAtIndex).withParameters(parameters).editBlock()
+                  .withStatements(init,
+                      new StringStatement(createCompactCall("_addTo", propertyName, "index", "new " + builderClass + "(item)")),
+                      new StringStatement("return (" + returnType + ")this;"))
+                  .endBlock().build();
+
+              setSingleItemAtIndex = new MethodBuilder(setSingleItemAtIndex).withParameters(parameters).editBlock()
+                  .withStatements(init,
+                      new StringStatement(createCompactCall("_setTo", propertyName, "index", "new " + builderClass + "(item)")),
+                      new StringStatement("return (" + returnType + ")this;"))
+                  .endBlock().build();
+            } else {
+              statements.add(new StringStatement("for (" + ((ClassRef) unwrapped).getFullyQualifiedName() + " item : items) {"
+                  + builderClass + " builder = new " + builderClass + "(item);_visitables.get(\"" + propertyName
+                  + "\").add(builder);this." + propertyName + ".add(builder);} return (" + returnType + ")this;"));
+
+              addSingleItemAtIndex = new MethodBuilder(addSingleItemAtIndex).withParameters(parameters).editBlock()
+                  .withStatements(init, new StringStatement(builderClass + " builder = new " + builderClass + "(item);"),
+                      createAddOrSetIndex("add", propertyName, returnType.toString()),
+                      new StringStatement("return (" + returnType + ")this;"))
+                  .endBlock().build();
+
+              setSingleItemAtIndex = new MethodBuilder(setSingleItemAtIndex).withParameters(parameters).editBlock()
+                  .withStatements(init, new StringStatement(builderClass + " builder = new " + builderClass + "(item);"),
+                      createAddOrSetIndex("set", propertyName, returnType.toString()),
+                      new StringStatement("return (" + returnType + ")this;"))
+                  .endBlock().build();
+            }
+
+          } else if (!descendants.isEmpty() && isCompact(property)) {
+            final ClassRef targetType = (ClassRef) unwrapped;
+            parameters.addAll(GetDefinition.of(targetType).getParameters());
+
+            statements.add(new StringStatement("for (" + targetType.toString() + " item : items) { "
+                + createCompactCall("_addTo", propertyName, "builder(item)") + " }"));
+            statements.add(new StringStatement("return (" + returnType + ")this;"));
 
             addSingleItemAtIndex = new MethodBuilder(addSingleItemAtIndex).withParameters(parameters).editBlock()
-                .withStatements(init, new StringStatement(builderClass + " builder = new " + builderClass + "(item);"),
-                    createAddOrSetIndex("add", propertyName, returnType.toString()),
+                .withStatements(init, new StringStatement(createCompactCall("_addTo", propertyName, "index", "builder(item)")),
                     new StringStatement("return (" + returnType + ")this;"))
                 .endBlock().build();
 
             setSingleItemAtIndex = new MethodBuilder(setSingleItemAtIndex).withParameters(parameters).editBlock()
-                .withStatements(init, new StringStatement(builderClass + " builder = new " + builderClass + "(item);"),
-                    createAddOrSetIndex("set", propertyName, returnType.toString()),
+                .withStatements(init, new StringStatement(createCompactCall("_setTo", propertyName, "index", "builder(item)")),
                     new StringStatement("return (" + returnType + ")this;"))
                 .endBlock().build();
 
+            methods.add(new MethodBuilder().withNewModifiers().withPublic().endModifiers().withParameters(parameters)
+                .withName(addVarargMethodName).withReturnType(returnType).withArguments(builderProperty).withNewBlock()
+                .addToStatements(init, new StringStatement(createCompactCall("_addTo", propertyName, "builder")),
+                    new StringStatement("return (" + returnType + ")this;"))
+                .endBlock().build());
+
+            methods.add(new MethodBuilder().withNewModifiers().withPublic().endModifiers().withParameters(parameters)
+                .withName(addVarargMethodName).withReturnType(returnType).withArguments(INDEX, builderProperty).withNewBlock()
+                .addToStatements(init, new StringStatement(createCompactCall("_addTo", propertyName, "index", "builder")),
+                    new StringStatement("return (" + returnType + ")this;"))
+                .endBlock().build());
+
           } else if (!descendants.isEmpty()) {
             final ClassRef targetType = (ClassRef) unwrapped;
             parameters.addAll(GetDefinition.of(targetType).getParameters());
@@ -890,9 +964,29 @@ class ToMethod {
             alsoImport.add(BUILDER_REF.apply(targetType));
             alsoImport.add(LIST.toInternalReference());
             statements.add(nullCheck(returnType, propertyName));
-            statements.add(new StringStatement("for (" + targetClass + " item : items) {" + builderClass + " builder = new "
-                + builderClass + "(item);_visitables.get(\"" + propertyName + "\").remove(builder); " + "this." + propertyName
-                + ".remove(builder);} return (" + returnType + ")this;"));
+            if (isCompact(property)) {
+              statements.add(new StringStatement("for (" + targetClass + " item : items) {"
+                  + createCompactCall("_removeFrom", propertyName, "new " + builderClass + "(item)") + "} return ("
+                  + returnType + ")this;"));
+            } else {
+              statements.add(new StringStatement("for (" + targetClass + " item : items) {" + builderClass + " builder = new "
+                  + builderClass + "(item);_visitables.get(\"" + propertyName + "\").remove(builder); " + "this."
+                  + propertyName + ".remove(builder);} return (" + returnType + ")this;"));
+            }
+          } else if (!descendants.isEmpty() && isCompact(property)) {
+            final ClassRef targetType = (ClassRef) unwrapped;
+            parameters.addAll(GetDefinition.of(targetType).getParameters());
+            statements.add(nullCheck(returnType, propertyName));
+            statements.add(new StringStatement("for (" + targetType.toString() + " item : items) {"
+                + createCompactCall("_removeFrom", property.getName(), "builder(item)") + "} return (" + returnType
+                + ")this;"));
+
+            methods.add(new MethodBuilder().withNewModifiers().withPublic().endModifiers().withParameters(parameters)
+                .withName(removeVarargMethodName).withReturnType(returnType).withArguments(builderProperty).withNewBlock()
+                .addToStatements(nullCheck(returnType, propertyName),
+                    new StringStatement(createCompactCall("_removeFrom", propertyName, "builder")),
+                    new StringStatement("return (" + returnType + ")this;"))
+                .endBlock().build());
           } else if (!descendants.isEmpty()) {
             final ClassRef targetType = (ClassRef) unwrapped;
             parameters.addAll(GetDefinition.of(targetType).getParameters());
@@ -937,6 +1031,17 @@ class ToMethod {
               }
               builder = (ClassRef) builderType;
             }
+            if (isCompact(property)) {
+              alsoImport.add((ClassRef) builderType);
+              methods.add(new MethodBuilder().addToAttributes(Attributeable.ALSO_IMPORT, alsoImport).withNewModifiers()
+                  .withPublic().endModifiers().withReturnType(returnType).withParameters(parameters)
+                  .withName(removeMatchingMethodName).addNewArgument().withName("predicate")
+                  .withTypeRef(Constants.PREDICATE.toReference(builder)).endArgument().withNewBlock()
+                  .addNewStringStatementStatement(createCompactCall("_removeMatchingFrom", propertyName, "predicate"))
+                  .addNewStringStatementStatement("return (" + returnType + ")this;")
+                  .endBlock().build());
+              return methods;
+            }
             alsoImport.add(new ClassRefBuilder().withFullyQualifiedName("java.util.Iterator").build());
             alsoImport.add((ClassRef) builderType);
             methods.add(new MethodBuilder().addToAttributes(Attributeable.ALSO_IMPORT, alsoImport).withNewModifiers()
@@ -221,8 +221,7 @@ public class ToPojo implements Function<RichTypeDef, TypeDef> {
 
             if (superClass == null) {
               BuilderContext context = BuilderContextManager.getContext();
-              AptContext aptContext = AptContext.create(context.getElements(), context.getTypes(),
-                  context.getDefinitionRepository());
+              AptContext aptContext = context.getAptContext();
               superClass = new TypeDefBuilder(
                   Adapters.adaptType(aptContext.getElements().getTypeElement(superClassName), aptContext.getAdapterContext()))
                   .build();
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 import javax.lang.model.util.Elements;
 
@@ -53,6 +54,8 @@ import io.sundr.model.TypeDef;
 import io.sundr.model.TypeDefBuilder;
 import io.sundr.model.TypeRef;
 import io.sundr.model.utils.TypeArguments;
+import io.sundr.utils.Profiler;
+import io.sundr.utils.Profiler.Phase;
 
 public abstract class AbstractBuilderProcessor extends AbstractCodeGeneratingProcessor {
 
@@ -216,28 +219,28 @@ public abstract class AbstractBuilderProcessor extends AbstractCodeGeneratingPro
         continue;
       }
       System.err.printf("\033[2K%3d%% Generating: %s\r", Math.round(percentage), typeDef.getFullyQualifiedName());
-      generate(ClazzAs.FLUENT.apply(richTypeDef));
+      generate(transform(ClazzAs.FLUENT, richTypeDef));
       if (typeDef.isAbstract()) {
         continue;
       }
 
       if (!typeDef.isFinal() && typeDef.getAttributes().containsKey(EDITABLE_ENABLED)
           && (Boolean) typeDef.getAttributes().get(EDITABLE_ENABLED)) {
-        generate(ClazzAs.EDITABLE_BUILDER.apply(richTypeDef));
-        generate(ClazzAs.EDITABLE.apply(richTypeDef));
+        generate(transform(ClazzAs.EDITABLE_BUILDER, richTypeDef));
+        generate(transform(ClazzAs.EDITABLE, richTypeDef));
       } else {
-        generate(ClazzAs.BUILDER.apply(richTypeDef));
+        generate(transform(ClazzAs.BUILDER, richTypeDef));
       }
 
       Buildable buildable = typeDef.getAttribute(BUILDABLE);
       ExternalBuildables externalBuildables = typeDef.getAttribute(EXTERNAL_BUILDABLE);
       if (buildable != null) {
         for (final Inline inline : buildable.inline()) {
-          generate(inlineableOf(ctx, richTypeDef, inline));
+          generate(Profiler.profile(Phase.TRANSFORM, () -> inlineableOf(ctx, richTypeDef, inline)));
         }
       } else if (externalBuildables != null) {
         for (final Inline inline : externalBuildables.inline()) {
-          generate(inlineableOf(ctx, richTypeDef, inline));
+          generate(Profiler.profile(Phase.TRANSFORM, () -> inlineableOf(ctx, richTypeDef, inline)));
         }
       }
     }
@@ -255,7 +258,7 @@ public abstract class AbstractBuilderProcessor extends AbstractCodeGeneratingPro
     for (TypeDef typeDef : buildables) {
       RichTypeDef richTypeDef = TypeArguments.apply(typeDef);
       if (typeDef.isInterface() || typeDef.isAnnotation()) {
-        typeDef = ClazzAs.POJO.apply(richTypeDef);
+        typeDef = transform(ClazzAs.POJO, richTypeDef);
         builderContext.getDefinitionRepository().register(typeDef);
         builderContext.getBuildableRepository().register(typeDef);
         generate(typeDef);
@@ -282,6 +285,10 @@ public abstract class AbstractBuilderProcessor extends AbstractCodeGeneratingPro
     generateBuildables(builderContext, additonalBuildables);
   }
 
+  private static TypeDef transform(Function<RichTypeDef, TypeDef> function, RichTypeDef type) {
+    return Profiler.profile(Phase.TRANSFORM, () -> function.apply(type));
+  }
+
   private static final String BUILDER = "builder";
   private static final String FUNCTION = "function";
   private static final String ITEM = "item";
@@ -17,6 +17,7 @@
 package io.sundr.builder.internal.processor;
 
 import static io.sundr.builder.Constants.BUILDABLE;
+import static io.sundr.builder.Constants.COMPACT_FLUENT_ENABLED;
 import static io.sundr.builder.Constants.EDITABLE_ENABLED;
 import static io.sundr.builder.Constants.IGNORE_PROPERTIES;
 import static io.sundr.builder.Constants.LAZY_COLLECTIONS_INIT_ENABLED;
@@ -50,12 +51,17 @@ import io.sundr.builder.internal.visitors.lombok.AddLombokSetters;
 import io.sundr.model.PropertyBuilder;
 import io.sundr.model.TypeDef;
 import io.sundr.model.TypeDefBuilder;
-import io.sundr.model.repo.DefinitionRepository;
+import io.sundr.utils.Profiler;
+import io.sundr.utils.Profiler.Phase;
 
 @SupportedAnnotationTypes("io.sundr.builder.annotations.Buildable")
 public class BuildableProcessor extends AbstractBuilderProcessor {
   @Override
   public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+    return profiled(env, () -> processRound(annotations, env));
+  }
+
+  private boolean processRound(Set<? extends TypeElement> annotations, RoundEnvironment env) {
     Elements elements = processingEnv.getElementUtils();
     Types types = processingEnv.getTypeUtils();
     Filer filer = processingEnv.getFiler();
@@ -71,10 +77,11 @@ public class BuildableProcessor extends AbstractBuilderProcessor {
           continue;
         }
 
-        AptContext aptContext = AptContext.create(elements, types, DefinitionRepository.getRepository());
         ctx = BuilderContextManager.create(elements, types, buildable.validationEnabled(), buildable.generateBuilderPackage(),
             buildable.builderPackage());
-        TypeDef b = new TypeDefBuilder(Adapters.adaptType(Apt.getClassElement(element), aptContext))
+        AptContext aptContext = ctx.getAptContext().forRound(env);
+        TypeDef adapted = Adapters.adaptType(Apt.getClassElement(element), aptContext);
+        TypeDef b = Profiler.profile(Phase.VISIT, () -> new TypeDefBuilder(adapted)
             .addToAttributes(BUILDABLE, buildable)
             .addToAttributes(EDITABLE_ENABLED, buildable.editableEnabled())
             .addToAttributes(VALIDATION_ENABLED, buildable.validationEnabled())
@@ -86,16 +93,18 @@ public class BuildableProcessor extends AbstractBuilderProcessor {
                   public void visit(PropertyBuilder builder) {
                     builder.addToAttributes(LAZY_COLLECTIONS_INIT_ENABLED, buildable.lazyCollectionInitEnabled());
                     builder.addToAttributes(LAZY_MAP_INIT_ENABLED, buildable.lazyMapInitEnabled());
+                    builder.addToAttributes(COMPACT_FLUENT_ENABLED, buildable.compactFluentEnabled());
                   }
                 })
-            .build();
+            .build());
 
         ctx.getDefinitionRepository().register(b);
         ctx.getBuildableRepository().register(b);
         buildables.add(b);
 
         for (TypeElement ref : BuilderUtils.getBuildableReferences(ctx, buildable)) {
-          TypeDef r = new TypeDefBuilder(Adapters.adaptType(Apt.getClassElement(ref), aptContext))
+          TypeDef adaptedRef = Adapters.adaptType(Apt.getClassElement(ref), aptContext);
+          TypeDef r = Profiler.profile(Phase.VISIT, () -> new TypeDefBuilder(adaptedRef)
               .addToAttributes(BUILDABLE, buildable)
               .addToAttributes(EDITABLE_ENABLED, buildable.editableEnabled())
               .addToAttributes(VALIDATION_ENABLED, buildable.validationEnabled())
@@ -105,8 +114,9 @@ public class BuildableProcessor extends AbstractBuilderProcessor {
                 public void visit(PropertyBuilder builder) {
                   builder.addToAttributes(LAZY_COLLECTIONS_INIT_ENABLED, buildable.lazyCollectionInitEnabled());
                   builder.addToAttributes(LAZY_MAP_INIT_ENABLED, buildable.lazyMapInitEnabled());
+                  builder.addToAttributes(COMPACT_FLUENT_ENABLED, buildable.compactFluentEnabled());
                 }
-              }).build();
+              }).build());
 
           ctx.getDefinitionRepository().register(r);
           ctx.getBuildableRepository().register(r);
@@ -16,6 +16,7 @@
 
 package io.sundr.builder.internal.processor;
 
+import static io.sundr.builder.Constants.COMPACT_FLUENT_ENABLED;
 import static io.sundr.builder.Constants.EDITABLE_ENABLED;
 import static io.sundr.builder.Constants.EXTERNAL_BUILDABLE;
 import static io.sundr.builder.Constants.IGNORE_PROPERTIES;
@@ -55,11 +56,17 @@ import io.sundr.model.Kind;
 import io.sundr.model.PropertyBuilder;
 import io.sundr.model.TypeDef;
 import io.sundr.model.TypeDefBuilder;
+import io.sundr.utils.Profiler;
+import io.sundr.utils.Profiler.Phase;
 
 @SupportedAnnotationTypes("io.sundr.builder.annotations.ExternalBuildables")
 public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
   @Override
   public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+    return profiled(env, () -> processRound(annotations, env));
+  }
+
+  private boolean processRound(Set<? extends TypeElement> annotations, RoundEnvironment env) {
     Elements elements = processingEnv.getElementUtils();
     Types types = processingEnv.getTypeUtils();
     Filer filer = processingEnv.getFiler();
@@ -76,6 +83,7 @@ public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
         }
         ctx = BuilderContextManager.create(elements, types, generated.validationEnabled(), generated.generateBuilderPackage(),
             generated.builderPackage());
+        AptContext aptContext = ctx.getAptContext().forRound(env);
 
         skipExistingTypes = skipExistingTypes && generated.skipExistingTypes();
         for (String name : generated.value()) {
@@ -108,7 +116,6 @@ public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
             final boolean includeInterfaces = generated.includeInterfaces();
             final boolean includeAbstractClasses = generated.includeAbstractClasses();
 
-            AptContext aptContext = AptContext.create(ctx.getElements(), ctx.getTypes(), ctx.getDefinitionRepository());
             TypeDef original = Adapters.adaptType(typeElement, aptContext);
             String fqcn = original.getFullyQualifiedName();
             boolean isBuildable = original.getKind() != Kind.ENUM
@@ -116,7 +123,7 @@ public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
                 && (includeInterfaces || original.getKind() != Kind.INTERFACE)
                 && isIncluded(fqcn, generated.includes()) && !isExcluded(fqcn, generated.excludes());
 
-            TypeDef b = new TypeDefBuilder(original)
+            TypeDef b = Profiler.profile(Phase.VISIT, () -> new TypeDefBuilder(original)
                 .accept(new DuplicatePropertyCheck(), new Visitor<PropertyBuilder>() {
                   @Override
                   public void visit(PropertyBuilder builder) {
@@ -126,9 +133,10 @@ public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
                       builder.addToAttributes(VALIDATION_ENABLED, generated.validationEnabled());
                       builder.addToAttributes(LAZY_COLLECTIONS_INIT_ENABLED, isLazyCollectionInitEnabled);
                       builder.addToAttributes(LAZY_MAP_INIT_ENABLED, isLazyMapInitEnabled);
+                      builder.addToAttributes(COMPACT_FLUENT_ENABLED, generated.compactFluentEnabled());
                     }
                   }
-                }).build();
+                }).build());
 
             if (b.getKind() == Kind.ENUM) {
               continue;
@@ -160,14 +168,12 @@ public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
           final boolean includeInterfaces = generated.includeInterfaces();
           final boolean includeAbstractClasses = generated.includeAbstractClasses();
 
-          AptContext aptContext = AptContext.create(ctx.getElements(), ctx.getTypes(), ctx.getDefinitionRepository());
-
           TypeDef original = Adapters.adaptType(Apt.getClassElement(ref), aptContext);
           String fqcn = original.getFullyQualifiedName();
           boolean isBuildable = original.getKind() != Kind.ENUM && !original.isAbstract()
               && isIncluded(fqcn, generated.includes()) && !isExcluded(fqcn, generated.excludes());
 
-          TypeDef r = new TypeDefBuilder(original)
+          TypeDef r = Profiler.profile(Phase.VISIT, () -> new TypeDefBuilder(original)
               .accept(new DuplicatePropertyCheck(), new Visitor<PropertyBuilder>() {
                 @Override
                 public void visit(PropertyBuilder builder) {
@@ -178,9 +184,10 @@ public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
                     builder.addToAttributes(IGNORE_PROPERTIES, generated.ignore());
                     builder.addToAttributes(LAZY_COLLECTIONS_INIT_ENABLED, isLazyCollectionInitEnabled);
                     builder.addToAttributes(LAZY_MAP_INIT_ENABLED, isLazyMapInitEnabled);
+                    builder.addToAttributes(COMPACT_FLUENT_ENABLED, generated.compactFluentEnabled());
                   }
                 }
-              }).build();
+              }).build());
 
           if (r.getKind() == Kind.ENUM || r.isAbstract()) {
             continue;
@@ -52,7 +52,6 @@ import javax.lang.model.type.MirroredTypeException;
 
 import io.sundr.adapter.api.AdapterContext;
 import io.sundr.adapter.api.Adapters;
-import io.sundr.adapter.apt.AptContext;
 import io.sundr.builder.Constants;
 import io.sundr.builder.Visitor;
 import io.sundr.builder.annotations.Buildable;
@@ -60,6 +59,7 @@ import io.sundr.builder.annotations.BuildableReference;
 import io.sundr.builder.annotations.ExternalBuildables;
 import io.sundr.builder.annotations.Inline;
 import io.sundr.builder.annotations.None;
+import io.sundr.builder.internal.BuildableIndex;
 import io.sundr.builder.internal.BuildableRepository;
 import io.sundr.builder.internal.BuilderContext;
 import io.sundr.builder.internal.BuilderContextManager;
@@ -141,7 +141,11 @@ public class BuilderUtils {
   }
 
   public static boolean isBuildable(TypeRef typeRef) {
-    return isRegisteredAsBuildable(typeRef) && canBeBuilt(typeRef);
+    if (!(typeRef instanceof ClassRef)) {
+      return false;
+    }
+    return BuilderContextManager.getContext().getBuildableRepository().getIndex()
+        .isBuildable(((ClassRef) typeRef).getFullyQualifiedName(), () -> canBeBuilt(typeRef));
   }
 
   public static boolean isRegisteredAsBuildable(TypeDef typeDef) {
@@ -149,7 +153,8 @@ public class BuilderUtils {
   }
 
   public static boolean isBuildable(TypeDef typeDef) {
-    return isRegisteredAsBuildable(typeDef) && canBeBuilt(typeDef);
+    return BuilderContextManager.getContext().getBuildableRepository().getIndex()
+        .isBuildable(typeDef.getFullyQualifiedName(), () -> canBeBuilt(typeDef));
   }
 
   /**
@@ -159,10 +164,15 @@ public class BuilderUtils {
    * @return True if buildable repository contains the ref or builder for the reference is present.
    */
   public static boolean isBuildable(ClassRef ref) {
-    if (BuilderContextManager.getContext().getBuildableRepository().isBuildable(ref)) {
+    BuildableIndex index = BuilderContextManager.getContext().getBuildableRepository().getIndex();
+    if (index.contains(ref.getFullyQualifiedName())) {
       return true;
     }
+    //Not memoized, as the builder may be registered to the definition repository at any time.
+    return hasBuilder(ref);
+  }
 
+  private static boolean hasBuilder(ClassRef ref) {
     String builderFQCN = ref.getFullyQualifiedName() + "Builder";
     TypeDef builder = BuilderContextManager.getContext().getDefinitionRepository().getDefinition(builderFQCN);
     if (builder == null) {
@@ -275,7 +285,8 @@ public class BuilderUtils {
   }
 
   public static boolean hasBuildableConstructorWithArgument(TypeDef clazz, Property property) {
-    Method constructor = findBuildableConstructor(clazz);
+    Method constructor = BuilderContextManager.getContext().getBuildableRepository().getIndex()
+        .getBuildableConstructor(clazz, () -> findBuildableConstructor(clazz));
     if (constructor == null) {
       return false;
     } else {
@@ -389,8 +400,7 @@ public class BuilderUtils {
       return Adapters.adaptType(inline.type(), AdapterContext.create(context.getDefinitionRepository()));
     } catch (MirroredTypeException e) {
       Element element = context.getTypes().asElement(e.getTypeMirror());
-      AptContext aptContext = AptContext.create(context.getElements(), context.getTypes(), context.getDefinitionRepository());
-      return Adapters.adaptType((TypeElement) element, aptContext.getAdapterContext());
+      return Adapters.adaptType((TypeElement) element, context.getAptContext());
     }
   }
 
@@ -407,8 +417,7 @@ public class BuilderUtils {
       }
 
       Element element = context.getTypes().asElement(e.getTypeMirror());
-      AptContext aptContext = AptContext.create(context.getElements(), context.getTypes(), context.getDefinitionRepository());
-      return Adapters.adaptType((TypeElement) element, aptContext.getAdapterContext());
+      return Adapters.adaptType((TypeElement) element, context.getAptContext());
     }
   }
 
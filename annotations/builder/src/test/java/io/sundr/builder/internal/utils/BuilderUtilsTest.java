@@ -19,6 +19,8 @@ package io.sundr.builder.internal.utils;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.List;
@@ -30,9 +32,11 @@ import org.junit.Test;
 import io.sundr.adapter.api.AdapterContext;
 import io.sundr.adapter.api.Adapters;
 import io.sundr.builder.annotations.Buildable;
+import io.sundr.builder.internal.BuildableIndex;
 import io.sundr.builder.internal.processor.AbstractProcessorTest;
 import io.sundr.model.ClassRef;
 import io.sundr.model.TypeDef;
+import io.sundr.model.TypeDefBuilder;
 import io.sundr.model.repo.DefinitionRepository;
 
 public class BuilderUtilsTest extends AbstractProcessorTest {
@@ -103,6 +107,40 @@ public class BuilderUtilsTest extends AbstractProcessorTest {
     assertTrue(BuilderUtils.isBuildable(a));
   }
 
+  @Test
+  public void testIndexIsRecreatedOnRegistration() {
+    TypeDef a = Adapters.adaptType(A.class, context);
+    TypeDef b = Adapters.adaptType(B.class, context);
+
+    builderContext.getBuildableRepository().register(a);
+    BuildableIndex index = builderContext.getBuildableRepository().getIndex();
+    assertSame(index, builderContext.getBuildableRepository().getIndex());
+    assertTrue(BuilderUtils.isBuildable(a));
+    assertFalse(index.contains(b.getFullyQualifiedName()));
+
+    builderContext.getBuildableRepository().register(b);
+    assertNotSame(index, builderContext.getBuildableRepository().getIndex());
+    assertTrue(BuilderUtils.isBuildable(b));
+  }
+
+  @Test
+  public void testBuilderRegisteredLater() {
+    TypeDef d = Adapters.adaptType(D.class, context);
+    ClassRef ref = d.toInternalReference();
+    assertFalse(BuilderUtils.isBuildable(ref));
+
+    builderContext.getDefinitionRepository().register(new TypeDefBuilder()
+        .withPackageName(d.getPackageName())
+        .withOuterTypeName(d.getOuterTypeName())
+        .withName(d.getName() + "Builder")
+        .addNewMethod()
+        .withName("build")
+        .withReturnType(ref)
+        .endMethod()
+        .build());
+    assertTrue(BuilderUtils.isBuildable(ref));
+  }
+
   @Test
   public void testEnclosingBuildables() {
     TypeDef a = Adapters.adaptType(A.class, context);
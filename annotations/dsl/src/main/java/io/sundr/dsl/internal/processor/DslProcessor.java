@@ -51,6 +51,8 @@ import io.sundr.model.TypeDef;
 import io.sundr.model.TypeDefBuilder;
 import io.sundr.model.TypeRef;
 import io.sundr.model.functions.GetDefinition;
+import io.sundr.utils.Profiler;
+import io.sundr.utils.Profiler.Phase;
 
 @SupportedAnnotationTypes("io.sundr.dsl.annotations.Dsl")
 public class DslProcessor extends AbstractCodeGeneratingProcessor {
@@ -59,6 +61,10 @@ public class DslProcessor extends AbstractCodeGeneratingProcessor {
 
   @Override
   public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+    return profiled(env, () -> processRound(annotations, env));
+  }
+
+  private boolean processRound(Set<? extends TypeElement> annotations, RoundEnvironment env) {
     Elements elements = processingEnv.getElementUtils();
     Types types = processingEnv.getTypeUtils();
     DslContext context = DslContextManager.create(elements, types);
@@ -74,8 +80,8 @@ public class DslProcessor extends AbstractCodeGeneratingProcessor {
           Collection<ExecutableElement> sorted = ElementFilter.methodsIn(typeElement.getEnclosedElements());
 
           //1st step generate generic interface for all types.
-          Set<TypeDef> genericInterfaces = executablesToInterfaces(context, sorted);
-          Set<TypeDef> genericAndScopeInterfaces = Nodes.TO_SCOPE.apply(genericInterfaces);
+          Set<TypeDef> genericAndScopeInterfaces = Profiler.profile(Phase.TRANSFORM,
+              () -> Nodes.TO_SCOPE.apply(executablesToInterfaces(context, sorted)));
           for (TypeDef clazz : genericAndScopeInterfaces) {
             if (!TypeDefUtils.isEntryPoint(clazz)) {
               interfacesToGenerate.add(clazz);
@@ -84,11 +90,11 @@ public class DslProcessor extends AbstractCodeGeneratingProcessor {
 
           //2nd step create dependency graph.
           List<Method> methods = new ArrayList<Method>();
-          Set<Node<TypeDef>> graph = Nodes.TO_GRAPH.apply(genericAndScopeInterfaces);
+          Set<Node<TypeDef>> graph = Profiler.profile(Phase.TRANSFORM, () -> Nodes.TO_GRAPH.apply(genericAndScopeInterfaces));
 
           for (Node<TypeDef> root : graph) {
-            Node<TypeDef> uncyclic = Nodes.TO_UNCYCLIC.apply(root);
-            Node<TypeDef> unwrapped = Nodes.TO_UNWRAPPED.apply(NodeContext.builder().withItem(uncyclic.getItem()).build());
+            Node<TypeDef> unwrapped = Profiler.profile(Phase.TRANSFORM, () -> Nodes.TO_UNWRAPPED
+                .apply(NodeContext.builder().withItem(Nodes.TO_UNCYCLIC.apply(root).getItem()).build()));
             TypeDef current = unwrapped.getItem();
 
             //If there are not transitions don't generate root interface.
@@ -112,7 +118,7 @@ public class DslProcessor extends AbstractCodeGeneratingProcessor {
                 methods.add(new MethodBuilder(m).withReturnType(current.toUnboundedReference()).build());
               }
 
-              interfacesToGenerate.add(Nodes.TO_ROOT.apply(unwrapped));
+              interfacesToGenerate.add(Profiler.profile(Phase.TRANSFORM, () -> Nodes.TO_ROOT.apply(unwrapped)));
             }
           }
 
@@ -78,6 +78,10 @@ public class TemplateTransformationProcessor extends AbstractCodeGeneratingProce
 
   @Override
   public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+    return profiled(env, () -> processRound(annotations, env));
+  }
+
+  private boolean processRound(Set<? extends TypeElement> annotations, RoundEnvironment env) {
     Elements elements = processingEnv.getElementUtils();
     Types types = processingEnv.getTypeUtils();
     Filer filer = processingEnv.getFiler();
@@ -19,16 +19,32 @@ package io.sundr.codegen.api;
 
 import java.io.IOException;
 import java.io.Writer;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import io.sundr.SundrException;
+import io.sundr.adapter.api.AdapterContext;
 import io.sundr.utils.Predicates;
+import io.sundr.utils.Profiler;
+import io.sundr.utils.Profiler.Phase;
 
 public class CodeGenerator<T> {
 
+  private static final int QUEUE_CAPACITY = 2 * Runtime.getRuntime().availableProcessors();
+
   private final Class<T> type;
   private final Function<T, Writer> output;
   private final Function<T, String> identifier;
@@ -38,7 +54,7 @@ public class CodeGenerator<T> {
 
   private final Consumer<T> ignore = t -> {
   };
-  private final Set<String> generated = new HashSet<>();
+  private final Set<String> generated = ConcurrentHashMap.newKeySet();
 
   public static class Builder<T> {
 
@@ -139,8 +155,9 @@ public class CodeGenerator<T> {
         if (generated.contains(id)) {
           continue;
         }
-        try (Writer writer = output.apply(item)) {
-          writer.write(renderer.apply(item));
+        String content = Profiler.profile(Phase.RENDER, () -> renderer.apply(item));
+        try (Profiler.Span span = Profiler.enter(Phase.WRITE); Writer writer = output.apply(item)) {
+          writer.write(content);
           generated.add(id);
         } catch (IOException e) {
           return false;
@@ -150,4 +167,173 @@ public class CodeGenerator<T> {
     });
 
   }
+
+  /**
+   * Generate all items, rendering them concurrently using the common {@link ForkJoinPool}.
+   *
+   * @param items the items to generate
+   * @return the number of items written
+   * @see #generateAll(Collection, Executor, boolean)
+   */
+  public int generateAll(Collection<T> items) {
+    return generateAll(items, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Generate all items, rendering them concurrently and writing them in the order of the collection.
+   *
+   * @param items the items to generate
+   * @param executor the executor to render the items with
+   * @return the number of items written
+   * @see #generateAll(Collection, Executor, boolean)
+   */
+  public int generateAll(Collection<T> items, Executor executor) {
+    return generateAll(items, executor, true);
+  }
+
+  /**
+   * Generate all items, rendering them concurrently.
+   *
+   * Identification, skipping and writing happen on the calling thread, while rendering is performed by the executor.
+   * The number of items rendered but not written yet is bounded, so rendering keeps pace with writing. Failures don't
+   * stop the generation of other items, they are reported once all items have been processed.
+   *
+   * @param items the items to generate
+   * @param executor the executor to render the items with
+   * @param ordered true to write the items in the order of the collection, false to write them as soon as rendered
+   * @return the number of items written
+   * @throws SundrException if any of the items failed to render or write, with the failures as cause and suppressed
+   */
+  public int generateAll(Collection<T> items, Executor executor, boolean ordered) {
+    Pipeline pipeline = new Pipeline(executor, ordered);
+    int written = Identifiers.withIdentifier(identifier).call(() -> pipeline.run(items));
+    pipeline.checkFailures();
+    return written;
+  }
+
+  private static final class Rendered<T> {
+    private final int index;
+    private final String id;
+    private final T item;
+    private final String content;
+    private final Throwable failure;
+
+    private Rendered(int index, String id, T item, String content, Throwable failure) {
+      this.index = index;
+      this.id = id;
+      this.item = item;
+      this.content = content;
+      this.failure = failure;
+    }
+  }
+
+  /**
+   * A single run of {@link #generateAll(Collection, Executor, boolean)}.
+   */
+  private final class Pipeline {
+
+    private final Executor executor;
+    private final boolean ordered;
+    private final BlockingQueue<Rendered<T>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    //Items that are rendered ahead of the next one to write (only used when ordered).
+    private final Map<Integer, Rendered<T>> pending = new HashMap<>();
+    private final List<Throwable> failures = new ArrayList<>();
+    private int submitted;
+    private int inFlight;
+    private int nextToWrite;
+    private int written;
+
+    private Pipeline(Executor executor, boolean ordered) {
+      this.executor = executor;
+      this.ordered = ordered;
+    }
+
+    private Rendered<T> render(int index, String id, T item) {
+      try {
+        return new Rendered<>(index, id, item, renderer.apply(item), null);
+      } catch (Throwable t) {
+        return new Rendered<>(index, id, item, null, t);
+      }
+    }
+
+    private int run(Collection<T> items) throws InterruptedException {
+      for (T item : items) {
+        String id = identifier.apply(item);
+        if (skip.test(item)) {
+          onSkip.accept(item);
+          continue;
+        }
+        //Only generate each file once ...
+        if (!generated.add(id)) {
+          continue;
+        }
+        //The queue can hold every item in flight, so rendering never blocks on it.
+        while (inFlight == QUEUE_CAPACITY) {
+          writeNext();
+        }
+        submit(submitted++, id, item);
+        inFlight++;
+      }
+      while (inFlight > 0) {
+        writeNext();
+      }
+      return written;
+    }
+
+    private void checkFailures() {
+      if (!failures.isEmpty()) {
+        SundrException e = new SundrException(
+            "Failed to generate " + failures.size() + " of " + submitted + " items.", failures.get(0));
+        failures.stream().skip(1).forEach(e::addSuppressed);
+        throw e;
+      }
+    }
+
+    private void submit(int index, String id, T item) {
+      //Rendering may need the definitions of the calling thread, so it runs within the same scope.
+      Callable<Rendered<T>> render = AdapterContext.withCurrentScope(() -> render(index, id, item));
+      try {
+        executor.execute(() -> {
+          try {
+            queue.add(render.call());
+          } catch (Exception e) {
+            queue.add(new Rendered<>(index, id, item, null, e));
+          }
+        });
+      } catch (RuntimeException e) {
+        //e.g. the executor rejected the task.
+        queue.add(new Rendered<>(index, id, item, null, e));
+      }
+    }
+
+    private void writeNext() throws InterruptedException {
+      Rendered<T> next;
+      if (ordered) {
+        while ((next = pending.remove(nextToWrite)) == null) {
+          Rendered<T> r = queue.take();
+          pending.put(r.index, r);
+        }
+        nextToWrite++;
+      } else {
+        next = queue.take();
+      }
+      inFlight--;
+      write(next);
+    }
+
+    private void write(Rendered<T> rendered) {
+      if (rendered.failure != null) {
+        generated.remove(rendered.id);
+        failures.add(rendered.failure);
+        return;
+      }
+      try (Profiler.Span span = Profiler.enter(Phase.WRITE); Writer writer = output.apply(rendered.item)) {
+        writer.write(rendered.content);
+        written++;
+      } catch (IOException | RuntimeException e) {
+        generated.remove(rendered.id);
+        failures.add(e);
+      }
+    }
+  }
 }
@@ -18,29 +18,195 @@
 package io.sundr.codegen.api;
 
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FilterWriter;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import io.sundr.SundrException;
 
+/**
+ * Writes each item to a file.
+ *
+ * When write-if-changed is enabled, the content is kept in memory until the writer is closed and is then compared
+ * to the existing file (size first, then bytes). Files with the same content are left untouched (so their
+ * modification time is retained), others are replaced atomically using a temporary file of the same directory. The
+ * temporary file is created with the default permissions, or those of the file it replaces.
+ */
 public class FileOutput<T> implements Output<T> {
 
-  private final File file;
+  private static final String TMP_SUFFIX = ".tmp";
+  private static final int BUFFER_SIZE = 8192;
+
+  private final Function<T, Path> target;
+  private final boolean writeIfChanged;
+  private final Charset charset = Charset.defaultCharset();
+  private final AtomicInteger written = new AtomicInteger();
+  private final AtomicInteger skipped = new AtomicInteger();
 
   public FileOutput(File file) {
-    this.file = file;
+    this(file, false);
+  }
+
+  public FileOutput(File file, boolean writeIfChanged) {
+    this(t -> file.toPath(), writeIfChanged);
+  }
+
+  /**
+   * @param target the function that maps each item to its target file
+   * @param writeIfChanged true to only replace files when their content changes
+   */
+  public FileOutput(Function<T, Path> target, boolean writeIfChanged) {
+    this.target = target;
+    this.writeIfChanged = writeIfChanged;
   }
 
   @Override
   public Function<T, Writer> getFunction() {
     return t -> {
+      Path path = target.apply(t);
       try {
-        return new FileWriter(file);
+        if (writeIfChanged) {
+          return new WriteIfChanged(path);
+        }
+        return new CountingWriter(Files.newBufferedWriter(path, charset));
       } catch (IOException e) {
         throw SundrException.launderThrowable(e);
       }
     };
   }
+
+  /**
+   * @return the number of files written
+   */
+  public int getWritten() {
+    return written.get();
+  }
+
+  /**
+   * @return the number of files that were left untouched, as their content didn't change
+   */
+  public int getSkipped() {
+    return skipped.get();
+  }
+
+  private static boolean hasContent(Path path, byte[] content) throws IOException {
+    if (!Files.isRegularFile(path) || Files.size(path) != content.length) {
+      return false;
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+      int offset = 0;
+      while (offset < content.length) {
+        buffer.clear();
+        int read = channel.read(buffer);
+        if (read < 0) {
+          return false;
+        }
+        buffer.flip();
+        if (!buffer.equals(ByteBuffer.wrap(content, offset, read))) {
+          return false;
+        }
+        offset += read;
+      }
+      return true;
+    }
+  }
+
+  private static void replace(Path path, byte[] content) throws IOException {
+    Path directory = path.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    Path tmp = null;
+    try {
+      SeekableByteChannel channel = null;
+      while (channel == null) {
+        //Files.createTempFile would restrict the permissions to the owner, which would then apply to the target.
+        tmp = directory.resolve(path.getFileName() + "." + Long.toUnsignedString(ThreadLocalRandom.current().nextLong())
+            + TMP_SUFFIX);
+        try {
+          channel = Files.newByteChannel(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        } catch (FileAlreadyExistsException e) {
+          //Try another name
+        }
+      }
+      try (SeekableByteChannel c = channel) {
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+          c.write(buffer);
+        }
+      }
+      PosixFileAttributeView existing = Files.getFileAttributeView(path, PosixFileAttributeView.class);
+      if (existing != null && Files.exists(path)) {
+        Files.setPosixFilePermissions(tmp, existing.readAttributes().permissions());
+      }
+      try {
+        Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      if (tmp != null) {
+        Files.deleteIfExists(tmp);
+      }
+    }
+  }
+
+  private final class CountingWriter extends FilterWriter {
+
+    private boolean closed;
+
+    private CountingWriter(Writer writer) {
+      super(writer);
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      super.close();
+      written.incrementAndGet();
+    }
+  }
+
+  private final class WriteIfChanged extends StringWriter {
+
+    private final Path path;
+    private boolean closed;
+
+    private WriteIfChanged(Path path) {
+      super(BUFFER_SIZE);
+      this.path = path;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      byte[] content = toString().getBytes(charset);
+      if (hasContent(path, content)) {
+        skipped.incrementAndGet();
+      } else {
+        replace(path, content);
+        written.incrementAndGet();
+      }
+    }
+  }
 }
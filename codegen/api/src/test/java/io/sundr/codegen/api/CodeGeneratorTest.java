@@ -0,0 +1,126 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.codegen.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.sundr.SundrException;
+import io.sundr.model.repo.DefinitionRepository;
+
+public class CodeGeneratorTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+  private final List<String> written = Collections.synchronizedList(new ArrayList<>());
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private CodeGenerator<String> newGenerator() {
+    return CodeGenerator.newGenerator(String.class)
+        .withIdentifier(s -> s)
+        .withRenderer(s -> {
+          if (s.startsWith("fail")) {
+            throw new IllegalStateException(s);
+          }
+          return s.toUpperCase();
+        })
+        .withOutput(s -> new StringWriter() {
+          @Override
+          public void close() {
+            written.add(toString());
+          }
+        })
+        .skipping(s -> s.startsWith("skip"))
+        .build();
+  }
+
+  @Test
+  public void shouldGenerateAllInOrder() {
+    List<String> items = IntStream.range(0, 100).mapToObj(i -> "item" + i).collect(Collectors.toList());
+    assertEquals(100, newGenerator().generateAll(items, executor));
+    assertEquals(items.stream().map(String::toUpperCase).collect(Collectors.toList()), written);
+  }
+
+  @Test
+  public void shouldRenderWithinScopeOfCaller() {
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    Set<DefinitionRepository> used = Collections.synchronizedSet(new HashSet<>());
+    CodeGenerator<String> generator = CodeGenerator.newGenerator(String.class)
+        .withIdentifier(s -> s)
+        .withRenderer(s -> {
+          used.add(DefinitionRepository.getRepository());
+          return s;
+        })
+        .withOutput(s -> new StringWriter())
+        .skipping(s -> false)
+        .build();
+
+    List<String> items = IntStream.range(0, 20).mapToObj(i -> "item" + i).collect(Collectors.toList());
+    DefinitionRepository.withRepository(repository).call(() -> generator.generateAll(items, executor));
+    assertEquals(Collections.singleton(repository), used);
+  }
+
+  @Test
+  public void shouldGenerateAllUnordered() {
+    List<String> items = IntStream.range(0, 100).mapToObj(i -> "item" + i).collect(Collectors.toList());
+    assertEquals(100, newGenerator().generateAll(items, executor, false));
+    assertEquals(items.stream().map(String::toUpperCase).sorted().collect(Collectors.toList()),
+        written.stream().sorted().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void shouldSkipAndFilterDuplicates() {
+    CodeGenerator<String> generator = newGenerator();
+    assertEquals(2, generator.generateAll(Arrays.asList("a", "skip", "b", "a"), executor));
+    assertEquals(0, generator.generateAll(Arrays.asList("b"), executor));
+    assertEquals(Arrays.asList("A", "B"), written);
+  }
+
+  @Test
+  public void shouldAggregateFailures() {
+    CodeGenerator<String> generator = newGenerator();
+    try {
+      generator.generateAll(Arrays.asList("a", "fail1", "b", "fail2"), executor);
+      fail("Expected failures to be reported.");
+    } catch (SundrException e) {
+      assertTrue(e.getMessage().contains("2 of 4"));
+      assertEquals("fail1", e.getCause().getMessage());
+      assertEquals("fail2", e.getSuppressed()[0].getMessage());
+    }
+    assertEquals(Arrays.asList("A", "B"), written);
+  }
+}
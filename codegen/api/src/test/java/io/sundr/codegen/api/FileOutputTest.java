@@ -0,0 +1,110 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.codegen.api;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+public class FileOutputTest {
+
+  private static void write(FileOutput<String> output, String content) throws Exception {
+    try (Writer writer = output.create(content)) {
+      writer.write(content);
+    }
+  }
+
+  @Test
+  public void shouldOnlyWriteIfChanged() throws Exception {
+    Path directory = Files.createTempDirectory("output");
+    Path file = directory.resolve("sub").resolve("File.java");
+    try {
+      FileOutput<String> output = new FileOutput<>(s -> file, true);
+      write(output, "first");
+      assertEquals("first", new String(Files.readAllBytes(file)));
+
+      FileTime old = FileTime.fromMillis(1000);
+      Files.setLastModifiedTime(file, old);
+      write(output, "first");
+      assertEquals(old, Files.getLastModifiedTime(file));
+
+      write(output, "other");
+      write(output, "longer content");
+      assertEquals("longer content", new String(Files.readAllBytes(file)));
+      assertEquals(3, output.getWritten());
+      assertEquals(1, output.getSkipped());
+      try (Stream<Path> files = Files.list(file.getParent())) {
+        assertEquals(1, files.count());
+      }
+    } finally {
+      Files.walk(directory).sorted((l, r) -> r.compareTo(l)).forEach(p -> p.toFile().delete());
+    }
+  }
+
+  @Test
+  public void shouldAlwaysWriteByDefault() throws Exception {
+    Path file = Files.createTempFile("output", ".java");
+    try {
+      FileOutput<String> output = new FileOutput<>(file.toFile());
+      try (Writer writer = output.create("first")) {
+        writer.write("first");
+        assertEquals(0, output.getWritten());
+      }
+      write(output, "first");
+      assertEquals("first", new String(Files.readAllBytes(file)));
+      assertEquals(2, output.getWritten());
+      assertEquals(0, output.getSkipped());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void shouldKeepPermissionsWhenReplacing() throws Exception {
+    Path directory = Files.createTempDirectory("output");
+    Path file = directory.resolve("run.sh");
+    try {
+      Files.write(file, "old".getBytes());
+      Assume.assumeNotNull(Files.getFileAttributeView(file, PosixFileAttributeView.class));
+      Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rwxr-xr--");
+      Files.setPosixFilePermissions(file, permissions);
+
+      write(new FileOutput<>(s -> file, true), "new");
+      assertEquals("new", new String(Files.readAllBytes(file)));
+      assertEquals(permissions, Files.getPosixFilePermissions(file));
+
+      Path created = directory.resolve("Created.java");
+      Path reference = Files.write(directory.resolve("Reference.java"), "new".getBytes());
+      write(new FileOutput<>(s -> created, true), "new");
+      assertEquals(Files.getPosixFilePermissions(reference), Files.getPosixFilePermissions(created));
+    } finally {
+      Files.walk(directory).sorted((l, r) -> r.compareTo(l)).forEach(p -> p.toFile().delete());
+    }
+  }
+}
@@ -33,6 +33,8 @@ import io.sundr.SundrException;
 import io.sundr.codegen.api.Output;
 import io.sundr.codegen.api.Renderer;
 import io.sundr.model.utils.Types;
+import io.sundr.utils.Profiler;
+import io.sundr.utils.Profiler.Phase;
 import io.sundr.utils.Strings;
 
 public class GenericAptOutput<T> implements Output<T> {
@@ -58,7 +60,7 @@ public class GenericAptOutput<T> implements Output<T> {
   public Function<T, Writer> getFunction() {
     return type -> {
       try {
-        String rendered = renderer.render(type);
+        String rendered = Profiler.profile(Phase.RENDER, () -> renderer.render(type));
         Optional<String> name = Types.parseName(rendered);
         if ((name.isPresent())) {
           String pkg = Types.parsePackage(rendered).orElse(moduleAndPackage);
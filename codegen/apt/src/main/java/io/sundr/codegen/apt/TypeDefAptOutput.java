@@ -34,6 +34,8 @@ import io.sundr.codegen.api.Renderer;
 import io.sundr.codegen.api.TypeDefRenderer;
 import io.sundr.model.TypeDef;
 import io.sundr.model.utils.Types;
+import io.sundr.utils.Profiler;
+import io.sundr.utils.Profiler.Phase;
 import io.sundr.utils.Strings;
 
 public class TypeDefAptOutput implements Output<TypeDef> {
@@ -55,7 +57,7 @@ public class TypeDefAptOutput implements Output<TypeDef> {
   public Function<TypeDef, Writer> getFunction() {
     return type -> {
       try {
-        String rendered = renderer.render(type);
+        String rendered = Profiler.profile(Phase.RENDER, () -> renderer.render(type));
         String pkg = Types.parsePackage(rendered).orElse("");
         String name = Types.parseName(rendered)
             .orElseThrow(() -> new IllegalStateException("Cannot extract fully qualified name from generated code."));
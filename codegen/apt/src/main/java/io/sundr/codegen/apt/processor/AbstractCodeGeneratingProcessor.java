@@ -15,27 +15,84 @@
  */
 package io.sundr.codegen.apt.processor;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
 
 import io.sundr.adapter.api.AdapterContext;
 import io.sundr.adapter.apt.AptContext;
 import io.sundr.codegen.api.CodeGenerator;
 import io.sundr.codegen.apt.TypeDefAptOutput;
+import io.sundr.model.Nameable;
 import io.sundr.model.TypeDef;
+import io.sundr.model.repo.DefinitionCache;
 import io.sundr.model.repo.DefinitionRepository;
+import io.sundr.utils.ClassPathIndex;
+import io.sundr.utils.Profiler;
 
 public abstract class AbstractCodeGeneratingProcessor extends AbstractProcessor {
 
+  /**
+   * Processor option that enables phase profiling. Supported values are json and summary.
+   */
+  public static final String PROFILE_OPTION = "sundrio.profile";
+  public static final String PROFILE_JSON = "json";
+  public static final String PROFILE_SUMMARY = "summary";
+  private static final String PROFILE_LOCATION = "META-INF/sundrio/profile/";
+
+  /**
+   * Processor option that points to a directory, where definitions adapted from the class path are cached between
+   * generations. The cache is only used along with {@link #DEFINITIONS_FINGERPRINT_OPTION}.
+   */
+  public static final String DEFINITIONS_CACHE_OPTION = "sundrio.definitions.cache";
+  /**
+   * Processor option that holds a fingerprint of the generation inputs (e.g. a hash of the class path).
+   * Cached definitions are discarded when the fingerprint changes.
+   */
+  public static final String DEFINITIONS_FINGERPRINT_OPTION = "sundrio.definitions.fingerprint";
+  private static final String DEFINITIONS_CACHE_SUFFIX = ".definitions";
+
   private final AtomicReference<AptContext> context = new AtomicReference<>();
   protected CodeGenerator generator;
+  private String profileFormat;
+  private Profiler profiler;
+  private Path definitionsCache;
+  private String definitionsFingerprint;
+  private DefinitionCache restoredDefinitions;
+  private final Set<String> sourceTypes = new HashSet<>();
 
   @Override
   public synchronized void init(ProcessingEnvironment processingEnv) {
     super.init(processingEnv);
+    profileFormat = processingEnv.getOptions().get(PROFILE_OPTION);
+    if (profileFormat != null) {
+      profiler = new Profiler(getClass().getSimpleName());
+    }
+    String cacheDir = processingEnv.getOptions().get(DEFINITIONS_CACHE_OPTION);
+    definitionsFingerprint = processingEnv.getOptions().get(DEFINITIONS_FINGERPRINT_OPTION);
+    if (cacheDir != null && definitionsFingerprint == null) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+          "Option " + DEFINITIONS_CACHE_OPTION + " is ignored, as no " + DEFINITIONS_FINGERPRINT_OPTION + " is specified.");
+    } else if (cacheDir != null) {
+      definitionsCache = Paths.get(cacheDir).resolve(getClass().getSimpleName() + DEFINITIONS_CACHE_SUFFIX);
+    }
     context.set(AptContext.create(processingEnv.getElementUtils(), processingEnv.getTypeUtils(),
         DefinitionRepository.createRepository()));
 
@@ -50,6 +107,113 @@ public abstract class AbstractCodeGeneratingProcessor extends AbstractProcessor
     return SourceVersion.latest();
   }
 
+  @Override
+  public Set<String> getSupportedOptions() {
+    Set<String> options = new HashSet<>(super.getSupportedOptions());
+    options.add(PROFILE_OPTION);
+    options.add(DEFINITIONS_CACHE_OPTION);
+    options.add(DEFINITIONS_FINGERPRINT_OPTION);
+    return options;
+  }
+
+  /**
+   * Runs the specified round, with profiling enabled if requested via {@link #PROFILE_OPTION}.
+   * The caches of the {@link AptContext} are invalidated when a new round begins.
+   * When processing is over, the profile report is written to the class output and summarized via the messager.
+   * If requested via {@link #DEFINITIONS_CACHE_OPTION}, cached definitions are restored to the
+   * {@link #getDefinitionRepository() repository} of the processor before the first round, and are stored (and detached
+   * from the repository) when processing is over.
+   *
+   * @param env the round environment
+   * @param round the actual round processing
+   * @return the value returned by the round.
+   */
+  protected boolean profiled(RoundEnvironment env, Supplier<Boolean> round) {
+    context.get().forRound(env);
+    if (definitionsCache != null) {
+      restoreDefinitions(env);
+    }
+    boolean result = profiler != null ? profiler.call(round) : round.get();
+    if (env.processingOver()) {
+      if (profiler != null) {
+        writeProfile();
+      }
+      if (definitionsCache != null) {
+        try {
+          storeDefinitions();
+        } finally {
+          getDefinitionRepository().removeCache(restoredDefinitions);
+          restoredDefinitions = null;
+          sourceTypes.clear();
+        }
+      }
+    }
+    return result;
+  }
+
+  private void restoreDefinitions(RoundEnvironment env) {
+    for (Element element : env.getRootElements()) {
+      if (element instanceof TypeElement) {
+        sourceTypes.add(((TypeElement) element).getQualifiedName().toString());
+      }
+    }
+    if (restoredDefinitions == null) {
+      restoredDefinitions = DefinitionCache.open(definitionsCache, definitionsFingerprint);
+      getDefinitionRepository().addCache(restoredDefinitions);
+    }
+  }
+
+  /**
+   * Stores the definitions of the repository that were not adapted from the sources of the current compilation (or
+   * generated by it), along with the restored definitions that were not used.
+   * Nothing is stored, if all definitions were already restored from the cache.
+   */
+  private void storeDefinitions() {
+    Map<String, TypeDef> definitions = new LinkedHashMap<>();
+    for (TypeDef definition : getDefinitionRepository().getDefinitions(false)) {
+      if (!isSourceType(definition.getFullyQualifiedName())) {
+        definitions.put(definition.getFullyQualifiedName(), definition);
+      }
+    }
+    if (restoredDefinitions.getNames().containsAll(definitions.keySet())) {
+      return;
+    }
+    for (String name : restoredDefinitions.getNames()) {
+      if (!definitions.containsKey(name) && !isSourceType(name)) {
+        TypeDef restored = restoredDefinitions.get(name);
+        if (restored != null) {
+          definitions.put(name, restored);
+        }
+      }
+    }
+    try {
+      DefinitionCache.write(definitionsCache, definitionsFingerprint, definitions.values());
+    } catch (Exception e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+          "Failed to write definitions cache: " + definitionsCache + ". " + e.getMessage());
+    }
+  }
+
+  private boolean isSourceType(String fullyQualifiedName) {
+    String outerTypeName = Nameable.getOuterTypeName(fullyQualifiedName);
+    return sourceTypes.contains(fullyQualifiedName) || (outerTypeName != null && sourceTypes.contains(outerTypeName));
+  }
+
+  private void writeProfile() {
+    boolean json = PROFILE_JSON.equalsIgnoreCase(profileFormat);
+    String name = PROFILE_LOCATION + profiler.getName() + (json ? ".json" : ".txt");
+    try {
+      FileObject fileObject = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", name);
+      try (Writer writer = fileObject.openWriter()) {
+        writer.write(json ? profiler.toJson() : profiler.toSummary());
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+          "Failed to write profile report: " + name + ". " + e.getMessage());
+    }
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, profiler.toSummary());
+  }
+
   public void generate(TypeDef type) {
     if (generator == null) {
       throw new IllegalStateException("CodeGenerator instance shoud not be null.");
@@ -76,6 +240,10 @@ public abstract class AbstractCodeGeneratingProcessor extends AbstractProcessor
    * @return True if class can be found, false otherwise.
    */
   private static boolean classExists(TypeDef typeDef) {
+    ClassPathIndex index = ClassPathIndex.of(AbstractCodeGeneratingProcessor.class.getClassLoader());
+    if (index.isComplete()) {
+      return index.contains(typeDef.getFullyQualifiedName());
+    }
     try {
       Class.forName(typeDef.getFullyQualifiedName());
       return true;
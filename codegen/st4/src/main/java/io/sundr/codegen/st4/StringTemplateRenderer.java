@@ -35,12 +35,14 @@ public class StringTemplateRenderer<T> extends TemplateRenderer<T> {
   private static final String MODEL = "model";
   private static final String PARAMETERS = "parameters";
 
-  private final String templateContent;
+  private final STGroup group;
   private final String[] parameters;
 
   public StringTemplateRenderer(String templateContent, String... parameters) {
-    this.templateContent = templateContent;
     this.parameters = parameters;
+    //Compile the template once, each item only gets a new instance of it.
+    this.group = new STGroup('$', '$');
+    this.group.defineTemplate(TEMPLATE, MODEL + "," + PARAMETERS, templateContent);
   }
 
   public static Optional<StringTemplateRenderer<?>> fromTemplate(String templateContent, String... parameters) {
@@ -70,8 +72,7 @@ public class StringTemplateRenderer<T> extends TemplateRenderer<T> {
   @Override
   public Function<T, String> getFunction() {
     return item -> {
-      ST st = new ST(templateContent, '$', '$');
-      System.out.println("MODEL:" + item);
+      ST st = group.getInstanceOf(TEMPLATE);
       st.add(MODEL, item);
       st.add(PARAMETERS, parameters);
       return st.render();
@@ -32,4 +32,12 @@ public class StringTemplateRendererTest {
     String result = renderer.render(string);
     assertEquals(String.class.getName(), result);
   }
+
+  @Test
+  public void testStringTemplateRendererReuse() throws Exception {
+    StringTemplateRenderer<TypeDef> renderer = new StringTemplateRenderer<>(
+        "$parameters:{p|$p$}; separator=\",\"$:$model.name$", "a", "b");
+    assertEquals("a,b:String", renderer.render(TypeDef.forName(String.class.getName())));
+    assertEquals("a,b:Integer", renderer.render(TypeDef.forName(Integer.class.getName())));
+  }
 }
@@ -17,6 +17,7 @@
 
 package io.sundr.codegen.velocity;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.ServiceLoader;
 import java.util.stream.Collectors;
@@ -24,10 +25,17 @@ import java.util.stream.StreamSupport;
 
 public class DirectiveProviders {
 
+  private static volatile List<String> directives;
+
   public static List<String> listDirectives() {
-    return StreamSupport
-        .stream(ServiceLoader.load(DirectiveProvider.class, DirectiveProviders.class.getClassLoader()).spliterator(), false)
-        .map(DirectiveProvider::getName)
-        .collect(Collectors.toList());
+    List<String> result = directives;
+    if (result == null) {
+      result = Collections.unmodifiableList(StreamSupport
+          .stream(ServiceLoader.load(DirectiveProvider.class, DirectiveProviders.class.getClassLoader()).spliterator(), false)
+          .map(DirectiveProvider::getName)
+          .collect(Collectors.toList()));
+      directives = result;
+    }
+    return result;
   }
 }
@@ -27,56 +27,21 @@ import java.util.function.Function;
 
 import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.VelocityEngine;
-import org.apache.velocity.runtime.ParserPoolImpl;
-import org.apache.velocity.runtime.RuntimeConstants;
-import org.apache.velocity.runtime.log.SystemLogChute;
-import org.apache.velocity.runtime.resource.ResourceCacheImpl;
-import org.apache.velocity.runtime.resource.ResourceManagerImpl;
-import org.apache.velocity.runtime.resource.loader.StringResourceLoader;
-import org.apache.velocity.runtime.resource.util.StringResourceRepository;
-import org.apache.velocity.util.introspection.UberspectImpl;
 
 import io.sundr.SundrException;
 import io.sundr.codegen.template.TemplateRenderer;
 
 public class VelocityRenderer<T> extends TemplateRenderer<T> {
 
-  private static final String TEMPLATE = "template";
   private static final String MODEL = "model";
   private static final String PARAMETERS = "parameters";
 
-  private final StringResourceRepository repo;
-  private final VelocityEngine velocityEngine;
   private final Template template;
   private final String[] parameters;
 
   public VelocityRenderer(String templateContent, String... parameters) {
     this.parameters = parameters;
-    this.velocityEngine = new VelocityEngine();
-    this.velocityEngine.setProperty(RuntimeConstants.RESOURCE_LOADER, "string");
-    this.velocityEngine.setProperty("string.resource.loader.class", StringResourceLoader.class.getName());
-    //We are going to use shading so we need to make sure that the following configuration will be shade friendly...
-    this.velocityEngine.setProperty(RuntimeConstants.RESOURCE_MANAGER_CLASS, ResourceManagerImpl.class.getName());
-    this.velocityEngine.setProperty(RuntimeConstants.RESOURCE_MANAGER_CACHE_CLASS, ResourceCacheImpl.class.getName());
-    this.velocityEngine.setProperty(RuntimeConstants.PARSER_POOL_CLASS, ParserPoolImpl.class.getName());
-    this.velocityEngine.setProperty(RuntimeConstants.UBERSPECT_CLASSNAME, UberspectImpl.class.getName());
-    this.velocityEngine.setProperty("runtime.log.logsystem.class", SystemLogChute.class.getName());
-
-    ClassLoader current = Thread.currentThread().getContextClassLoader();
-    try {
-      Thread.currentThread().setContextClassLoader(VelocityEngine.class.getClassLoader());
-      this.velocityEngine.init();
-
-      this.repo = StringResourceLoader.getRepository();
-      this.repo.putStringResource(TEMPLATE, templateContent);
-      //Load standard directives
-      DirectiveProviders.listDirectives().forEach(velocityEngine::loadDirective);
-    } finally {
-      Thread.currentThread().setContextClassLoader(current);
-    }
-
-    this.template = this.velocityEngine.getTemplate(TEMPLATE);
+    this.template = VelocityTemplates.getTemplate(templateContent);
   }
 
   public static Optional<VelocityRenderer<?>> fromTemplate(String templateContent, String... parameters) {
@@ -0,0 +1,161 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.codegen.velocity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.velocity.Template;
+import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.runtime.ParserPoolImpl;
+import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.log.SystemLogChute;
+import org.apache.velocity.runtime.resource.ResourceCacheImpl;
+import org.apache.velocity.runtime.resource.ResourceManagerImpl;
+import org.apache.velocity.runtime.resource.loader.StringResourceLoader;
+import org.apache.velocity.runtime.resource.util.StringResourceRepository;
+import org.apache.velocity.util.introspection.UberspectImpl;
+
+import io.sundr.SundrException;
+
+/**
+ * The {@link VelocityEngine} shared by all renderers, along with the templates it has parsed.
+ *
+ * The engine is initialized (and the directives are loaded) once. Templates are parsed once per content and the most
+ * recently used ones are kept, up to {@link #MAX_TEMPLATES}. The content is only registered to the repository of the
+ * engine while it is being parsed.
+ */
+public final class VelocityTemplates {
+
+  private static final String REPOSITORY_NAME = VelocityTemplates.class.getName();
+  private static final String TEMPLATE_PREFIX = "template-";
+
+  /**
+   * The maximum number of parsed templates to keep.
+   */
+  public static final int MAX_TEMPLATES = 256;
+
+  private static final Map<String, Template> TEMPLATES = Collections
+      .synchronizedMap(new LinkedHashMap<String, Template>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Template> eldest) {
+          return size() > MAX_TEMPLATES;
+        }
+      });
+  private static final AtomicLong SEQUENCE = new AtomicLong();
+  private static volatile VelocityEngine ENGINE;
+
+  private VelocityTemplates() {
+    //Utility class
+  }
+
+  /**
+   * @return the shared engine.
+   */
+  public static VelocityEngine getEngine() {
+    VelocityEngine result = ENGINE;
+    if (result == null) {
+      synchronized (VelocityTemplates.class) {
+        result = ENGINE;
+        if (result == null) {
+          result = createEngine();
+          ENGINE = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Get the parsed template of the specified content.
+   *
+   * @param content the content of the template.
+   * @return the template, which is shared by all callers with the same content.
+   */
+  public static Template getTemplate(String content) {
+    String hash = hash(content);
+    Template template = TEMPLATES.get(hash);
+    if (template != null) {
+      return template;
+    }
+    //Parse outside of the lock. Each parse uses a name of its own, so that concurrent ones don't remove each other's content.
+    template = parse(TEMPLATE_PREFIX + hash + "-" + SEQUENCE.incrementAndGet(), content);
+    Template existing = TEMPLATES.putIfAbsent(hash, template);
+    return existing != null ? existing : template;
+  }
+
+  private static Template parse(String name, String content) {
+    VelocityEngine engine = getEngine();
+    StringResourceRepository repository = StringResourceLoader.getRepository(REPOSITORY_NAME);
+    repository.putStringResource(name, content);
+    try {
+      return engine.getTemplate(name);
+    } finally {
+      repository.removeStringResource(name);
+    }
+  }
+
+  /**
+   * @return the number of parsed templates.
+   */
+  public static int size() {
+    return TEMPLATES.size();
+  }
+
+  private static VelocityEngine createEngine() {
+    VelocityEngine engine = new VelocityEngine();
+    engine.setProperty(RuntimeConstants.RESOURCE_LOADER, "string");
+    engine.setProperty("string.resource.loader.class", StringResourceLoader.class.getName());
+    engine.setProperty("string.resource.loader." + StringResourceLoader.REPOSITORY_NAME, REPOSITORY_NAME);
+    //We are going to use shading so we need to make sure that the following configuration will be shade friendly...
+    engine.setProperty(RuntimeConstants.RESOURCE_MANAGER_CLASS, ResourceManagerImpl.class.getName());
+    engine.setProperty(RuntimeConstants.RESOURCE_MANAGER_CACHE_CLASS, ResourceCacheImpl.class.getName());
+    engine.setProperty(RuntimeConstants.PARSER_POOL_CLASS, ParserPoolImpl.class.getName());
+    engine.setProperty(RuntimeConstants.UBERSPECT_CLASSNAME, UberspectImpl.class.getName());
+    engine.setProperty("runtime.log.logsystem.class", SystemLogChute.class.getName());
+
+    ClassLoader current = Thread.currentThread().getContextClassLoader();
+    try {
+      Thread.currentThread().setContextClassLoader(VelocityEngine.class.getClassLoader());
+      engine.init();
+      //Load standard directives
+      DirectiveProviders.listDirectives().forEach(engine::loadDirective);
+    } finally {
+      Thread.currentThread().setContextClassLoader(current);
+    }
+    return engine;
+  }
+
+  private static String hash(String content) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+      StringBuilder sb = new StringBuilder(digest.length * 2);
+      for (byte b : digest) {
+        sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+      }
+      return sb.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw SundrException.launderThrowable(e);
+    }
+  }
+}
@@ -18,6 +18,8 @@
 package io.sundr.codegen.velocity;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
@@ -42,4 +44,29 @@ public class VelocityRendererTest {
       assertEquals(String.class.getName(), result);
     });
   }
+
+  @Test
+  public void testVelocityRendererSharesTemplates() throws Exception {
+    VelocityRenderer<TypeDef> first = new VelocityRenderer<>("${model.getName()}");
+    VelocityRenderer<TypeDef> second = new VelocityRenderer<>("package ${model.getPackageName()};");
+    VelocityRenderer<TypeDef> third = new VelocityRenderer<>("${model.getName()}");
+    assertSame(VelocityTemplates.getTemplate("${model.getName()}"), VelocityTemplates.getTemplate("${model.getName()}"));
+
+    TypeDef string = TypeDef.forName(String.class.getName());
+    //Renderers created later must not replace the template of earlier ones.
+    assertEquals("String", first.render(string));
+    assertEquals("package java.lang;", second.render(string));
+    assertEquals("String", third.render(string));
+  }
+
+  @Test
+  public void testVelocityTemplatesAreBounded() throws Exception {
+    VelocityRenderer<TypeDef> first = new VelocityRenderer<>("first ${model.getName()}");
+    for (int i = 0; i < VelocityTemplates.MAX_TEMPLATES + 10; i++) {
+      VelocityTemplates.getTemplate("template " + i);
+    }
+    assertTrue(VelocityTemplates.size() <= VelocityTemplates.MAX_TEMPLATES);
+    //Evicted templates remain usable by the renderers that hold them.
+    assertEquals("first String", first.render(TypeDef.forName(String.class.getName())));
+  }
 }
@@ -18,11 +18,14 @@ package io.sundr.builder;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 public class BaseFluent<F> {
@@ -68,6 +71,85 @@ public class BaseFluent<F> {
     return new LinkedHashSet(Arrays.stream(sets).filter(Objects::nonNull).collect(Collectors.toSet()));
   }
 
+  /*
+   * The methods below are shared by fluents generated in compact mode (see Buildable#compactFluentEnabled).
+   * They are prefixed with an underscore, so that they don't clash with the methods generated for the properties.
+   */
+
+  protected <B extends Visitable<?>> void _addTo(String name, Collection<B> collection, B builder) {
+    _visitables.get(name).add(builder);
+    collection.add(builder);
+  }
+
+  protected <B extends Visitable<?>> void _addTo(String name, List<B> list, int index, B builder) {
+    if (index < 0 || index >= list.size()) {
+      _visitables.get(name).add(builder);
+      list.add(builder);
+    } else {
+      _visitables.get(name).add(index, builder);
+      list.add(index, builder);
+    }
+  }
+
+  protected <B extends Visitable<?>> void _setTo(String name, List<B> list, int index, B builder) {
+    if (index < 0 || index >= list.size()) {
+      _visitables.get(name).add(builder);
+      list.add(builder);
+    } else {
+      _visitables.get(name).set(index, builder);
+      list.set(index, builder);
+    }
+  }
+
+  protected <B extends Visitable<?>> void _removeFrom(String name, Collection<B> collection, B builder) {
+    _visitables.get(name).remove(builder);
+    collection.remove(builder);
+  }
+
+  protected <B extends Visitable<?>> void _removeMatchingFrom(String name, Collection<B> collection,
+      Predicate<? super B> predicate) {
+    if (collection == null) {
+      return;
+    }
+    final Iterator<B> each = collection.iterator();
+    final List visitables = _visitables.get(name);
+    while (each.hasNext()) {
+      B builder = each.next();
+      if (predicate.test(builder)) {
+        visitables.remove(builder);
+        each.remove();
+      }
+    }
+  }
+
+  protected static <T, B extends Builder<? extends T>> T _buildMatching(Collection<B> builders,
+      Predicate<? super B> predicate) {
+    B match = _getMatching(builders, predicate);
+    return match != null ? match.build() : null;
+  }
+
+  protected static <E> E _getMatching(Collection<E> items, Predicate<? super E> predicate) {
+    if (items != null) {
+      for (E item : items) {
+        if (predicate.test(item)) {
+          return item;
+        }
+      }
+    }
+    return null;
+  }
+
+  protected static <E> boolean _hasMatching(Collection<E> items, Predicate<? super E> predicate) {
+    if (items != null) {
+      for (E item : items) {
+        if (predicate.test(item)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
   @Override
   public int hashCode() {
     final int prime = 31;
@@ -0,0 +1,387 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+
+/**
+ * An index of the classes of a class path, that tells if a class exists (and where) without loading it.
+ *
+ * Jars are indexed by reading their central directory and directories by walking them, once per index. Classes that
+ * are not found in the index are also probed in the directories, so class files created later (e.g. in a class
+ * output directory) are still found. The classes of the java runtime image are indexed per package, the first time a
+ * package is queried.
+ *
+ * An index created for a {@link ClassLoader} is only complete, if all the loaders of the delegation chain are the
+ * system class loader or plain {@link URLClassLoader} instances that load from local directories and jars.
+ * Subclasses (e.g. class realms) may also load classes from elsewhere, so they are never considered complete.
+ * When the index is not complete, classes it doesn't contain may still be loadable.
+ */
+public final class ClassPathIndex {
+
+  private static final String CLASS_SUFFIX = ".class";
+  private static final String META_INF = "META-INF/";
+  private static final String JAVA_CLASS_PATH = "java.class.path";
+  private static final String JDK_MODULE_PATH = "jdk.module.path";
+  private static final String FILE = "file";
+  private static final String JRT = "jrt:/";
+
+  private static final Map<ClassLoader, ClassPathIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+  private final Map<String, Path> classes = new HashMap<>();
+  private final List<Path> directories = new ArrayList<>();
+  private final RuntimeImage runtimeImage;
+  private final boolean complete;
+
+  private ClassPathIndex(Collection<Path> paths, RuntimeImage runtimeImage, boolean complete) {
+    Set<Path> visited = new LinkedHashSet<>();
+    for (Path path : paths) {
+      index(path, visited);
+    }
+    this.runtimeImage = runtimeImage;
+    this.complete = complete && runtimeImage != null;
+  }
+
+  /**
+   * Get the index of the system class loader (i.e. the runtime image and the {@code java.class.path} and
+   * {@code jdk.module.path} entries).
+   *
+   * @return the index.
+   */
+  public static ClassPathIndex getDefault() {
+    return of(ClassLoader.getSystemClassLoader());
+  }
+
+  /**
+   * Get the index of the classes visible to the specified {@link ClassLoader}.
+   * Indexes are created once per class loader.
+   *
+   * @param classLoader the class loader.
+   * @return the index.
+   */
+  public static ClassPathIndex of(ClassLoader classLoader) {
+    return INDEXES.computeIfAbsent(classLoader, ClassPathIndex::create);
+  }
+
+  public static ClassPathIndex of(Path... paths) {
+    return of(Arrays.asList(paths));
+  }
+
+  /**
+   * Create an index of the runtime image and the specified directories and jars.
+   * Jar manifest entries are included and non existing paths are ignored.
+   *
+   * @param paths the paths.
+   * @return the index.
+   */
+  public static ClassPathIndex of(Collection<Path> paths) {
+    return new ClassPathIndex(paths, RuntimeImage.create(), true);
+  }
+
+  private static ClassPathIndex create(ClassLoader classLoader) {
+    ClassLoader system = ClassLoader.getSystemClassLoader();
+    ClassLoader platform = ClassLoader.getPlatformClassLoader();
+    List<List<Path>> chain = new ArrayList<>();
+    boolean complete = true;
+    for (ClassLoader loader = classLoader; loader != null && loader != platform; loader = loader.getParent()) {
+      if (loader == system) {
+        chain.add(getApplicationPath());
+      } else if (loader.getClass() == URLClassLoader.class) {
+        List<Path> paths = new ArrayList<>();
+        for (URL url : ((URLClassLoader) loader).getURLs()) {
+          Optional<Path> path = toPath(url);
+          complete = complete && path.isPresent();
+          path.ifPresent(paths::add);
+        }
+        chain.add(paths);
+      } else {
+        complete = false;
+      }
+    }
+    //Loaders delegate to their parent first.
+    Collections.reverse(chain);
+    List<Path> paths = chain.stream().flatMap(List::stream).collect(Collectors.toList());
+    return new ClassPathIndex(paths, RuntimeImage.create(), complete);
+  }
+
+  /**
+   * Checks if the index knows all the classes of the class path. If not, the classes that are not found may still
+   * exist.
+   *
+   * @return true if the index is complete.
+   */
+  public boolean isComplete() {
+    return complete;
+  }
+
+  /**
+   * Checks if the specified class exists.
+   *
+   * @param binaryName the binary name of the class (e.g. {@code java.util.Map$Entry}).
+   * @return true if the class is found.
+   */
+  public boolean contains(String binaryName) {
+    return locate(binaryName).isPresent();
+  }
+
+  /**
+   * Checks if the specified class may exist. Unlike {@link #contains(String)}, this is true for all the classes
+   * that are not found, if the index is not complete.
+   *
+   * @param binaryName the binary name of the class.
+   * @return false, if the class definitely doesn't exist.
+   */
+  public boolean mayContain(String binaryName) {
+    return !complete || contains(binaryName);
+  }
+
+  /**
+   * Find the class path entry of the specified class.
+   *
+   * @param binaryName the binary name of the class (e.g. {@code java.util.Map$Entry}).
+   * @return the path of the directory or jar (or runtime image module) that contains the class, empty if not found.
+   */
+  public Optional<Path> locate(String binaryName) {
+    if (runtimeImage != null) {
+      Path module = runtimeImage.locate(binaryName);
+      if (module != null) {
+        return Optional.of(module);
+      }
+    }
+    Path entry = classes.get(binaryName);
+    if (entry != null) {
+      return Optional.of(entry);
+    }
+    String resource = binaryName.replace('.', '/') + CLASS_SUFFIX;
+    for (Path directory : directories) {
+      if (Files.isRegularFile(directory.resolve(resource))) {
+        return Optional.of(directory);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Get the binary name of the specified type.
+   * Nested types can be specified either using their binary name or their fully qualified name.
+   *
+   * @param fullyQualifiedName the name of the type.
+   * @return the binary name if the type is found, empty otherwise.
+   */
+  public Optional<String> getBinaryName(String fullyQualifiedName) {
+    String name = fullyQualifiedName;
+    while (true) {
+      if (contains(name)) {
+        return Optional.of(name);
+      }
+      int index = name.lastIndexOf('.');
+      if (index < 0) {
+        return Optional.empty();
+      }
+      name = name.substring(0, index) + '$' + name.substring(index + 1);
+    }
+  }
+
+  /**
+   * @return the number of indexed classes, excluding the classes of the runtime image.
+   */
+  public int size() {
+    return classes.size();
+  }
+
+  private void index(Path path, Set<Path> visited) {
+    Path normalized = path.toAbsolutePath().normalize();
+    if (!visited.add(normalized)) {
+      return;
+    }
+    if (Files.isDirectory(normalized)) {
+      directories.add(normalized);
+      indexDirectory(normalized, classes);
+    } else if (Files.isRegularFile(normalized)) {
+      for (Path manifestPath : indexJar(normalized, classes)) {
+        index(manifestPath, visited);
+      }
+    }
+  }
+
+  private static void indexDirectory(Path directory, Map<String, Path> classes) {
+    try (Stream<Path> files = Files.walk(directory)) {
+      files.filter(f -> f.getFileName().toString().endsWith(CLASS_SUFFIX))
+          .map(f -> directory.relativize(f).toString().replace(File.separatorChar, '/'))
+          .forEach(name -> addClass(name, directory, classes));
+    } catch (IOException e) {
+      //Unreadable directories are skipped, like the vm does.
+    }
+  }
+
+  /**
+   * Index the entries of the specified jar.
+   *
+   * @return the class path of the jar manifest.
+   */
+  private static List<Path> indexJar(Path jar, Map<String, Path> classes) {
+    try (JarFile jarFile = new JarFile(jar.toFile())) {
+      Enumeration<? extends ZipEntry> entries = jarFile.entries();
+      while (entries.hasMoreElements()) {
+        ZipEntry entry = entries.nextElement();
+        if (!entry.isDirectory()) {
+          addClass(entry.getName(), jar, classes);
+        }
+      }
+      return getManifestClassPath(jar, jarFile.getManifest());
+    } catch (IOException e) {
+      //Not a jar, or unreadable.
+      return Collections.emptyList();
+    }
+  }
+
+  private static void addClass(String resource, Path entry, Map<String, Path> classes) {
+    if (!resource.endsWith(CLASS_SUFFIX) || resource.startsWith(META_INF) || resource.indexOf('-') >= 0) {
+      //Skip resources, versioned entries, module-info and package-info.
+      return;
+    }
+    String binaryName = resource.substring(0, resource.length() - CLASS_SUFFIX.length()).replace('/', '.');
+    classes.putIfAbsent(binaryName, entry);
+  }
+
+  private static List<Path> getManifestClassPath(Path jar, Manifest manifest) {
+    String classPath = manifest != null ? manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH) : null;
+    if (classPath == null) {
+      return Collections.emptyList();
+    }
+    List<Path> result = new ArrayList<>();
+    for (String element : classPath.trim().split("\\s+")) {
+      try {
+        URI uri = jar.getParent().toUri().resolve(element);
+        if (FILE.equals(uri.getScheme())) {
+          result.add(Paths.get(uri));
+        }
+      } catch (IllegalArgumentException e) {
+        //Ignore invalid entries, like the vm does.
+      }
+    }
+    return result;
+  }
+
+  private static List<Path> getApplicationPath() {
+    String path = System.getProperty(JAVA_CLASS_PATH, "") + File.pathSeparator + System.getProperty(JDK_MODULE_PATH, "");
+    return Arrays.stream(path.split(File.pathSeparator))
+        .filter(s -> !s.isEmpty())
+        .map(Paths::get)
+        .collect(Collectors.toList());
+  }
+
+  private static Optional<Path> toPath(URL url) {
+    if (!FILE.equals(url.getProtocol())) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(Paths.get(url.toURI()));
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * The classes of the java runtime, read from the jrt file system.
+   */
+  private static final class RuntimeImage {
+
+    private static volatile Optional<RuntimeImage> INSTANCE;
+
+    private final FileSystem fileSystem;
+    private final Map<String, Map<String, Path>> packages = new ConcurrentHashMap<>();
+
+    private RuntimeImage(FileSystem fileSystem) {
+      this.fileSystem = fileSystem;
+    }
+
+    private static RuntimeImage create() {
+      Optional<RuntimeImage> result = INSTANCE;
+      if (result == null) {
+        try {
+          result = Optional.of(new RuntimeImage(FileSystems.getFileSystem(URI.create(JRT))));
+        } catch (Exception e) {
+          //No runtime image (e.g. the vm doesn't provide the jrt file system).
+          result = Optional.empty();
+        }
+        INSTANCE = result;
+      }
+      return result.orElse(null);
+    }
+
+    private Path locate(String binaryName) {
+      int index = binaryName.lastIndexOf('.');
+      if (index < 0) {
+        return null;
+      }
+      return packages.computeIfAbsent(binaryName.substring(0, index), this::indexPackage)
+          .get(binaryName.substring(index + 1));
+    }
+
+    private Map<String, Path> indexPackage(String packageName) {
+      Path packagePath = fileSystem.getPath("/packages", packageName);
+      if (!Files.isDirectory(packagePath)) {
+        return Collections.emptyMap();
+      }
+      Map<String, Path> result = new HashMap<>();
+      try (Stream<Path> modules = Files.list(packagePath)) {
+        for (Path link : modules.collect(Collectors.toList())) {
+          Path module = fileSystem.getPath("/modules", link.getFileName().toString());
+          try (Stream<Path> files = Files.list(module.resolve(packageName.replace('.', '/')))) {
+            files.map(f -> f.getFileName().toString())
+                .filter(f -> f.endsWith(CLASS_SUFFIX) && f.indexOf('-') < 0)
+                .forEach(f -> result.putIfAbsent(f.substring(0, f.length() - CLASS_SUFFIX.length()), module));
+          }
+        }
+      } catch (IOException e) {
+        return Collections.emptyMap();
+      }
+      return result;
+    }
+  }
+}
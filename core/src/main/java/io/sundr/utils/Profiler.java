@@ -0,0 +1,264 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Records wall time and allocated bytes per code generation {@link Phase}.
+ *
+ * A profiler only records while it is active on the current thread (see {@link #call(Supplier)}). When no profiler is
+ * active, {@link #profile(Phase, Supplier)} and {@link #enter(Phase)} are no-ops.
+ *
+ * Phases may nest (e.g. rendering triggered while writing). For each phase we keep the inclusive time (outermost
+ * invocation only, so that recursion is not counted twice) and the self time (excluding nested phases).
+ */
+public final class Profiler {
+
+  public enum Phase {
+    ADAPT, TYPE_ARGUMENTS, TRANSFORM, VISIT, RENDER, WRITE
+  }
+
+  /**
+   * A profiled section. Closing the span records its measurements.
+   */
+  public interface Span extends AutoCloseable {
+    @Override
+    void close();
+  }
+
+  private static final Span NOOP = () -> {
+  };
+
+  private static final ThreadLocal<Profiler> CURRENT = new ThreadLocal<>();
+  private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+  private final String name;
+  private final Map<Phase, Stats> stats = new EnumMap<>(Phase.class);
+  private final ThreadLocal<Deque<Frame>> frames = ThreadLocal.withInitial(ArrayDeque::new);
+
+  public Profiler(String name) {
+    this.name = name;
+    for (Phase phase : Phase.values()) {
+      stats.put(phase, new Stats());
+    }
+  }
+
+  /**
+   * Profile the specified phase using the profiler that is active on the current thread (if any).
+   *
+   * @param phase the phase
+   * @param supplier the code to profile
+   * @return the value returned by the supplier
+   */
+  public static <V> V profile(Phase phase, Supplier<V> supplier) {
+    try (Span span = enter(phase)) {
+      return supplier.get();
+    }
+  }
+
+  /**
+   * Enter the specified phase using the profiler that is active on the current thread (if any).
+   *
+   * @param phase the phase
+   * @return the span to close, when the phase is complete.
+   */
+  public static Span enter(Phase phase) {
+    Profiler profiler = CURRENT.get();
+    return profiler != null ? profiler.start(phase) : NOOP;
+  }
+
+  /**
+   * Returns true if there is an active profiler on the current thread.
+   *
+   * @return true if profiling, false otherwise.
+   */
+  public static boolean isActive() {
+    return CURRENT.get() != null;
+  }
+
+  /**
+   * Make this profiler the active profiler on the current thread, for the duration of the supplier.
+   *
+   * @param supplier the code to run
+   * @return the value returned by the supplier
+   */
+  public <V> V call(Supplier<V> supplier) {
+    Profiler previous = CURRENT.get();
+    CURRENT.set(this);
+    try {
+      return supplier.get();
+    } finally {
+      if (previous != null) {
+        CURRENT.set(previous);
+      } else {
+        CURRENT.remove();
+      }
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public long getCount(Phase phase) {
+    return stats.get(phase).count.sum();
+  }
+
+  public long getTotalNanos(Phase phase) {
+    return stats.get(phase).totalNanos.sum();
+  }
+
+  public long getSelfNanos(Phase phase) {
+    return stats.get(phase).selfNanos.sum();
+  }
+
+  public long getTotalBytes(Phase phase) {
+    return stats.get(phase).totalBytes.sum();
+  }
+
+  public long getSelfBytes(Phase phase) {
+    return stats.get(phase).selfBytes.sum();
+  }
+
+  /**
+   * Renders the collected measurements as json.
+   *
+   * @return the json string.
+   */
+  public String toJson() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("{\n  \"name\": \"").append(name.replace("\"", "\\\"")).append("\",\n");
+    sb.append("  \"allocationSupported\": ").append(isAllocationSupported()).append(",\n");
+    sb.append("  \"phases\": [");
+    boolean first = true;
+    for (Phase phase : Phase.values()) {
+      sb.append(first ? "\n" : ",\n");
+      first = false;
+      sb.append("    {\"phase\": \"").append(phase.name().toLowerCase()).append("\"")
+          .append(", \"count\": ").append(getCount(phase))
+          .append(", \"totalMillis\": ").append(millis(getTotalNanos(phase)))
+          .append(", \"selfMillis\": ").append(millis(getSelfNanos(phase)))
+          .append(", \"totalBytes\": ").append(getTotalBytes(phase))
+          .append(", \"selfBytes\": ").append(getSelfBytes(phase))
+          .append("}");
+    }
+    sb.append("\n  ]\n}\n");
+    return sb.toString();
+  }
+
+  /**
+   * Renders the collected measurements as a human readable table.
+   *
+   * @return the summary string.
+   */
+  public String toSummary() {
+    StringBuilder sb = new StringBuilder();
+    sb.append(String.format("%s phase profile:%n", name));
+    sb.append(String.format("%-16s %10s %12s %12s %12s %12s%n", "phase", "count", "total(ms)", "self(ms)", "total(KB)",
+        "self(KB)"));
+    for (Phase phase : Phase.values()) {
+      sb.append(String.format("%-16s %10d %12d %12d %12d %12d%n", phase.name().toLowerCase(), getCount(phase),
+          millis(getTotalNanos(phase)), millis(getSelfNanos(phase)), getTotalBytes(phase) / 1024,
+          getSelfBytes(phase) / 1024));
+    }
+    return sb.toString();
+  }
+
+  private Span start(Phase phase) {
+    Deque<Frame> stack = frames.get();
+    boolean reentrant = false;
+    for (Frame f : stack) {
+      if (f.phase == phase) {
+        reentrant = true;
+        break;
+      }
+    }
+    Frame frame = new Frame(phase, reentrant, System.nanoTime(), allocatedBytes());
+    stack.push(frame);
+    return () -> stop(stack, frame);
+  }
+
+  private void stop(Deque<Frame> stack, Frame frame) {
+    long elapsed = System.nanoTime() - frame.startNanos;
+    long allocated = allocatedBytes() - frame.startBytes;
+    stack.remove(frame);
+
+    Stats s = stats.get(frame.phase);
+    s.count.increment();
+    s.selfNanos.add(elapsed - frame.childNanos);
+    s.selfBytes.add(allocated - frame.childBytes);
+    if (!frame.reentrant) {
+      s.totalNanos.add(elapsed);
+      s.totalBytes.add(allocated);
+    }
+
+    Frame parent = stack.peek();
+    if (parent != null) {
+      parent.childNanos += elapsed;
+      parent.childBytes += allocated;
+    }
+  }
+
+  private static boolean isAllocationSupported() {
+    return THREADS instanceof com.sun.management.ThreadMXBean
+        && ((com.sun.management.ThreadMXBean) THREADS).isThreadAllocatedMemoryEnabled();
+  }
+
+  private static long allocatedBytes() {
+    if (isAllocationSupported()) {
+      return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    return 0;
+  }
+
+  private static long millis(long nanos) {
+    return nanos/1_000_000;
+  }
+
+  private static final class Stats {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder selfNanos = new LongAdder();
+    private final LongAdder totalBytes = new LongAdder();
+    private final LongAdder selfBytes = new LongAdder();
+  }
+
+  private static final class Frame {
+    private final Phase phase;
+    private final boolean reentrant;
+    private final long startNanos;
+    private final long startBytes;
+    private long childNanos;
+    private long childBytes;
+
+    private Frame(Phase phase, boolean reentrant, long startNanos, long startBytes) {
+      this.phase = phase;
+      this.reentrant = reentrant;
+      this.startNanos = startNanos;
+      this.startBytes = startBytes;
+    }
+  }
+}
@@ -0,0 +1,184 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.utils;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Loads resources and caches their content.
+ *
+ * Resources are read in bulk and decoded at once. Cached entries are keyed by url and are validated against the last
+ * modified time of the resource: for files it's the time of the file, for jar entries the time of the jar. Resources
+ * of other protocols are not cached.
+ */
+public final class Resources {
+
+  private static final String FILE = "file";
+  private static final String JAR = "jar";
+  private static final String JAR_SEPARATOR = "!/";
+  private static final long UNKNOWN = -1;
+
+  private static final Cache<String> CONTENT = new Cache<>(Resources::read);
+
+  private Resources() {
+    //Utility class
+  }
+
+  /**
+   * Read the content of the resource, bypassing the cache.
+   *
+   * @param url the url of the resource.
+   * @return the content, decoded using the default charset.
+   * @throws IOException if the resource can't be read.
+   */
+  public static String read(URL url) throws IOException {
+    URLConnection connection = url.openConnection();
+    //Don't let jar connections keep (possibly stale) jars open.
+    connection.setUseCaches(false);
+    try (InputStream is = connection.getInputStream()) {
+      return new String(is.readAllBytes(), Charset.defaultCharset());
+    }
+  }
+
+  /**
+   * Load the content of the resource.
+   *
+   * @param url the url of the resource.
+   * @return the content, decoded using the default charset.
+   * @throws IOException if the resource can't be read.
+   */
+  public static String load(URL url) throws IOException {
+    return CONTENT.get(url);
+  }
+
+  /**
+   * Load the content of the classpath resource.
+   *
+   * @param resourceName the name of the resource.
+   * @return the content, decoded using the default charset.
+   * @throws IOException if the resource can't be found or read.
+   */
+  public static String load(String resourceName) throws IOException {
+    return CONTENT.get(resourceName);
+  }
+
+  /**
+   * Create a cache of values parsed from the content of resources.
+   *
+   * @param parser the function that parses the content of a resource.
+   * @return the cache.
+   */
+  public static <T> Cache<T> cache(Function<String, T> parser) {
+    return new Cache<>(url -> parser.apply(load(url)));
+  }
+
+  /**
+   * Get the resource with the specified name, using the class loader of sundrio.
+   *
+   * @param resourceName the name of the resource.
+   * @return the url of the resource.
+   * @throws FileNotFoundException if the resource doesn't exist.
+   */
+  public static URL getResource(String resourceName) throws FileNotFoundException {
+    ClassLoader classLoader = Resources.class.getClassLoader();
+    URL url = classLoader != null ? classLoader.getResource(resourceName) : ClassLoader.getSystemResource(resourceName);
+    if (url == null) {
+      throw new FileNotFoundException("Resource not found:" + resourceName);
+    }
+    return url;
+  }
+
+  static long lastModified(URL url) {
+    try {
+      if (FILE.equals(url.getProtocol())) {
+        return Files.getLastModifiedTime(Paths.get(url.toURI())).toMillis();
+      } else if (JAR.equals(url.getProtocol())) {
+        String file = url.getFile();
+        int index = file.indexOf(JAR_SEPARATOR);
+        return index > 0 ? lastModified(new URL(file.substring(0, index))) : UNKNOWN;
+      }
+    } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+      //Fall through
+    }
+    return UNKNOWN;
+  }
+
+  /**
+   * A cache of values parsed from the content of resources.
+   */
+  public static final class Cache<T> {
+
+    private final Loader<T> loader;
+    private final ConcurrentMap<String, Entry<T>> entries = new ConcurrentHashMap<>();
+
+    private Cache(Loader<T> loader) {
+      this.loader = loader;
+    }
+
+    public T get(String resourceName) throws IOException {
+      return get(getResource(resourceName));
+    }
+
+    public T get(URL url) throws IOException {
+      String key = url.toExternalForm();
+      long lastModified = lastModified(url);
+      Entry<T> entry = entries.get(key);
+      if (entry != null && lastModified != UNKNOWN && entry.lastModified == lastModified) {
+        return entry.value;
+      }
+      T value = loader.load(url);
+      if (lastModified != UNKNOWN) {
+        entries.put(key, new Entry<>(lastModified, value));
+      }
+      return value;
+    }
+
+    /**
+     * Remove all cached values.
+     */
+    public void clear() {
+      entries.clear();
+    }
+  }
+
+  private interface Loader<T> {
+    T load(URL url) throws IOException;
+  }
+
+  private static final class Entry<T> {
+
+    private final long lastModified;
+    private final T value;
+
+    private Entry(long lastModified, T value) {
+      this.lastModified = lastModified;
+      this.value = value;
+    }
+  }
+}
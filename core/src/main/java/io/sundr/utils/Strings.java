@@ -16,10 +16,7 @@
 
 package io.sundr.utils;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,6 +31,8 @@ import java.util.stream.StreamSupport;
 
 public final class Strings {
 
+  private static final Resources.Cache<String> LINES = Resources.cache(Strings::toLines);
+
   private static final String SPLITTER_REGEX = "(?<!(^|[A-Z]))(?=[A-Z])|(?<!^)(?=[A-Z][a-z])";
 
   private static final List<String> KEYWORDS = Arrays.asList("abstract", "continue", "for", "new", "switch", "assert",
@@ -160,26 +159,16 @@ public final class Strings {
     }
   }
 
+  /**
+   * Load the content of a classpath resource, with each line terminated by a new line character.
+   * The content is cached (see {@link Resources}).
+   *
+   * @param resourceName the name of the resource.
+   * @return the content.
+   * @throws IOException if the resource can't be found or read.
+   */
   public static String loadResource(String resourceName) throws IOException {
-    InputStream is = null;
-    BufferedReader in = null;
-    try {
-      is = Strings.class.getClassLoader().getResourceAsStream(resourceName);
-      in = new BufferedReader(new InputStreamReader(is));
-      String line = null;
-      StringBuffer sb = new StringBuffer();
-      while ((line = in.readLine()) != null) {
-        sb.append(line).append("\n");
-      }
-      return sb.toString();
-    } finally {
-      if (in != null) {
-        in.close();
-      }
-      if (is != null) {
-        is.close();
-      }
-    }
+    return LINES.get(resourceName);
   }
 
   public static final String loadResourceQuietly(URL resourceUrl) {
@@ -190,26 +179,42 @@ public final class Strings {
     }
   }
 
+  /**
+   * Load the content of a resource.
+   * The content is cached (see {@link Resources}).
+   *
+   * @param resourceUrl the url of the resource.
+   * @return the content.
+   * @throws IOException if the resource can't be read.
+   */
   public static String loadResource(URL resourceUrl) throws IOException {
-    InputStream is = null;
-    BufferedReader in = null;
-    try {
-      is = resourceUrl.openStream();
-      in = new BufferedReader(new InputStreamReader(is));
-      StringBuffer sb = new StringBuffer();
-      int c = 0;
-      while ((c = in.read()) != -1) {
-        sb.append((char) c);
-      }
-      return sb.toString();
-    } finally {
-      if (in != null) {
-        in.close();
-      }
-      if (is != null) {
-        is.close();
+    return Resources.load(resourceUrl);
+  }
+
+  /**
+   * Terminate each line with a new line character, replacing any other line terminator.
+   *
+   * @param content the content.
+   * @return the content with normalized lines.
+   */
+  public static String toLines(String content) {
+    StringBuilder sb = new StringBuilder(content.length() + 1);
+    int length = content.length();
+    for (int i = 0; i < length; i++) {
+      char c = content.charAt(i);
+      if (c == '\r') {
+        if (i + 1 < length && content.charAt(i + 1) == '\n') {
+          i++;
+        }
+        sb.append('\n');
+      } else {
+        sb.append(c);
       }
     }
+    if (sb.length() > 0 && sb.charAt(sb.length() - 1) != '\n') {
+      sb.append('\n');
+    }
+    return sb.toString();
   }
 
   /**
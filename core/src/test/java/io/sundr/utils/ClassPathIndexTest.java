@@ -0,0 +1,108 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.Test;
+
+public class ClassPathIndexTest {
+
+  @Test
+  public void shouldIndexDirectoriesAndJars() throws Exception {
+    Path directory = Files.createTempDirectory("classes");
+    Path jar = Files.createTempFile("classes", ".jar");
+    try {
+      Files.createDirectories(directory.resolve("a/b"));
+      Files.write(directory.resolve("a/b/First.class"), new byte[0]);
+      Files.write(directory.resolve("a/b/First$Nested.class"), new byte[0]);
+      Files.write(directory.resolve("a/b/package-info.class"), new byte[0]);
+      Files.write(directory.resolve("a/b/readme.txt"), new byte[0]);
+      try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+        out.putNextEntry(new JarEntry("c/Second.class"));
+        out.closeEntry();
+        out.putNextEntry(new JarEntry("META-INF/versions/11/c/Third.class"));
+        out.closeEntry();
+      }
+
+      ClassPathIndex index = ClassPathIndex.of(directory, jar);
+      assertTrue(index.isComplete());
+      assertEquals(3, index.size());
+      assertEquals(Optional.of(directory), index.locate("a.b.First"));
+      assertEquals(Optional.of(jar), index.locate("c.Second"));
+      assertTrue(index.contains("a.b.First$Nested"));
+      assertFalse(index.contains("a.b.First.Nested"));
+      assertFalse(index.contains("c.Third"));
+      assertEquals(Optional.of("a.b.First$Nested"), index.getBinaryName("a.b.First.Nested"));
+      assertEquals(Optional.empty(), index.getBinaryName("a.b.Missing"));
+      assertFalse(index.mayContain("a.b.Missing"));
+
+      //Class files created after indexing are still found.
+      Files.write(directory.resolve("a/b/Later.class"), new byte[0]);
+      assertEquals(Optional.of(directory), index.locate("a.b.Later"));
+    } finally {
+      Files.walk(directory).sorted((l, r) -> r.compareTo(l)).forEach(p -> p.toFile().delete());
+      Files.delete(jar);
+    }
+  }
+
+  @Test
+  public void shouldIndexRuntimeImage() {
+    ClassPathIndex index = ClassPathIndex.of();
+    assertTrue(index.contains(String.class.getName()));
+    assertTrue(index.contains(Map.Entry.class.getName()));
+    assertEquals(Optional.of(Map.Entry.class.getName()), index.getBinaryName("java.util.Map.Entry"));
+    assertFalse(index.contains("java.lang.Missing"));
+  }
+
+  @Test
+  public void shouldIndexClassLoader() throws Exception {
+    ClassPathIndex index = ClassPathIndex.of(getClass().getClassLoader());
+    assertTrue(index.contains(getClass().getName()));
+    assertTrue(index.contains(Test.class.getName()));
+    assertTrue(index.isComplete());
+
+    try (URLClassLoader loader = new URLClassLoader(new URL[] { new URL("http://localhost/classes/") },
+        getClass().getClassLoader())) {
+      ClassPathIndex incomplete = ClassPathIndex.of(loader);
+      assertFalse(incomplete.isComplete());
+      assertTrue(incomplete.contains(getClass().getName()));
+      assertTrue(incomplete.mayContain("a.b.Missing"));
+    }
+
+    //Subclasses may load from other places than their urls.
+    try (URLClassLoader loader = new URLClassLoader(new URL[0], getClass().getClassLoader()) {
+    }) {
+      assertFalse(ClassPathIndex.of(loader).isComplete());
+    }
+    try (URLClassLoader loader = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+      assertTrue(ClassPathIndex.of(loader).isComplete());
+    }
+  }
+}
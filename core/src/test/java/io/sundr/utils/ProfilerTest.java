@@ -0,0 +1,75 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.sundr.utils.Profiler.Phase;
+
+public class ProfilerTest {
+
+  @Test
+  public void shouldNotRecordWhenInactive() throws Exception {
+    Profiler profiler = new Profiler("test");
+    assertFalse(Profiler.isActive());
+    assertEquals("value", Profiler.profile(Phase.RENDER, () -> "value"));
+    assertEquals(0, profiler.getCount(Phase.RENDER));
+  }
+
+  @Test
+  public void shouldRecordNestedPhases() throws Exception {
+    Profiler profiler = new Profiler("test");
+    profiler.call(() -> {
+      assertTrue(Profiler.isActive());
+      try (Profiler.Span write = Profiler.enter(Phase.WRITE)) {
+        Profiler.profile(Phase.RENDER, () -> sleep(20));
+      }
+      return null;
+    });
+
+    assertFalse(Profiler.isActive());
+    assertEquals(1, profiler.getCount(Phase.WRITE));
+    assertEquals(1, profiler.getCount(Phase.RENDER));
+    assertTrue(profiler.getTotalNanos(Phase.WRITE) >= profiler.getTotalNanos(Phase.RENDER));
+    assertTrue(profiler.getSelfNanos(Phase.WRITE) < profiler.getTotalNanos(Phase.RENDER));
+  }
+
+  @Test
+  public void shouldNotCountRecursionTwice() throws Exception {
+    Profiler profiler = new Profiler("test");
+    profiler.call(() -> Profiler.profile(Phase.ADAPT, () -> Profiler.profile(Phase.ADAPT, () -> sleep(20))));
+
+    assertEquals(2, profiler.getCount(Phase.ADAPT));
+    assertEquals(profiler.getTotalNanos(Phase.ADAPT), profiler.getSelfNanos(Phase.ADAPT));
+    assertTrue(profiler.toJson().contains("\"phase\": \"adapt\", \"count\": 2"));
+    assertTrue(profiler.toSummary().startsWith("test phase profile:"));
+  }
+
+  private static Object sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return null;
+  }
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class ResourcesTest {
+
+  @Test
+  public void shouldCacheUntilModified() throws Exception {
+    Path file = Files.createTempFile("resource", ".txt");
+    try {
+      Files.write(file, "first".getBytes());
+      URL url = file.toUri().toURL();
+      AtomicInteger parsed = new AtomicInteger();
+      Resources.Cache<String> cache = Resources.cache(c -> {
+        parsed.incrementAndGet();
+        return c.toUpperCase();
+      });
+
+      String content = Resources.load(url);
+      assertEquals("first", content);
+      assertSame(content, Resources.load(url));
+      assertEquals("FIRST", cache.get(url));
+      assertEquals("FIRST", cache.get(url));
+      assertEquals(1, parsed.get());
+
+      Files.write(file, "second".getBytes());
+      Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10000));
+      assertEquals("second", Resources.load(url));
+      assertEquals("SECOND", cache.get(url));
+      assertEquals(2, parsed.get());
+    } finally {
+      Files.delete(file);
+    }
+  }
+}
@@ -54,4 +54,11 @@ public class StringsTest {
     assertEquals("1Dog", capitalizeFirst("1dog"));
   }
 
+  @Test
+  public void testToLines() {
+    assertEquals("", Strings.toLines(""));
+    assertEquals("a\n", Strings.toLines("a"));
+    assertEquals("a\nb\nc\n", Strings.toLines("a\r\nb\rc\n"));
+    assertEquals("a\n\n", Strings.toLines("a\n\n"));
+  }
 }
@@ -196,7 +196,7 @@ public class GenerateBomMojo extends AbstractSundrioMojo {
       verifyBomDependencies(config, projectToGenerate);
 
       getLog().info("Generating BOM: " + config.getArtifactId());
-      FileOutput<Model> output = new FileOutput<>(generatedBom);
+      FileOutput<Model> output = new FileOutput<>(generatedBom, true);
 
       VelocityRenderer renderer = VelocityRenderer.fromTemplateUrl(bomTemplateUrl)
           .orElse(VelocityRenderer.fromTemplateResource(bomTemplateResource)
@@ -206,6 +206,9 @@ public class GenerateBomMojo extends AbstractSundrioMojo {
           .skipping(t -> false) //don't skip
           .withRenderer(renderer)
           .generate(projectToGenerate.getModel());
+      if (output.getSkipped() > 0) {
+        getLog().info("BOM: " + config.getArtifactId() + " is up to date.");
+      }
 
       return toBuild(getProject(), config);
 
@@ -19,9 +19,10 @@ package io.sundr.model;
 import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -45,25 +46,35 @@ public class AnnotationRef extends AttributeSupport implements Renderable {
   }
 
   public Set<ClassRef> getReferences() {
-    Set<ClassRef> result = new HashSet<>();
-    result.add(classRef);
+    Set<ClassRef> refs = new LinkedHashSet<>();
+    forEachReference(refs::add);
+    return refs;
+  }
+
+  /**
+   * Passes all the references of the annotation and its parameters to the specified consumer, without collecting them.
+   * A reference may be passed more than once.
+   *
+   * @param consumer the consumer.
+   */
+  public void forEachReference(Consumer<ClassRef> consumer) {
+    consumer.accept(classRef);
 
     for (Object o : parameters.values()) {
       if (o instanceof ClassRef) {
-        result.add((ClassRef) o);
+        consumer.accept((ClassRef) o);
       } else if (o instanceof AnnotationRef) {
-        result.addAll(((AnnotationRef) o).getReferences());
+        ((AnnotationRef) o).forEachReference(consumer);
       } else if (o instanceof Collection) {
         for (Object i : (Collection) o) {
           if (i instanceof ClassRef) {
-            result.addAll(((ClassRef) i).getReferences());
+            ((ClassRef) i).forEachReference(consumer);
           } else if (i instanceof AnnotationRef) {
-            result.addAll(((AnnotationRef) i).getReferences());
+            ((AnnotationRef) i).forEachReference(consumer);
           }
         }
       }
     }
-    return result;
   }
 
   private static String toString(Object value) {
@@ -0,0 +1,126 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A compact, immutable map of attributes.
+ *
+ * Most model nodes have no more than a handful of attributes, so keys and values are stored inline in two arrays and
+ * looked up by a linear scan (keys are compared by identity, just like {@link AttributeKey} does). All nodes without
+ * attributes share the same empty instance.
+ */
+final class AttributeMap extends AbstractMap<AttributeKey, Object> {
+
+  static final AttributeMap EMPTY = new AttributeMap(new AttributeKey[0], new Object[0]);
+
+  private final AttributeKey[] keys;
+  private final Object[] values;
+
+  private AttributeMap(AttributeKey[] keys, Object[] values) {
+    this.keys = keys;
+    this.values = values;
+  }
+
+  static AttributeMap copyOf(Map<AttributeKey, Object> attributes) {
+    if (attributes instanceof AttributeMap) {
+      return (AttributeMap) attributes;
+    }
+    int size = attributes.size();
+    if (size == 0) {
+      return EMPTY;
+    }
+    AttributeKey[] keys = new AttributeKey[size];
+    Object[] values = new Object[size];
+    int i = 0;
+    for (Map.Entry<AttributeKey, Object> entry : attributes.entrySet()) {
+      keys[i] = entry.getKey();
+      values[i] = entry.getValue();
+      i++;
+    }
+    return new AttributeMap(keys, values);
+  }
+
+  private int indexOf(Object key) {
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] == key) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public Object get(Object key) {
+    int index = indexOf(key);
+    return index >= 0 ? values[index] : null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public int size() {
+    return keys.length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return keys.length == 0;
+  }
+
+  @Override
+  public Set<Entry<AttributeKey, Object>> entrySet() {
+    return new AbstractSet<Entry<AttributeKey, Object>>() {
+      @Override
+      public Iterator<Entry<AttributeKey, Object>> iterator() {
+        return new Iterator<Entry<AttributeKey, Object>>() {
+          private int index;
+
+          @Override
+          public boolean hasNext() {
+            return index < keys.length;
+          }
+
+          @Override
+          public Entry<AttributeKey, Object> next() {
+            if (index >= keys.length) {
+              throw new NoSuchElementException();
+            }
+            Entry<AttributeKey, Object> entry = new SimpleImmutableEntry<>(keys[index], values[index]);
+            index++;
+            return entry;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return keys.length;
+      }
+    };
+  }
+}
@@ -16,7 +16,6 @@
 
 package io.sundr.model;
 
-import java.util.Collections;
 import java.util.Map;
 
 public class AttributeSupport implements Attributeable {
@@ -24,14 +23,11 @@ public class AttributeSupport implements Attributeable {
   private final Map<AttributeKey, Object> attributes;
 
   public AttributeSupport(Map<AttributeKey, Object> attributes) {
-    this.attributes = attributes;
+    this.attributes = attributes != null ? AttributeMap.copyOf(attributes) : null;
   }
 
   public Map<AttributeKey, Object> getAttributes() {
-    if (attributes == null) {
-      return null;
-    }
-    return Collections.unmodifiableMap(attributes);
+    return attributes;
   }
 
   @Override
@@ -21,6 +21,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class ClassRef extends TypeRef implements Nameable, Mappable<ClassRef> {
@@ -31,23 +32,27 @@ public class ClassRef extends TypeRef implements Nameable, Mappable<ClassRef> {
   public static final ClassRef OBJECT = new ClassRef(JAVA_LANG_OBJECT, 0, Collections.emptyList(), Collections.emptyMap());
 
   private final String fullyQualifiedName;
+  private final QualifiedName qualifiedName;
   private final int dimensions;
   private final List<TypeRef> arguments;
+  private int hash;
+  private volatile Set<ClassRef> references;
 
   public ClassRef(String fullyQualifiedName, int dimensions, List<TypeRef> arguments,
       Map<AttributeKey, Object> attributes) {
     super(attributes);
     this.dimensions = dimensions;
     this.arguments = arguments;
-    this.fullyQualifiedName = fullyQualifiedName;
+    this.qualifiedName = fullyQualifiedName != null ? QualifiedName.of(fullyQualifiedName) : null;
+    this.fullyQualifiedName = qualifiedName != null ? qualifiedName.getFullyQualifiedName() : null;
   }
 
   public static ClassRef forName(String fullyQualifiedName) {
-    return new ClassRef(fullyQualifiedName, 0, Collections.emptyList(), Collections.emptyMap());
+    return TypeRefPool.intern(new ClassRef(fullyQualifiedName, 0, Collections.emptyList(), Collections.emptyMap()));
   }
 
   public static ClassRef forClass(Class c) {
-    return new ClassRef(c.getTypeName(), 0, Collections.emptyList(), Collections.emptyMap());
+    return TypeRefPool.intern(new ClassRef(c.getTypeName(), 0, Collections.emptyList(), Collections.emptyMap()));
   }
 
   public String getFullyQualifiedName() {
@@ -67,19 +72,34 @@ public class ClassRef extends TypeRef implements Nameable, Mappable<ClassRef> {
   }
 
   public Set<ClassRef> getReferences() {
-    Set<ClassRef> refs = new LinkedHashSet<ClassRef>();
+    Set<ClassRef> result = references;
+    if (result == null) {
+      Set<ClassRef> refs = new LinkedHashSet<ClassRef>();
+      forEachReference(refs::add);
+      result = Collections.unmodifiableSet(refs);
+      references = result;
+    }
+    return result;
+  }
+
+  /**
+   * Passes all the references (the arguments and then this reference) to the specified consumer, without collecting
+   * them. A reference may be passed more than once.
+   *
+   * @param consumer the consumer.
+   */
+  public void forEachReference(Consumer<ClassRef> consumer) {
     for (TypeRef argument : arguments) {
       if (argument instanceof ClassRef) {
-        refs.addAll(((ClassRef) argument).getReferences());
+        ((ClassRef) argument).forEachReference(consumer);
       }
     }
-    refs.add(this);
-    return refs;
+    consumer.accept(this);
   }
 
   @Override
   public String getName() {
-    return Nameable.getClassName(fullyQualifiedName);
+    return qualifiedName != null ? qualifiedName.getClassName() : Nameable.getClassName(fullyQualifiedName);
   }
 
   @Override
@@ -90,6 +110,8 @@ public class ClassRef extends TypeRef implements Nameable, Mappable<ClassRef> {
       return false;
 
     ClassRef classRef = (ClassRef) o;
+    if (hash != 0 && classRef.hash != 0 && hash != classRef.hash)
+      return false;
     if (dimensions != classRef.dimensions)
       return false;
     if (fullyQualifiedName != null ? !fullyQualifiedName.equals(classRef.getFullyQualifiedName())
@@ -100,9 +122,13 @@ public class ClassRef extends TypeRef implements Nameable, Mappable<ClassRef> {
 
   @Override
   public int hashCode() {
-    int result = fullyQualifiedName != null ? fullyQualifiedName.hashCode() : 0;
-    result = 31 * result + dimensions;
-    result = 31 * result + (arguments != null ? arguments.hashCode() : 0);
+    int result = hash;
+    if (result == 0) {
+      result = fullyQualifiedName != null ? fullyQualifiedName.hashCode() : 0;
+      result = 31 * result + dimensions;
+      result = 31 * result + (arguments != null ? arguments.hashCode() : 0);
+      hash = result;
+    }
     return result;
   }
 
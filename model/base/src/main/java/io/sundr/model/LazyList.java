@@ -0,0 +1,87 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.model;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+/**
+ * An immutable list that is materialized the first time it's accessed.
+ *
+ * It's used by adapters to defer the adaptation of members and inner types of a {@link TypeDef}, until they are actually
+ * needed.
+ */
+public final class LazyList<E> extends AbstractList<E> implements RandomAccess {
+
+  private final Object lock = new Object();
+  private volatile Supplier<List<E>> supplier;
+  private volatile List<E> elements;
+
+  private LazyList(Supplier<List<E>> supplier) {
+    this.supplier = supplier;
+  }
+
+  /**
+   * Create a list that will be populated using the specified supplier, the first time it's accessed.
+   *
+   * @param supplier the supplier of the elements.
+   * @return the list.
+   */
+  public static <E> List<E> of(Supplier<List<E>> supplier) {
+    return new LazyList<>(supplier);
+  }
+
+  /**
+   * Checks if the specified list is a {@link LazyList} that has not been materialized yet.
+   *
+   * @param list the list.
+   * @return true if the list is lazy and not materialized, false otherwise.
+   */
+  public static boolean isLazy(List<?> list) {
+    return list instanceof LazyList && ((LazyList<?>) list).elements == null;
+  }
+
+  private List<E> elements() {
+    List<E> result = elements;
+    if (result == null) {
+      synchronized (lock) {
+        result = elements;
+        if (result == null) {
+          List<E> supplied = supplier.get();
+          result = supplied != null ? Collections.unmodifiableList(supplied) : Collections.emptyList();
+          elements = result;
+          supplier = null;
+        }
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public E get(int index) {
+    return elements().get(index);
+  }
+
+  @Override
+  public int size() {
+    return elements().size();
+  }
+}
@@ -24,6 +24,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class Method extends ModifierSupport implements Renderable, Commentable, Annotatable {
@@ -114,43 +115,51 @@ public class Method extends ModifierSupport implements Renderable, Commentable,
   }
 
   public Set<ClassRef> getReferences() {
-    Set<ClassRef> refs = new LinkedHashSet<ClassRef>();
+    Set<ClassRef> refs = new LinkedHashSet<>();
+    forEachReference(refs::add);
+    return refs;
+  }
 
+  /**
+   * Passes all the references of the method to the specified consumer, without collecting them.
+   * A reference may be passed more than once.
+   *
+   * @param consumer the consumer.
+   */
+  public void forEachReference(Consumer<ClassRef> consumer) {
     for (AnnotationRef annotationRef : annotations) {
-      refs.addAll(annotationRef.getReferences());
+      annotationRef.forEachReference(consumer);
     }
 
     if (returnType instanceof ClassRef) {
-      ClassRef classRef = (ClassRef) returnType;
-      refs.addAll(classRef.getReferences());
+      ((ClassRef) returnType).forEachReference(consumer);
     }
 
     for (Property argument : arguments) {
-      refs.addAll(argument.getReferences());
+      argument.forEachReference(consumer);
     }
 
     for (ClassRef e : exceptions) {
-      refs.addAll(e.getReferences());
+      e.forEachReference(consumer);
     }
 
     for (AnnotationRef a : getAnnotations()) {
-      refs.addAll(a.getClassRef().getReferences());
+      a.getClassRef().forEachReference(consumer);
     }
 
     for (TypeParamDef typeParamDef : parameters) {
       for (ClassRef bound : typeParamDef.getBounds()) {
-        refs.addAll(bound.getReferences());
+        bound.forEachReference(consumer);
       }
     }
     if (getAttributes().containsKey(ALSO_IMPORT)) {
       Object obj = getAttributes().get(ALSO_IMPORT);
       if (obj instanceof ClassRef) {
-        refs.add((ClassRef) obj);
+        consumer.accept((ClassRef) obj);
       } else if (obj instanceof Collection) {
-        refs.addAll((Collection<? extends ClassRef>) obj);
+        ((Collection<? extends ClassRef>) obj).forEach(consumer);
       }
     }
-    return refs;
   }
 
   @Override
@@ -17,10 +17,7 @@
 
 package io.sundr.model;
 
-import java.util.Arrays;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 public interface Nameable extends Node {
 
@@ -56,37 +53,15 @@ public interface Nameable extends Node {
   }
 
   static String getOuterTypeName(String fullyQualifiedName) {
-    String packageName = getPackageName(fullyQualifiedName);
-    String className = getClassName(fullyQualifiedName);
-    if (!className.contains(DOT)) {
-      return null;
-    }
-    return Arrays.stream(className.split(Pattern.quote(DOT)))
-        .map(n -> packageName != null && !packageName.isEmpty() ? packageName + DOT + n : n).findFirst().orElse(null);
+    return QualifiedName.of(fullyQualifiedName).getOuterTypeName();
   }
 
   static String getClassName(String fullyQualifiedName) {
-    String[] parts = fullyQualifiedName.split(PACKAGE_SEPARATOR_REGEX);
-
-    String result = Arrays.stream(parts).filter(after(IS_UPPER_CASE)).collect(Collectors.joining(DOT));
-
-    if (!result.isEmpty()) {
-      return result;
-    }
-
-    return parts[parts.length - 1];
+    return QualifiedName.of(fullyQualifiedName).getClassName();
   }
 
   static String getPackageName(String fullyQualifiedName) {
-    String[] parts = fullyQualifiedName.split(PACKAGE_SEPARATOR_REGEX);
-
-    String result = Arrays.stream(parts).filter(until(IS_UPPER_CASE)).collect(Collectors.joining(DOT));
-
-    if (!result.equals(fullyQualifiedName)) {
-      return result;
-    }
-
-    return Arrays.asList(parts).subList(0, parts.length - 1).stream().collect(Collectors.joining(DOT));
+    return QualifiedName.of(fullyQualifiedName).getPackageName();
   }
 
   static <T> Predicate<T> until(final Predicate<T> predicate) {
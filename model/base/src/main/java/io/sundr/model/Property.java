@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -125,29 +126,37 @@ public class Property extends ModifierSupport implements Renderable, Commentable
   }
 
   public Set<ClassRef> getReferences() {
-    Set<ClassRef> refs = new LinkedHashSet<ClassRef>();
+    Set<ClassRef> refs = new LinkedHashSet<>();
+    forEachReference(refs::add);
+    return refs;
+  }
 
+  /**
+   * Passes all the references of the property to the specified consumer, without collecting them.
+   * A reference may be passed more than once.
+   *
+   * @param consumer the consumer.
+   */
+  public void forEachReference(Consumer<ClassRef> consumer) {
     for (AnnotationRef annotationRef : annotations) {
-      refs.addAll(annotationRef.getReferences());
+      annotationRef.forEachReference(consumer);
     }
 
     if (typeRef instanceof ClassRef) {
-      ClassRef classRef = (ClassRef) typeRef;
-      refs.addAll(classRef.getReferences());
+      ((ClassRef) typeRef).forEachReference(consumer);
     }
     for (AnnotationRef a : getAnnotations()) {
-      refs.addAll(a.getClassRef().getReferences());
+      a.getClassRef().forEachReference(consumer);
     }
 
     if (getAttributes().containsKey(ALSO_IMPORT)) {
       Object obj = getAttributes().get(ALSO_IMPORT);
       if (obj instanceof ClassRef) {
-        refs.add((ClassRef) obj);
+        consumer.accept((ClassRef) obj);
       } else if (obj instanceof Collection) {
-        refs.addAll((Collection<? extends ClassRef>) obj);
+        ((Collection<? extends ClassRef>) obj).forEach(consumer);
       }
     }
-    return refs;
   }
 
   /**
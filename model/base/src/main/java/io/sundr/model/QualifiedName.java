@@ -0,0 +1,138 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.model;
+
+import static io.sundr.model.Nameable.IS_UPPER_CASE;
+import static io.sundr.model.Nameable.PACKAGE_SEPARATOR_REGEX;
+import static io.sundr.model.Nameable.after;
+import static io.sundr.model.Nameable.until;
+import static io.sundr.model.Node.DOT;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * An interned fully qualified name, that is parsed (at most) once into its package, class and outer type names.
+ * There is a single instance per name, so that all {@link ClassRef} and {@link TypeDef} instances that refer to the same
+ * type share the same strings.
+ *
+ * The table is bounded. When it's full it's cleared, which only costs reparsing the names that are still in use.
+ */
+public final class QualifiedName {
+
+  private static final int MAX_SIZE = 1 << 17;
+  private static final ConcurrentMap<String, QualifiedName> NAMES = new ConcurrentHashMap<>();
+
+  private final String fullyQualifiedName;
+  private volatile Parts parts;
+
+  private QualifiedName(String fullyQualifiedName) {
+    this.fullyQualifiedName = fullyQualifiedName;
+  }
+
+  public static QualifiedName of(String fullyQualifiedName) {
+    QualifiedName name = NAMES.get(fullyQualifiedName);
+    if (name != null) {
+      return name;
+    }
+    if (NAMES.size() >= MAX_SIZE) {
+      NAMES.clear();
+    }
+    return NAMES.computeIfAbsent(fullyQualifiedName, QualifiedName::new);
+  }
+
+  /**
+   * Get the canonical instance of the specified name.
+   *
+   * @param fullyQualifiedName the name.
+   * @return the canonical instance, or null if the name is null.
+   */
+  public static String intern(String fullyQualifiedName) {
+    return fullyQualifiedName != null ? of(fullyQualifiedName).getFullyQualifiedName() : null;
+  }
+
+  public String getFullyQualifiedName() {
+    return fullyQualifiedName;
+  }
+
+  public String getPackageName() {
+    return parts().packageName;
+  }
+
+  public String getClassName() {
+    return parts().className;
+  }
+
+  public String getOuterTypeName() {
+    return parts().outerTypeName;
+  }
+
+  @Override
+  public String toString() {
+    return fullyQualifiedName;
+  }
+
+  private Parts parts() {
+    Parts result = parts;
+    if (result == null) {
+      result = new Parts(fullyQualifiedName);
+      parts = result;
+    }
+    return result;
+  }
+
+  private static final class Parts {
+    private final String packageName;
+    private final String className;
+    private final String outerTypeName;
+
+    private Parts(String fullyQualifiedName) {
+      String[] segments = fullyQualifiedName.split(PACKAGE_SEPARATOR_REGEX);
+      this.className = className(segments);
+      this.packageName = packageName(fullyQualifiedName, segments);
+      this.outerTypeName = outerTypeName(packageName, className);
+    }
+
+    private static String className(String[] segments) {
+      String result = Arrays.stream(segments).filter(after(IS_UPPER_CASE)).collect(Collectors.joining(DOT));
+      if (!result.isEmpty()) {
+        return result;
+      }
+      return segments[segments.length - 1];
+    }
+
+    private static String packageName(String fullyQualifiedName, String[] segments) {
+      String result = Arrays.stream(segments).filter(until(IS_UPPER_CASE)).collect(Collectors.joining(DOT));
+      if (!result.equals(fullyQualifiedName)) {
+        return result;
+      }
+      return Arrays.asList(segments).subList(0, segments.length - 1).stream().collect(Collectors.joining(DOT));
+    }
+
+    private static String outerTypeName(String packageName, String className) {
+      if (!className.contains(DOT)) {
+        return null;
+      }
+      return Arrays.stream(className.split(Pattern.quote(DOT)))
+          .map(n -> packageName != null && !packageName.isEmpty() ? packageName + DOT + n : n).findFirst().orElse(null);
+    }
+  }
+}
@@ -27,6 +27,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -53,6 +54,10 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
   private final List<Method> methods;
   private final String outerTypeName;
   private final List<TypeDef> innerTypes;
+  private volatile String fullyQualifiedName;
+  private volatile List<ClassRef> references;
+  private volatile Map<String, ClassRef> referenceMap;
+  private volatile Set<String> imports;
 
   public TypeDef(Kind kind, String packageName, String name, List<String> comments, List<AnnotationRef> annotations,
       List<ClassRef> extendsList, List<ClassRef> implementsList, List<TypeParamDef> parameters, List<Property> properties,
@@ -71,8 +76,11 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
     this.methods = methods;
     this.outerTypeName = outerTypeName;
     //Adapters should be added last as the depend on previous values
-    this.innerTypes = setOuterType(innerTypes, this);
-    this.constructors = adaptConstructors(constructors, this);
+    //Lazy lists are adapted lazily, so that they are not materialized here.
+    this.innerTypes = LazyList.isLazy(innerTypes) ? LazyList.of(() -> setOuterType(innerTypes, this))
+        : setOuterType(innerTypes, this);
+    this.constructors = LazyList.isLazy(constructors) ? LazyList.of(() -> adaptConstructors(constructors, this))
+        : adaptConstructors(constructors, this);
   }
 
   protected TypeDef(String fullyQualifiedName) {
@@ -133,6 +141,15 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
    * Returns the fully qualified name of the type.
    */
   public String getFullyQualifiedName() {
+    String result = fullyQualifiedName;
+    if (result == null) {
+      result = QualifiedName.intern(createFullyQualifiedName());
+      fullyQualifiedName = result;
+    }
+    return result;
+  }
+
+  private String createFullyQualifiedName() {
     StringBuilder sb = new StringBuilder();
     if (packageName != null && !packageName.isEmpty() && (outerTypeName == null || outerTypeName.isEmpty())) {
       sb.append(getPackageName()).append(".");
@@ -270,7 +287,7 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
         actualArguments.add(new WildcardRef());
       }
     }
-    return new ClassRef(this.getFullyQualifiedName(), 0, actualArguments, getAttributes());
+    return TypeRefPool.intern(new ClassRef(this.getFullyQualifiedName(), 0, actualArguments, getAttributes()));
   }
 
   /**
@@ -295,7 +312,7 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
       arguments.add(parameter.toReference());
     }
 
-    return new ClassRef(getFullyQualifiedName(), 0, arguments, getAttributes());
+    return TypeRefPool.intern(new ClassRef(getFullyQualifiedName(), 0, arguments, getAttributes()));
   }
 
   /**
@@ -304,11 +321,16 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
    * @return a {@link ClassRef} for the currnet type, with the specified type arguments
    */
   public ClassRef toUnboundedReference() {
-    return new ClassRef(getFullyQualifiedName(), 0, Collections.emptyList(), getAttributes());
+    return TypeRefPool.intern(new ClassRef(getFullyQualifiedName(), 0, Collections.emptyList(), getAttributes()));
   }
 
   public Set<String> getImports() {
-    return getImports(getReferenceMap().values());
+    Set<String> result = imports;
+    if (result == null) {
+      result = Collections.unmodifiableSet(getImports(getReferenceMap().values()));
+      imports = result;
+    }
+    return result;
   }
 
   private Set<String> getImports(Collection<ClassRef> references) {
@@ -335,8 +357,18 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
    * Create a mapping from class name to {@link ClassRef}.
    */
   private Map<String, ClassRef> getReferenceMap() {
+    Map<String, ClassRef> result = referenceMap;
+    if (result == null) {
+      result = Collections.unmodifiableMap(createReferenceMap());
+      referenceMap = result;
+    }
+    return result;
+  }
+
+  private Map<String, ClassRef> createReferenceMap() {
     Map<String, ClassRef> mapping = new HashMap<String, ClassRef>();
-    List<ClassRef> refs = getReferences();
+    List<ClassRef> refs = new ArrayList<ClassRef>();
+    forEachReference(refs::add);
 
     //It's best to have predictable order, so that we can generate uniform code.
     Collections.sort(refs, new Comparator<ClassRef>() {
@@ -356,51 +388,65 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
   }
 
   public List<ClassRef> getReferences() {
-    final List<ClassRef> refs = new ArrayList<ClassRef>();
+    List<ClassRef> result = references;
+    if (result == null) {
+      List<ClassRef> refs = new ArrayList<ClassRef>();
+      forEachReference(refs::add);
+      result = Collections.unmodifiableList(refs);
+      references = result;
+    }
+    return result;
+  }
 
+  /**
+   * Passes all the references of the type (including its members and inner types) to the specified consumer, without
+   * collecting them. A reference may be passed more than once.
+   *
+   * @param consumer the consumer.
+   */
+  public void forEachReference(Consumer<ClassRef> consumer) {
     for (AnnotationRef a : annotations) {
-      refs.addAll(a.getReferences());
+      a.forEachReference(consumer);
     }
 
     for (ClassRef i : implementsList) {
-      refs.addAll(i.getReferences());
+      i.forEachReference(consumer);
     }
 
     for (ClassRef e : extendsList) {
-      refs.addAll(e.getReferences());
+      e.forEachReference(consumer);
     }
 
     for (Property property : properties) {
-      refs.addAll(property.getReferences());
+      property.forEachReference(consumer);
     }
 
     for (Method method : constructors) {
-      refs.addAll(method.getReferences());
+      method.forEachReference(consumer);
     }
 
     for (Method method : methods) {
-      refs.addAll(method.getReferences());
+      method.forEachReference(consumer);
     }
 
     for (TypeParamDef typeParamDef : parameters) {
       for (ClassRef bound : typeParamDef.getBounds()) {
-        refs.addAll(bound.getReferences());
+        bound.forEachReference(consumer);
       }
     }
 
     for (TypeDef innerType : innerTypes) {
-      refs.addAll(innerType.getReferences());
+      innerType.forEachReference(consumer);
     }
 
     if (getAttributes().containsKey(ALSO_IMPORT)) {
       Object obj = getAttributes().get(ALSO_IMPORT);
       if (obj instanceof ClassRef) {
-        refs.add((ClassRef) obj);
+        consumer.accept((ClassRef) obj);
       } else if (obj instanceof Collection) {
-        refs.addAll((Collection<? extends ClassRef>) obj);
+        ((Collection<? extends ClassRef>) obj).forEach(consumer);
       }
     }
-    return refs;
   }
 
   public String renderDefinition() {
@@ -443,7 +489,7 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
     if (outerTypeName == null) {
       tb.append("package ").append(getPackageName()).append(SEMICOLN).append(NEWLINE);
       tb.append(NEWLINE);
-      for (String i : getImports(references)) {
+      for (String i : getImports()) {
         tb.append("import ").append(i).append(SEMICOLN).append(NEWLINE);
       }
     }
@@ -0,0 +1,208 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.model;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An optional, weak interning pool for {@link TypeRef} instances.
+ *
+ * When enabled (see {@link #ENABLED_PROPERTY}), structurally identical references share a single instance. References are
+ * only considered identical if they are of the same class and all their parts (including attributes, dimensions and
+ * arguments) are the same, as {@link TypeRef#equals(Object)} ignores some of them. Pooled references are weakly held, so
+ * the pool never keeps references alive.
+ *
+ * Wildcards and void references are never equal to each other, so they (and references that use them as arguments) are
+ * not pooled. When disabled, {@link #intern(TypeRef)} returns the specified reference.
+ */
+public final class TypeRefPool {
+
+  public static final String ENABLED_PROPERTY = "sundrio.typeref.pool";
+
+  private static final ConcurrentMap<Key, Key> POOL = new ConcurrentHashMap<>();
+  private static final ReferenceQueue<TypeRef> QUEUE = new ReferenceQueue<>();
+
+  private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+  private TypeRefPool() {
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static void setEnabled(boolean enabled) {
+    TypeRefPool.enabled = enabled;
+    if (!enabled) {
+      POOL.clear();
+    }
+  }
+
+  /**
+   * Get the pooled instance that is identical to the specified reference.
+   *
+   * @param ref the reference.
+   * @return the pooled instance, or the reference itself if the pool is disabled, or the reference can't be pooled.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends TypeRef> T intern(T ref) {
+    if (!enabled || !isPoolable(ref)) {
+      return ref;
+    }
+    expunge();
+    Key existing = POOL.get(new Key(ref, null, true));
+    TypeRef pooled = existing != null ? existing.referent() : null;
+    if (pooled != null) {
+      return (T) pooled;
+    }
+
+    Key key = new Key(ref, QUEUE, false);
+    while (true) {
+      Key previous = POOL.putIfAbsent(key, key);
+      if (previous == null) {
+        return ref;
+      }
+      pooled = previous.referent();
+      if (pooled != null) {
+        return (T) pooled;
+      }
+      POOL.remove(previous, previous);
+    }
+  }
+
+  static int size() {
+    expunge();
+    return POOL.size();
+  }
+
+  private static void expunge() {
+    Reference<? extends TypeRef> cleared;
+    while ((cleared = QUEUE.poll()) != null) {
+      POOL.remove(cleared, cleared);
+    }
+  }
+
+  private static boolean isPoolable(TypeRef ref) {
+    if (ref == null) {
+      return false;
+    }
+    Class<?> type = ref.getClass();
+    if (type == ClassRef.class) {
+      return isPoolable(((ClassRef) ref).getArguments());
+    }
+    return type == PrimitiveRef.class || type == TypeParamRef.class;
+  }
+
+  private static boolean isPoolable(List<TypeRef> refs) {
+    if (refs != null) {
+      for (TypeRef ref : refs) {
+        if (!isPoolable(ref)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private static boolean same(TypeRef left, TypeRef right) {
+    if (left == right) {
+      return true;
+    }
+    if (left == null || right == null || left.getClass() != right.getClass()
+        || !Objects.equals(left.getAttributes(), right.getAttributes())) {
+      return false;
+    }
+    if (left instanceof ClassRef) {
+      ClassRef l = (ClassRef) left;
+      ClassRef r = (ClassRef) right;
+      return l.getDimensions() == r.getDimensions() && Objects.equals(l.getFullyQualifiedName(), r.getFullyQualifiedName())
+          && same(l.getArguments(), r.getArguments());
+    } else if (left instanceof PrimitiveRef) {
+      PrimitiveRef l = (PrimitiveRef) left;
+      PrimitiveRef r = (PrimitiveRef) right;
+      return l.getDimensions() == r.getDimensions() && Objects.equals(l.getName(), r.getName());
+    } else if (left instanceof TypeParamRef) {
+      TypeParamRef l = (TypeParamRef) left;
+      TypeParamRef r = (TypeParamRef) right;
+      return l.getDimensions() == r.getDimensions() && Objects.equals(l.getName(), r.getName());
+    }
+    return false;
+  }
+
+  private static boolean same(List<TypeRef> left, List<TypeRef> right) {
+    if (left == right) {
+      return true;
+    }
+    if (left == null || right == null || left.size() != right.size()) {
+      return false;
+    }
+    for (int i = 0; i < left.size(); i++) {
+      if (!same(left.get(i), right.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int hash(TypeRef ref) {
+    return ref.getClass().hashCode() * 31 + ref.hashCode();
+  }
+
+  /**
+   * A pool key. Pooled keys hold their reference weakly, while lookup keys (probes) hold it strongly.
+   */
+  private static final class Key extends WeakReference<TypeRef> {
+
+    private final int hash;
+    private final TypeRef probe;
+
+    private Key(TypeRef ref, ReferenceQueue<TypeRef> queue, boolean probe) {
+      super(ref, queue);
+      this.hash = hash(ref);
+      this.probe = probe ? ref : null;
+    }
+
+    private TypeRef referent() {
+      return probe != null ? probe : get();
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key) || hash != ((Key) o).hash) {
+        return false;
+      }
+      TypeRef left = referent();
+      TypeRef right = ((Key) o).referent();
+      return left != null && right != null && same(left, right);
+    }
+  }
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class AttributeSupportTest {
+
+  private static final AttributeKey<String> FIRST = new AttributeKey<>("FIRST", String.class);
+  private static final AttributeKey<Boolean> SECOND = new AttributeKey<>("SECOND", Boolean.class);
+  private static final AttributeKey<String> OTHER = new AttributeKey<>("OTHER", String.class);
+
+  @Test
+  public void shouldShareEmptyAttributes() {
+    AttributeSupport first = new AttributeSupport(Collections.emptyMap());
+    AttributeSupport second = new AttributeSupport(new LinkedHashMap<>());
+    assertSame(first.getAttributes(), second.getAttributes());
+    assertTrue(first.getAttributes().isEmpty());
+    assertNull(new AttributeSupport(null).getAttributes());
+  }
+
+  @Test
+  public void shouldCopyAttributes() {
+    Map<AttributeKey, Object> attributes = new LinkedHashMap<>();
+    attributes.put(FIRST, "first");
+    attributes.put(SECOND, true);
+    AttributeSupport support = new AttributeSupport(attributes);
+    attributes.put(OTHER, "other");
+
+    assertEquals("first", support.getAttribute(FIRST));
+    assertEquals(Boolean.TRUE, support.getAttribute(SECOND));
+    assertTrue(support.hasAttribute(SECOND));
+    assertFalse(support.hasAttribute(OTHER));
+    assertNull(support.getAttribute(OTHER));
+    assertEquals(Arrays.asList(FIRST, SECOND), Arrays.asList(support.getAttributes().keySet().toArray()));
+
+    attributes.remove(OTHER);
+    assertEquals(attributes, support.getAttributes());
+    assertEquals(attributes.hashCode(), support.getAttributes().hashCode());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldNotModifyAttributes() {
+    new AttributeSupport(Collections.singletonMap(FIRST, "first")).getAttributes().remove(FIRST);
+  }
+}
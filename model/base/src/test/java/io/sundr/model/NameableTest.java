@@ -18,6 +18,9 @@
 package io.sundr.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Collections;
 
 import org.junit.Test;
 
@@ -42,4 +45,16 @@ public class NameableTest {
     assertEquals(null, Nameable.getOuterTypeName("java.util.List"));
     assertEquals("java.lang.System", Nameable.getOuterTypeName("java.lang.System.Logger"));
   }
+
+  @Test
+  public void shouldShareInternedNames() {
+    String name = new String("java.lang.System.Logger");
+    assertSame(QualifiedName.of("java.lang.System.Logger"), QualifiedName.of(name));
+    assertSame(QualifiedName.intern("java.lang.System.Logger"), QualifiedName.intern(name));
+
+    ClassRef ref = new ClassRef(name, 0, Collections.emptyList(), Collections.emptyMap());
+    TypeDef def = TypeDef.forName("java.lang.System.Logger");
+    assertSame(ref.getFullyQualifiedName(), def.getFullyQualifiedName());
+    assertSame(ref.getName(), Nameable.getClassName("java.lang.System.Logger"));
+  }
 }
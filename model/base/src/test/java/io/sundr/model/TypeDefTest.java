@@ -1,6 +1,14 @@
 package io.sundr.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.Test;
 
@@ -11,4 +19,24 @@ public class TypeDefTest {
     TypeDef def = TypeDef.forName("java.lang.System.Logger");
     assertEquals("java.lang.System.Logger", def.getFullyQualifiedName());
   }
+
+  @Test
+  public void shouldMemoizeReferencesAndImports() throws Exception {
+    ClassRef list = new ClassRef("java.util.List", 0, Arrays.asList(ClassRef.forName("java.lang.String")),
+        Collections.emptyMap());
+    Property items = new Property(Modifiers.create(), Collections.emptyMap(), null, Collections.emptyList(), list, "items",
+        Optional.empty(), false, false);
+    TypeDef def = new TypeDef(Kind.CLASS, "my.pkg", "Foo", null, Collections.emptyList(), Collections.emptyList(),
+        Collections.emptyList(), Collections.emptyList(), Collections.singletonList(items), Collections.emptyList(),
+        Collections.emptyList(), null, Collections.emptyList(), Modifiers.create(), Collections.emptyMap());
+
+    assertSame(def.getReferences(), def.getReferences());
+    assertSame(def.getImports(), def.getImports());
+    assertSame(list.getReferences(), list.getReferences());
+    assertEquals(new LinkedHashSet<>(Arrays.asList("java.util.List", "java.lang.String")), def.getImports());
+
+    List<ClassRef> visited = new ArrayList<>();
+    def.forEachReference(visited::add);
+    assertEquals(def.getReferences(), visited);
+  }
 }
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TypeRefPoolTest {
+
+  private static final AttributeKey<Boolean> FLAG = new AttributeKey<>("FLAG", Boolean.class);
+
+  @Before
+  public void setUp() {
+    TypeRefPool.setEnabled(true);
+  }
+
+  @After
+  public void tearDown() {
+    TypeRefPool.setEnabled(false);
+  }
+
+  @Test
+  public void shouldShareEqualReferences() {
+    ClassRef list = TypeRefPool.intern(list(new TypeParamRef("T", 0, Collections.emptyMap())));
+    assertSame(list, TypeRefPool.intern(list(new TypeParamRef("T", 0, Collections.emptyMap()))));
+    assertSame(ClassRef.forName("java.lang.String"), ClassRef.forName("java.lang.String"));
+  }
+
+  @Test
+  public void shouldNotShareReferencesThatOnlyLookEqual() {
+    ClassRef list = TypeRefPool.intern(list(new TypeParamRef("T", 0, Collections.emptyMap())));
+    ClassRef arrayList = TypeRefPool.intern(list(new TypeParamRef("T", 1, Collections.emptyMap())));
+    assertEquals(list, arrayList);
+    assertNotSame(list, arrayList);
+
+    Map<AttributeKey, Object> attributes = Collections.singletonMap(FLAG, true);
+    ClassRef flagged = TypeRefPool.intern(new ClassRef("java.lang.String", 0, Collections.emptyList(), attributes));
+    assertEquals(ClassRef.forName("java.lang.String"), flagged);
+    assertNotSame(ClassRef.forName("java.lang.String"), flagged);
+    assertEquals(Boolean.TRUE, flagged.getAttribute(FLAG));
+  }
+
+  @Test
+  public void shouldNotPoolWildcards() {
+    ClassRef first = list(new WildcardRef());
+    ClassRef second = list(new WildcardRef());
+    assertSame(first, TypeRefPool.intern(first));
+    assertSame(second, TypeRefPool.intern(second));
+  }
+
+  @Test
+  public void shouldNotPoolWhenDisabled() {
+    TypeRefPool.setEnabled(false);
+    assertNotSame(ClassRef.forName("java.lang.String"), ClassRef.forName("java.lang.String"));
+    assertEquals(0, TypeRefPool.size());
+  }
+
+  private static ClassRef list(TypeRef argument) {
+    return new ClassRef("java.util.List", 0, Arrays.asList(argument), Collections.emptyMap());
+  }
+}
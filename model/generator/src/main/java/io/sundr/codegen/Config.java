@@ -21,6 +21,10 @@ import io.sundr.builder.annotations.ExternalBuildables;
 
 @ExternalBuildables(skipExistingTypes = false, lazyCollectionInitEnabled = false, lazyMapInitEnabled = false, includeAbstractClasses = true, includeInterfaces = false, value = "io.sundr.model", excludes = {
     "io.sundr.model.AttributeKey",
+    "io.sundr.model.AttributeMap",
+    "io.sundr.model.LazyList",
+    "io.sundr.model.QualifiedName",
+    "io.sundr.model.TypeRefPool",
     "io.sundr.model.RichTypeDef",
     ".*Fluent$",
     ".*FluentImpl$",
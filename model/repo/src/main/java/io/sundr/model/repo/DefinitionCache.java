@@ -0,0 +1,824 @@
+/*
+ * Copyright 2016 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.model.repo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.sundr.SundrException;
+import io.sundr.model.AnnotationRef;
+import io.sundr.model.AttributeKey;
+import io.sundr.model.Attributeable;
+import io.sundr.model.Block;
+import io.sundr.model.ClassRef;
+import io.sundr.model.Kind;
+import io.sundr.model.Method;
+import io.sundr.model.Modifiers;
+import io.sundr.model.PrimitiveRef;
+import io.sundr.model.Property;
+import io.sundr.model.Statement;
+import io.sundr.model.StringStatement;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeParamDef;
+import io.sundr.model.TypeParamRef;
+import io.sundr.model.TypeRef;
+import io.sundr.model.VoidRef;
+import io.sundr.model.WildcardRef;
+
+/**
+ * A binary snapshot of {@link TypeDef} instances, that can be reused across generations.
+ *
+ * The snapshot is written at the end of a generation using {@link #write(Path, String, Collection, AttributeKey...)} and is
+ * loaded on the next one using {@link #open(Path, String, AttributeKey...)}. Loading reads the file into memory (so that
+ * it isn't held open and can be replaced or deleted at any time) and only decodes the index. Definitions are decoded
+ * lazily, the first time they are requested.
+ *
+ * Each snapshot is keyed by a fingerprint of the generation inputs (e.g. the class path). A snapshot with a different
+ * fingerprint is stale and is discarded as a whole.
+ *
+ * Only definitions that can be restored as is, are written. Definitions with method bodies other than string statements,
+ * property initial values, or attributes and annotation values that can't be encoded, are skipped. Attributes are matched
+ * by key identity, so only the keys of {@link Attributeable} and the keys explicitly passed are supported.
+ *
+ * File layout: magic, version, fingerprint, string table, index (name to offset), encoded definitions.
+ */
+public final class DefinitionCache {
+
+  private static final int MAGIC = 0x53444546;
+  private static final int VERSION = 1;
+  private static final int NULL = -1;
+
+  private static final byte REF_NULL = 0;
+  private static final byte REF_CLASS = 1;
+  private static final byte REF_PRIMITIVE = 2;
+  private static final byte REF_TYPE_PARAM = 3;
+  private static final byte REF_WILDCARD = 4;
+  private static final byte REF_VOID = 5;
+
+  private static final byte VALUE_NULL = 0;
+  private static final byte VALUE_STRING = 1;
+  private static final byte VALUE_BOOLEAN = 2;
+  private static final byte VALUE_INT = 3;
+  private static final byte VALUE_LONG = 4;
+  private static final byte VALUE_SHORT = 5;
+  private static final byte VALUE_BYTE = 6;
+  private static final byte VALUE_CHAR = 7;
+  private static final byte VALUE_FLOAT = 8;
+  private static final byte VALUE_DOUBLE = 9;
+  private static final byte VALUE_TYPE_REF = 10;
+  private static final byte VALUE_ANNOTATION = 11;
+  private static final byte VALUE_ARRAY = 12;
+  private static final byte VALUE_COLLECTION = 13;
+
+  private static final AttributeKey<?>[] DEFAULT_KEYS = { Attributeable.ALSO_IMPORT, Attributeable.INIT,
+      Attributeable.DEFAULT_VALUE, Attributeable.LAZY_INIT };
+
+  private static final Map<String, Class<?>> COMPONENT_TYPES = new HashMap<>();
+
+  static {
+    for (Class<?> c : new Class<?>[] { boolean.class, byte.class, char.class, short.class, int.class, long.class,
+        float.class, double.class, Boolean.class, Byte.class, Character.class, Short.class, Integer.class, Long.class,
+        Float.class, Double.class, String.class, Object.class, TypeRef.class, ClassRef.class, AnnotationRef.class }) {
+      COMPONENT_TYPES.put(c.getName(), c);
+    }
+  }
+
+  private final ByteBuffer data;
+  private final Map<String, Integer> entries;
+  private final int[] stringOffsets;
+  private final String[] strings;
+  private final Map<String, AttributeKey<?>> keys;
+  private final ConcurrentMap<String, TypeDef> decoded = new ConcurrentHashMap<>();
+
+  private DefinitionCache(ByteBuffer data, Map<String, Integer> entries, int[] stringOffsets,
+      Map<String, AttributeKey<?>> keys) {
+    this.data = data;
+    this.entries = entries;
+    this.stringOffsets = stringOffsets;
+    this.strings = new String[stringOffsets.length];
+    this.keys = keys;
+  }
+
+  /**
+   * Creates a cache that contains no definitions.
+   *
+   * @return the empty cache.
+   */
+  public static DefinitionCache empty() {
+    return new DefinitionCache(ByteBuffer.allocate(0), Collections.emptyMap(), new int[0], Collections.emptyMap());
+  }
+
+  /**
+   * Opens the snapshot found in the specified file.
+   * If the file doesn't exist, an empty cache is returned. If the file is stale (its fingerprint doesn't match) or
+   * unreadable, it is deleted and an empty cache is returned.
+   *
+   * @param file the snapshot file.
+   * @param fingerprint the fingerprint of the current inputs.
+   * @param keys additional attribute keys that may be found in the snapshot.
+   * @return the cache.
+   */
+  public static DefinitionCache open(Path file, String fingerprint, AttributeKey<?>... keys) {
+    if (!Files.isRegularFile(file)) {
+      return empty();
+    }
+    try {
+      ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+      if (buffer.remaining() < 8 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION
+          || !fingerprint.equals(readUtf8(buffer))) {
+        discard(file);
+        return empty();
+      }
+
+      int[] stringOffsets = new int[buffer.getInt()];
+      for (int i = 0; i < stringOffsets.length; i++) {
+        stringOffsets[i] = buffer.position();
+        int length = buffer.getInt();
+        buffer.position(buffer.position() + length);
+      }
+
+      int[] names = new int[buffer.getInt()];
+      int[] offsets = new int[names.length];
+      for (int i = 0; i < names.length; i++) {
+        names[i] = buffer.getInt();
+        offsets[i] = buffer.getInt();
+      }
+
+      int dataStart = buffer.position();
+      buffer.position(0);
+      DefinitionCache cache = new DefinitionCache(buffer.asReadOnlyBuffer(), new HashMap<>(), stringOffsets,
+          keysByName(keys));
+      for (int i = 0; i < names.length; i++) {
+        cache.entries.put(cache.string(names[i]), dataStart + offsets[i]);
+      }
+      return cache;
+    } catch (IOException | RuntimeException e) {
+      discard(file);
+      return empty();
+    }
+  }
+
+  /**
+   * Writes a snapshot of the specified definitions to the specified file.
+   * The file is first written to a temporary file and then moved into place, so that readers never see partial content.
+   *
+   * @param file the snapshot file.
+   * @param fingerprint the fingerprint of the current inputs.
+   * @param definitions the definitions.
+   * @param keys additional attribute keys that may be found in the definitions.
+   * @return the number of definitions written (definitions that can't be encoded are skipped).
+   */
+  public static int write(Path file, String fingerprint, Collection<TypeDef> definitions, AttributeKey<?>... keys) {
+    Encoder encoder = new Encoder(keysByName(keys));
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    Map<Integer, Integer> index = new LinkedHashMap<>();
+    for (TypeDef definition : definitions) {
+      byte[] bytes = encoder.tryEncode(definition);
+      if (bytes != null) {
+        index.put(encoder.string(definition.getFullyQualifiedName()), data.size());
+        data.write(bytes, 0, bytes.length);
+      }
+    }
+
+    try {
+      Path parent = file.toAbsolutePath().getParent();
+      Files.createDirectories(parent);
+      Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+      try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tmp))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeUtf8(out, fingerprint);
+        out.writeInt(encoder.strings.size());
+        for (String s : encoder.strings.keySet()) {
+          writeUtf8(out, s);
+        }
+        out.writeInt(index.size());
+        for (Map.Entry<Integer, Integer> entry : index.entrySet()) {
+          out.writeInt(entry.getKey());
+          out.writeInt(entry.getValue());
+        }
+        data.writeTo(out);
+      }
+      try {
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      throw SundrException.launderThrowable(e);
+    }
+    return index.size();
+  }
+
+  /**
+   * Creates a fingerprint for the specified files, using their path, size and last modification time.
+   *
+   * @param inputs the input files (e.g. the class path entries).
+   * @return the fingerprint.
+   */
+  public static String fingerprint(Collection<Path> inputs) {
+    List<String> values = new ArrayList<>();
+    for (Path input : inputs) {
+      values.add(input.toAbsolutePath().toString());
+      try {
+        values.add(String.valueOf(Files.size(input)));
+        values.add(String.valueOf(Files.getLastModifiedTime(input).toMillis()));
+      } catch (IOException e) {
+        values.add("-");
+      }
+    }
+    return fingerprint(values.toArray(new String[values.size()]));
+  }
+
+  /**
+   * Creates a fingerprint for the specified values.
+   *
+   * @param values the values.
+   * @return the fingerprint.
+   */
+  public static String fingerprint(String... values) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      for (String value : values) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+      }
+      StringBuilder sb = new StringBuilder();
+      for (byte b : digest.digest()) {
+        sb.append(String.format("%02x", b));
+      }
+      return sb.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw SundrException.launderThrowable(e);
+    }
+  }
+
+  public boolean contains(String fullyQualifiedName) {
+    return entries.containsKey(fullyQualifiedName);
+  }
+
+  public Set<String> getNames() {
+    return Collections.unmodifiableSet(entries.keySet());
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Get the definition with the specified name, decoding it if needed.
+   *
+   * @param fullyQualifiedName the fully qualified name of the definition.
+   * @return the definition, or null if the definition is not found (or can't be decoded).
+   */
+  public TypeDef get(String fullyQualifiedName) {
+    TypeDef definition = decoded.get(fullyQualifiedName);
+    if (definition != null) {
+      return definition;
+    }
+    Integer offset = entries.get(fullyQualifiedName);
+    if (offset == null) {
+      return null;
+    }
+    try {
+      ByteBuffer buffer = data.duplicate();
+      buffer.position(offset);
+      definition = new Decoder(buffer).readTypeDef();
+    } catch (RuntimeException e) {
+      return null;
+    }
+    TypeDef previous = decoded.putIfAbsent(fullyQualifiedName, definition);
+    return previous != null ? previous : definition;
+  }
+
+  private String string(int index) {
+    if (index == NULL) {
+      return null;
+    }
+    String result = strings[index];
+    if (result == null) {
+      ByteBuffer buffer = data.duplicate();
+      buffer.position(stringOffsets[index]);
+      result = readUtf8(buffer);
+      strings[index] = result;
+    }
+    return result;
+  }
+
+  private static Map<String, AttributeKey<?>> keysByName(AttributeKey<?>... keys) {
+    Map<String, AttributeKey<?>> result = new HashMap<>();
+    for (AttributeKey<?> key : DEFAULT_KEYS) {
+      result.put(key.getName(), key);
+    }
+    for (AttributeKey<?> key : keys) {
+      result.put(key.getName(), key);
+    }
+    return result;
+  }
+
+  private static void discard(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      //Best effort, a stale snapshot is ignored anyway.
+    }
+  }
+
+  private static void writeUtf8(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readUtf8(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.getInt()];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static int toMask(Modifiers modifiers) {
+    boolean[] flags = { modifiers.isPrivate(), modifiers.isProtected(), modifiers.isPublic(), modifiers.isAbstract(),
+        modifiers.isFinal(), modifiers.isNative(), modifiers.isStatic(), modifiers.isSynchronized(),
+        modifiers.isTransient() };
+    int mask = 0;
+    for (int i = 0; i < flags.length; i++) {
+      if (flags[i]) {
+        mask |= 1 << i;
+      }
+    }
+    return mask;
+  }
+
+  private static Modifiers fromMask(int mask) {
+    return new Modifiers((mask & 1) != 0, (mask & 1 << 1) != 0, (mask & 1 << 2) != 0, (mask & 1 << 3) != 0,
+        (mask & 1 << 4) != 0, (mask & 1 << 5) != 0, (mask & 1 << 6) != 0, (mask & 1 << 7) != 0, (mask & 1 << 8) != 0);
+  }
+
+  /**
+   * Thrown when a definition contains something that can't be restored as is.
+   */
+  private static final class NotCacheableException extends RuntimeException {
+    private NotCacheableException(String message) {
+      super(message, null, false, false);
+    }
+  }
+
+  @FunctionalInterface
+  private interface ElementWriter<T> {
+    void write(T element) throws IOException;
+  }
+
+  @FunctionalInterface
+  private interface ElementReader<T> {
+    T read();
+  }
+
+  private static final class Encoder {
+
+    private final Map<String, Integer> strings = new LinkedHashMap<>();
+    private final Map<String, AttributeKey<?>> keys;
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(bytes);
+
+    private Encoder(Map<String, AttributeKey<?>> keys) {
+      this.keys = keys;
+    }
+
+    private byte[] tryEncode(TypeDef definition) {
+      bytes.reset();
+      try {
+        writeTypeDef(definition);
+        out.flush();
+        return bytes.toByteArray();
+      } catch (NotCacheableException e) {
+        return null;
+      } catch (IOException e) {
+        throw SundrException.launderThrowable(e);
+      }
+    }
+
+    private int string(String value) {
+      if (value == null) {
+        return NULL;
+      }
+      return strings.computeIfAbsent(value, k -> strings.size());
+    }
+
+    private void writeString(String value) throws IOException {
+      out.writeInt(string(value));
+    }
+
+    private <T> void writeList(List<T> list, ElementWriter<T> writer) throws IOException {
+      if (list == null) {
+        out.writeInt(NULL);
+        return;
+      }
+      out.writeInt(list.size());
+      for (T element : list) {
+        writer.write(element);
+      }
+    }
+
+    private void writeTypeDef(TypeDef type) throws IOException {
+      out.writeByte(type.getKind().ordinal());
+      writeString(type.getPackageName());
+      writeString(type.getName());
+      writeList(type.getComments(), this::writeString);
+      writeList(type.getAnnotations(), this::writeAnnotation);
+      writeList(type.getExtendsList(), this::writeTypeRef);
+      writeList(type.getImplementsList(), this::writeTypeRef);
+      writeList(type.getParameters(), this::writeTypeParamDef);
+      writeList(type.getProperties(), this::writeProperty);
+      writeList(type.getConstructors(), this::writeMethod);
+      writeList(type.getMethods(), this::writeMethod);
+      writeString(type.getOuterTypeName());
+      writeList(type.getInnerTypes(), this::writeTypeDef);
+      out.writeInt(toMask(type.getModifiers()));
+      writeAttributes(type.getAttributes());
+    }
+
+    private void writeTypeRef(TypeRef ref) throws IOException {
+      if (ref == null) {
+        out.writeByte(REF_NULL);
+      } else if (ref.getClass() == ClassRef.class) {
+        ClassRef classRef = (ClassRef) ref;
+        out.writeByte(REF_CLASS);
+        writeString(classRef.getFullyQualifiedName());
+        out.writeInt(classRef.getDimensions());
+        writeList(classRef.getArguments(), this::writeTypeRef);
+      } else if (ref.getClass() == PrimitiveRef.class) {
+        PrimitiveRef primitiveRef = (PrimitiveRef) ref;
+        out.writeByte(REF_PRIMITIVE);
+        writeString(primitiveRef.getName());
+        out.writeInt(primitiveRef.getDimensions());
+      } else if (ref.getClass() == TypeParamRef.class) {
+        TypeParamRef typeParamRef = (TypeParamRef) ref;
+        out.writeByte(REF_TYPE_PARAM);
+        writeString(typeParamRef.getName());
+        out.writeInt(typeParamRef.getDimensions());
+      } else if (ref.getClass() == WildcardRef.class) {
+        WildcardRef wildcardRef = (WildcardRef) ref;
+        out.writeByte(REF_WILDCARD);
+        out.writeInt(wildcardRef.getBoundKind() != null ? wildcardRef.getBoundKind().ordinal() : NULL);
+        writeList(wildcardRef.getBounds(), this::writeTypeRef);
+      } else if (ref.getClass() == VoidRef.class) {
+        out.writeByte(REF_VOID);
+      } else {
+        throw new NotCacheableException("Unsupported reference type: " + ref.getClass().getName());
+      }
+      writeAttributes(ref.getAttributes());
+    }
+
+    private void writeTypeParamDef(TypeParamDef parameter) throws IOException {
+      writeString(parameter.getName());
+      writeList(parameter.getBounds(), this::writeTypeRef);
+      writeAttributes(parameter.getAttributes());
+    }
+
+    private void writeAnnotation(AnnotationRef annotation) throws IOException {
+      writeTypeRef(annotation.getClassRef());
+      Map<String, Object> parameters = annotation.getParameters();
+      if (parameters == null) {
+        out.writeInt(NULL);
+      } else {
+        out.writeInt(parameters.size());
+        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+          writeString(entry.getKey());
+          writeValue(entry.getValue());
+        }
+      }
+      writeAttributes(annotation.getAttributes());
+    }
+
+    private void writeProperty(Property property) throws IOException {
+      if (property.getInitialValue() != null && property.getInitialValue().isPresent()) {
+        throw new NotCacheableException("Property initial values are not supported");
+      }
+      out.writeInt(toMask(property.getModifiers()));
+      writeAttributes(property.getAttributes());
+      writeList(property.getComments(), this::writeString);
+      writeList(property.getAnnotations(), this::writeAnnotation);
+      writeTypeRef(property.getTypeRef());
+      writeString(property.getName());
+      out.writeBoolean(property.isEnumConstant());
+      out.writeBoolean(property.isSynthetic());
+    }
+
+    private void writeMethod(Method method) throws IOException {
+      writeList(method.getComments(), this::writeString);
+      writeList(method.getAnnotations(), this::writeAnnotation);
+      writeList(method.getParameters(), this::writeTypeParamDef);
+      writeString(method.getName());
+      writeTypeRef(method.getReturnType());
+      writeList(method.getArguments(), this::writeProperty);
+      out.writeBoolean(method.isVarArgPreferred());
+      writeList(method.getExceptions(), this::writeTypeRef);
+      out.writeBoolean(method.isDefaultMethod());
+      writeList(method.getBlock() != null ? method.getBlock().getStatements() : null, this::writeStatement);
+      out.writeInt(toMask(method.getModifiers()));
+      writeAttributes(method.getAttributes());
+    }
+
+    private void writeStatement(Statement statement) throws IOException {
+      if (!(statement instanceof StringStatement)) {
+        throw new NotCacheableException("Unsupported statement type: " + statement.getClass().getName());
+      }
+      writeString(((StringStatement) statement).getSupplier().get());
+    }
+
+    private void writeAttributes(Map<AttributeKey, Object> attributes) throws IOException {
+      if (attributes == null) {
+        out.writeInt(NULL);
+        return;
+      }
+      out.writeInt(attributes.size());
+      for (Map.Entry<AttributeKey, Object> entry : attributes.entrySet()) {
+        if (keys.get(entry.getKey().getName()) != entry.getKey()) {
+          throw new NotCacheableException("Unknown attribute key: " + entry.getKey().getName());
+        }
+        writeString(entry.getKey().getName());
+        writeValue(entry.getValue());
+      }
+    }
+
+    private void writeValue(Object value) throws IOException {
+      if (value == null) {
+        out.writeByte(VALUE_NULL);
+      } else if (value instanceof String) {
+        out.writeByte(VALUE_STRING);
+        writeString((String) value);
+      } else if (value instanceof Boolean) {
+        out.writeByte(VALUE_BOOLEAN);
+        out.writeBoolean((Boolean) value);
+      } else if (value instanceof Integer) {
+        out.writeByte(VALUE_INT);
+        out.writeInt((Integer) value);
+      } else if (value instanceof Long) {
+        out.writeByte(VALUE_LONG);
+        out.writeLong((Long) value);
+      } else if (value instanceof Short) {
+        out.writeByte(VALUE_SHORT);
+        out.writeShort((Short) value);
+      } else if (value instanceof Byte) {
+        out.writeByte(VALUE_BYTE);
+        out.writeByte((Byte) value);
+      } else if (value instanceof Character) {
+        out.writeByte(VALUE_CHAR);
+        out.writeChar((Character) value);
+      } else if (value instanceof Float) {
+        out.writeByte(VALUE_FLOAT);
+        out.writeFloat((Float) value);
+      } else if (value instanceof Double) {
+        out.writeByte(VALUE_DOUBLE);
+        out.writeDouble((Double) value);
+      } else if (value instanceof TypeRef) {
+        out.writeByte(VALUE_TYPE_REF);
+        writeTypeRef((TypeRef) value);
+      } else if (value.getClass() == AnnotationRef.class) {
+        out.writeByte(VALUE_ANNOTATION);
+        writeAnnotation((AnnotationRef) value);
+      } else if (value.getClass().isArray() && COMPONENT_TYPES.containsValue(value.getClass().getComponentType())) {
+        out.writeByte(VALUE_ARRAY);
+        writeString(value.getClass().getComponentType().getName());
+        int length = Array.getLength(value);
+        out.writeInt(length);
+        for (int i = 0; i < length; i++) {
+          writeValue(Array.get(value, i));
+        }
+      } else if (value instanceof Collection) {
+        out.writeByte(VALUE_COLLECTION);
+        writeList(new ArrayList<Object>((Collection<?>) value), this::writeValue);
+      } else {
+        throw new NotCacheableException("Unsupported value type: " + value.getClass().getName());
+      }
+    }
+  }
+
+  private final class Decoder {
+
+    private final ByteBuffer in;
+
+    private Decoder(ByteBuffer in) {
+      this.in = in;
+    }
+
+    private String readString() {
+      return string(in.getInt());
+    }
+
+    private <T> List<T> readList(ElementReader<T> reader) {
+      int size = in.getInt();
+      if (size == NULL) {
+        return null;
+      }
+      List<T> list = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add(reader.read());
+      }
+      return list;
+    }
+
+    private TypeDef readTypeDef() {
+      Kind kind = Kind.values()[in.get()];
+      String packageName = readString();
+      String name = readString();
+      List<String> comments = readList(this::readString);
+      List<AnnotationRef> annotations = readList(this::readAnnotation);
+      List<ClassRef> extendsList = readList(this::readClassRef);
+      List<ClassRef> implementsList = readList(this::readClassRef);
+      List<TypeParamDef> parameters = readList(this::readTypeParamDef);
+      List<Property> properties = readList(this::readProperty);
+      List<Method> constructors = readList(this::readMethod);
+      List<Method> methods = readList(this::readMethod);
+      String outerTypeName = readString();
+      List<TypeDef> innerTypes = readList(this::readTypeDef);
+      Modifiers modifiers = fromMask(in.getInt());
+      Map<AttributeKey, Object> attributes = readAttributes();
+      return new TypeDef(kind, packageName, name, comments, annotations, extendsList, implementsList, parameters, properties,
+          constructors, methods, outerTypeName, innerTypes, modifiers, attributes);
+    }
+
+    private ClassRef readClassRef() {
+      return (ClassRef) readTypeRef();
+    }
+
+    private TypeRef readTypeRef() {
+      byte tag = in.get();
+      switch (tag) {
+        case REF_NULL:
+          return null;
+        case REF_CLASS: {
+          String fullyQualifiedName = readString();
+          int dimensions = in.getInt();
+          List<TypeRef> arguments = readList(this::readTypeRef);
+          return new ClassRef(fullyQualifiedName, dimensions, arguments, readAttributes());
+        }
+        case REF_PRIMITIVE: {
+          String name = readString();
+          int dimensions = in.getInt();
+          return new PrimitiveRef(name, dimensions, readAttributes());
+        }
+        case REF_TYPE_PARAM: {
+          String name = readString();
+          int dimensions = in.getInt();
+          return new TypeParamRef(name, dimensions, readAttributes());
+        }
+        case REF_WILDCARD: {
+          int boundKind = in.getInt();
+          List<TypeRef> bounds = readList(this::readTypeRef);
+          return new WildcardRef(boundKind != NULL ? WildcardRef.BoundKind.values()[boundKind] : null, bounds,
+              readAttributes());
+        }
+        case REF_VOID:
+          return new VoidRef(readAttributes());
+        default:
+          throw new IllegalStateException("Unknown reference tag: " + tag);
+      }
+    }
+
+    private TypeParamDef readTypeParamDef() {
+      String name = readString();
+      List<ClassRef> bounds = readList(this::readClassRef);
+      return new TypeParamDef(name, bounds, readAttributes());
+    }
+
+    private AnnotationRef readAnnotation() {
+      ClassRef classRef = readClassRef();
+      Map<String, Object> parameters = null;
+      int size = in.getInt();
+      if (size != NULL) {
+        parameters = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+          String key = readString();
+          parameters.put(key, readValue());
+        }
+      }
+      return new AnnotationRef(classRef, parameters, readAttributes());
+    }
+
+    private Property readProperty() {
+      Modifiers modifiers = fromMask(in.getInt());
+      Map<AttributeKey, Object> attributes = readAttributes();
+      List<String> comments = readList(this::readString);
+      List<AnnotationRef> annotations = readList(this::readAnnotation);
+      TypeRef typeRef = readTypeRef();
+      String name = readString();
+      boolean enumConstant = in.get() != 0;
+      boolean synthetic = in.get() != 0;
+      return new Property(modifiers, attributes, comments, annotations, typeRef, name, Optional.empty(), enumConstant,
+          synthetic);
+    }
+
+    private Method readMethod() {
+      List<String> comments = readList(this::readString);
+      List<AnnotationRef> annotations = readList(this::readAnnotation);
+      List<TypeParamDef> parameters = readList(this::readTypeParamDef);
+      String name = readString();
+      TypeRef returnType = readTypeRef();
+      List<Property> arguments = readList(this::readProperty);
+      boolean varArgPreferred = in.get() != 0;
+      List<ClassRef> exceptions = readList(this::readClassRef);
+      boolean defaultMethod = in.get() != 0;
+      List<Statement> statements = readList(() -> new StringStatement(readString()));
+      Modifiers modifiers = fromMask(in.getInt());
+      Map<AttributeKey, Object> attributes = readAttributes();
+      return new Method(comments, annotations, parameters, name, returnType, arguments, varArgPreferred, exceptions,
+          defaultMethod, statements != null ? new Block(statements) : null, modifiers, attributes);
+    }
+
+    private Map<AttributeKey, Object> readAttributes() {
+      int size = in.getInt();
+      if (size == NULL) {
+        return null;
+      }
+      Map<AttributeKey, Object> attributes = new LinkedHashMap<>();
+      for (int i = 0; i < size; i++) {
+        String name = readString();
+        AttributeKey<?> key = keys.get(name);
+        if (key == null) {
+          throw new IllegalStateException("Unknown attribute key: " + name);
+        }
+        attributes.put(key, readValue());
+      }
+      return attributes;
+    }
+
+    private Object readValue() {
+      byte tag = in.get();
+      switch (tag) {
+        case VALUE_NULL:
+          return null;
+        case VALUE_STRING:
+          return readString();
+        case VALUE_BOOLEAN:
+          return in.get() != 0;
+        case VALUE_INT:
+          return in.getInt();
+        case VALUE_LONG:
+          return in.getLong();
+        case VALUE_SHORT:
+          return in.getShort();
+        case VALUE_BYTE:
+          return in.get();
+        case VALUE_CHAR:
+          return in.getChar();
+        case VALUE_FLOAT:
+          return in.getFloat();
+        case VALUE_DOUBLE:
+          return in.getDouble();
+        case VALUE_TYPE_REF:
+          return readTypeRef();
+        case VALUE_ANNOTATION:
+          return readAnnotation();
+        case VALUE_ARRAY: {
+          Class<?> componentType = COMPONENT_TYPES.get(readString());
+          int length = in.getInt();
+          Object array = Array.newInstance(componentType, length);
+          for (int i = 0; i < length; i++) {
+            Array.set(array, i, readValue());
+          }
+          return array;
+        }
+        case VALUE_COLLECTION:
+          return readList(this::readValue);
+        default:
+          throw new IllegalStateException("Unknown value tag: " + tag);
+      }
+    }
+  }
+}
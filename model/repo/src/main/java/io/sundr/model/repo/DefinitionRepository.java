@@ -21,14 +21,19 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -36,19 +41,31 @@ import java.util.stream.Stream;
 import io.sundr.SundrException;
 import io.sundr.model.AttributeKey;
 import io.sundr.model.ClassRef;
+import io.sundr.model.Nameable;
 import io.sundr.model.TypeDef;
 import io.sundr.model.TypeDefBuilder;
 import io.sundr.model.TypeRef;
 
 public class DefinitionRepository {
 
-  private static DefinitionRepository INSTANCE;
-  private static DefinitionRepository SCOPE;
+  private static final DefinitionRepository INSTANCE = new DefinitionRepository();
+  private static final ThreadLocal<DefinitionRepository> SCOPE = new ThreadLocal<DefinitionRepository>();
+
+  private static final ThreadLocal<Set<String>> SUPPLYING = ThreadLocal.withInitial(HashSet::new);
 
   private final ConcurrentMap<String, TypeDef> definitions = new ConcurrentHashMap<String, TypeDef>();
   private final ConcurrentMap<String, Supplier<TypeDef>> suppliers = new ConcurrentHashMap<String, Supplier<TypeDef>>();
 
-  private Map<String, String> snapshot;
+  // Secondary indexes: flag to the fully qualified names of the definitions that have the flag set to true.
+  private final ConcurrentMap<AttributeKey, Set<String>> flagged = new ConcurrentHashMap<AttributeKey, Set<String>>();
+  private final ConcurrentMap<String, Set<String>> flaggedByName = new ConcurrentHashMap<String, Set<String>>();
+
+  private final HierarchyIndex hierarchy = new HierarchyIndex();
+
+  // Definitions from previous generations, that are registered the first time they are requested.
+  private final List<DefinitionCache> caches = new CopyOnWriteArrayList<DefinitionCache>();
+
+  private volatile Map<String, String> snapshot;
 
   private DefinitionRepository() {
   }
@@ -62,16 +79,14 @@ public class DefinitionRepository {
    * repo instead of the Singleton intance.
    * The same goes for Definition.withNewRepository(repo -{@literal >} { ... }).
    *
+   * The scope is bound to the current thread, so that independent generations may run concurrently, each one using its
+   * own repository. It is not inherited by other threads (e.g. pooled ones), it needs to be propagated explicitly.
+   *
    * @return the scoped instance if called from within withRepo/withNewRepo lambda, or the singleton instance otherwise.
    */
-  public static synchronized final DefinitionRepository getRepository() {
-    if (SCOPE != null) {
-      return SCOPE;
-    }
-    if (INSTANCE == null) {
-      INSTANCE = new DefinitionRepository();
-    }
-    return INSTANCE;
+  public static final DefinitionRepository getRepository() {
+    DefinitionRepository scoped = SCOPE.get();
+    return scoped != null ? scoped : INSTANCE;
   }
 
   /**
@@ -91,33 +106,54 @@ public class DefinitionRepository {
     return new WithRepo(new DefinitionRepository());
   }
 
-  public synchronized void registerIfAbsent(String fqcn, Supplier<TypeDef> supplier) {
-    if (definitions.containsKey(fqcn)) {
-      return;
+  /**
+   * Use the specified cache as a source of definitions.
+   * Cached definitions are registered lazily, the first time they are requested and before any supplier is consulted.
+   *
+   * @param cache the cache.
+   */
+  public void addCache(DefinitionCache cache) {
+    if (cache != null && cache.size() > 0) {
+      caches.add(cache);
     }
+  }
 
-    if (suppliers.containsKey(fqcn)) {
+  /**
+   * Stop using the specified cache as a source of definitions.
+   * Definitions that were already registered from the cache are retained.
+   *
+   * @param cache the cache.
+   */
+  public void removeCache(DefinitionCache cache) {
+    caches.remove(cache);
+  }
+
+  public void registerIfAbsent(String fqcn, Supplier<TypeDef> supplier) {
+    if (definitions.containsKey(fqcn)) {
       return;
     }
-
-    suppliers.put(fqcn, supplier);
+    suppliers.putIfAbsent(fqcn, supplier);
   }
 
-  public synchronized void registerIfAbsent(TypeDef definition) {
+  public void registerIfAbsent(TypeDef definition) {
     if (definition == null) {
       return;
     }
 
     String fqcn = definition.getFullyQualifiedName();
-    definitions.putIfAbsent(fqcn, definition);
+    definitions.computeIfAbsent(fqcn, k -> index(k, definition));
   }
 
-  public synchronized TypeDef register(TypeDef definition) {
-    definitions.put(definition.getFullyQualifiedName(), definition);
+  public TypeDef register(TypeDef definition) {
+    String fqcn = definition.getFullyQualifiedName();
+    definitions.compute(fqcn, (k, previous) -> {
+      unindex(k, previous);
+      return index(k, definition);
+    });
     return definition;
   }
 
-  public synchronized TypeDef register(TypeDef definition, String... flags) {
+  public TypeDef register(TypeDef definition, String... flags) {
     TypeDefBuilder builder = new TypeDefBuilder(definition);
     for (String flag : flags) {
       builder.addToAttributes(new AttributeKey<Boolean>(flag, Boolean.class), true);
@@ -125,7 +161,7 @@ public class DefinitionRepository {
     return register(builder.build());
   }
 
-  public synchronized TypeDef register(TypeDef definition, AttributeKey<Boolean>... flags) {
+  public TypeDef register(TypeDef definition, AttributeKey<Boolean>... flags) {
     TypeDefBuilder builder = new TypeDefBuilder(definition);
     for (AttributeKey<Boolean> flag : flags) {
       builder.addToAttributes(flag, true);
@@ -133,117 +169,229 @@ public class DefinitionRepository {
     return register(builder.build());
   }
 
-  public synchronized Set<TypeDef> getDefinitions(String... flags) {
-    Set<TypeDef> result = new LinkedHashSet<TypeDef>();
-    for (TypeDef candidate : definitions.values()) {
-      boolean matches = true;
-      for (String flag : flags) {
-        AttributeKey<Boolean> attributeKey = new AttributeKey<Boolean>(flag, Boolean.class);
-        if (!candidate.hasAttribute(attributeKey) || !(candidate.getAttribute(attributeKey))) {
-          matches = false;
-          break;
-        }
-      }
-      if (matches) {
-        result.add(candidate);
-      }
+  /**
+   * Get the definitions that have all the specified flags set.
+   * Flags are matched by name.
+   *
+   * @param flags the names of the flags.
+   * @return an unmodifiable set with the matching definitions.
+   */
+  public Set<TypeDef> getDefinitions(String... flags) {
+    if (flags.length == 0) {
+      return Collections.unmodifiableSet(new LinkedHashSet<TypeDef>(definitions.values()));
     }
-
-    return Collections.unmodifiableSet(result);
+    List<Set<String>> candidates = new ArrayList<Set<String>>(flags.length);
+    for (String flag : flags) {
+      candidates.add(flaggedByName.getOrDefault(flag, Collections.emptySet()));
+    }
+    return Collections.unmodifiableSet(intersect(candidates, d -> true));
   }
 
-  public synchronized Set<TypeDef> getDefinitions(AttributeKey<Boolean>... attributeKeys) {
-
-    Set<TypeDef> result = new LinkedHashSet<TypeDef>();
-    for (TypeDef candidate : definitions.values()) {
-      boolean matches = true;
+  /**
+   * Get the definitions that have all the specified flags set.
+   *
+   * @param attributeKeys the flags.
+   * @return an unmodifiable set with the matching definitions.
+   */
+  public Set<TypeDef> getDefinitions(AttributeKey<Boolean>... attributeKeys) {
+    if (attributeKeys.length == 0) {
+      return Collections.unmodifiableSet(new LinkedHashSet<TypeDef>(definitions.values()));
+    }
+    List<Set<String>> candidates = new ArrayList<Set<String>>(attributeKeys.length);
+    for (AttributeKey<Boolean> attributeKey : attributeKeys) {
+      candidates.add(flagged.getOrDefault(attributeKey, Collections.emptySet()));
+    }
+    // Re-check the candidates, as the index may briefly lag behind a concurrent registration.
+    return Collections.unmodifiableSet(intersect(candidates, d -> {
       for (AttributeKey<Boolean> attributeKey : attributeKeys) {
-        if (!candidate.hasAttribute(attributeKey) || !(candidate.getAttribute(attributeKey))) {
-          matches = false;
-          break;
+        if (!Boolean.TRUE.equals(d.getAttribute(attributeKey))) {
+          return false;
         }
       }
-      if (matches) {
-        result.add(candidate);
-      }
-    }
-
-    return Collections.unmodifiableSet(result);
+      return true;
+    }));
   }
 
-  public synchronized boolean hasDefinition(String fullyQualifiedName) {
-    return definitions.containsKey(fullyQualifiedName) || suppliers.containsKey(fullyQualifiedName);
+  public boolean hasDefinition(String fullyQualifiedName) {
+    return definitions.containsKey(fullyQualifiedName) || suppliers.containsKey(fullyQualifiedName)
+        || caches.stream().anyMatch(c -> c.contains(fullyQualifiedName));
   }
 
   public TypeDef getDefinition(String fullyQualifiedName) {
     return getDefinition(fullyQualifiedName, true);
   }
 
-  public synchronized TypeDef getDefinition(String fullyQualifiedName, boolean computeIfSupplied) {
+  public TypeDef getDefinition(String fullyQualifiedName, boolean computeIfSupplied) {
     TypeDef definition = definitions.get(fullyQualifiedName);
+    if (definition == null) {
+      definition = getCachedDefinition(fullyQualifiedName);
+    }
     if (definition != null || !computeIfSupplied) {
       return definition;
     }
-    Supplier<TypeDef> supplier = suppliers.remove(fullyQualifiedName);
-    if (supplier != null) {
+    Supplier<TypeDef> supplier = suppliers.get(fullyQualifiedName);
+    if (supplier == null) {
+      return definitions.get(fullyQualifiedName);
+    }
+
+    // A supplier may (indirectly) ask for the definition it supplies. Such requests are answered with null.
+    // Concurrent requests may compute the supplier more than once, but only the first result is registered.
+    Set<String> supplying = SUPPLYING.get();
+    if (!supplying.add(fullyQualifiedName)) {
+      return null;
+    }
+    try {
       TypeDef typeDef = supplier.get();
-      definitions.put(fullyQualifiedName, typeDef);
-      return typeDef;
+      if (typeDef != null) {
+        definitions.computeIfAbsent(fullyQualifiedName, k -> index(k, typeDef));
+      }
+      suppliers.remove(fullyQualifiedName, supplier);
+      return definitions.get(fullyQualifiedName);
+    } finally {
+      supplying.remove(fullyQualifiedName);
+    }
+  }
+
+  private TypeDef getCachedDefinition(String fullyQualifiedName) {
+    for (DefinitionCache cache : caches) {
+      TypeDef cached = cache.get(fullyQualifiedName);
+      if (cached != null) {
+        return definitions.computeIfAbsent(fullyQualifiedName, k -> index(k, cached));
+      }
     }
     return null;
   }
 
-  public synchronized TypeDef getDefinition(TypeRef type) {
+  public TypeDef getDefinition(TypeRef type) {
     if (type instanceof ClassRef) {
       return getDefinition(((ClassRef) type).getFullyQualifiedName());
     }
     return null;
   }
 
-  public synchronized Collection<TypeDef> getDefinitions() {
+  public Collection<TypeDef> getDefinitions() {
+    return getDefinitions(true);
+  }
+
+  /**
+   * Get all the definitions.
+   *
+   * @param computeIfSupplied when false, definitions that are only known via a supplier or a cache are not included.
+   * @return the definitions.
+   */
+  public Collection<TypeDef> getDefinitions(boolean computeIfSupplied) {
+    if (!computeIfSupplied) {
+      return Collections.unmodifiableCollection(new ArrayList<TypeDef>(definitions.values()));
+    }
     return Stream.concat(definitions.keySet().stream(), suppliers.keySet().stream()).distinct().map(k -> getDefinition(k))
         .collect(Collectors.toSet());
   }
 
-  public synchronized void updateReferenceMap() {
+  /**
+   * Get the index of the type hierarchy of the registered definitions.
+   *
+   * @return the hierarchy index.
+   */
+  public HierarchyIndex getHierarchy() {
+    return hierarchy;
+  }
+
+  public void updateReferenceMap() {
     snapshot = getReferenceMapInternal();
   }
 
-  public synchronized Map<String, String> getReferenceMap() {
-    if (snapshot == null) {
-      snapshot = getReferenceMapInternal();
+  public Map<String, String> getReferenceMap() {
+    Map<String, String> current = snapshot;
+    if (current == null) {
+      current = getReferenceMapInternal();
+      snapshot = current;
     }
-    return snapshot;
+    return current;
   }
 
   private Map<String, String> getReferenceMapInternal() {
     Map<String, String> mapping = new HashMap<String, String>();
-    List<ClassRef> refs = new ArrayList<ClassRef>();
+    //It's best to have predictable order, so that we can generate uniform code.
+    Set<String> names = new TreeSet<String>();
     for (TypeDef typeDef : getDefinitions()) {
-      refs.add(typeDef.toInternalReference());
+      names.add(typeDef.getFullyQualifiedName());
+    }
+    //Cached definitions are included without decoding them, as only their names are needed.
+    for (DefinitionCache cache : caches) {
+      names.addAll(cache.getNames());
     }
 
-    //It's best to have predictable order, so that we can generate uniform code.
-    Collections.sort(refs, new Comparator<ClassRef>() {
-      @Override
-      public int compare(ClassRef o1, ClassRef o2) {
-        return o1.getFullyQualifiedName().compareTo(o2.getFullyQualifiedName());
-      }
-    });
-
-    for (ClassRef classRef : refs) {
-      String key = classRef.getName();
+    for (String name : names) {
+      String key = Nameable.getClassName(name);
       if (!mapping.containsKey(key)) {
-        mapping.put(key, classRef.getFullyQualifiedName());
+        mapping.put(key, name);
       }
     }
 
     return mapping;
   }
 
-  public synchronized void clear() {
+  public void clear() {
     definitions.clear();
     suppliers.clear();
+    caches.clear();
+    flagged.clear();
+    flaggedByName.clear();
+    hierarchy.clear();
+  }
+
+  private TypeDef index(String fqcn, TypeDef definition) {
+    hierarchy.update(definition);
+    forEachFlag(definition, key -> {
+      flagged.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(fqcn);
+      flaggedByName.computeIfAbsent(key.getName(), k -> ConcurrentHashMap.newKeySet()).add(fqcn);
+    });
+    return definition;
+  }
+
+  private void unindex(String fqcn, TypeDef definition) {
+    forEachFlag(definition, key -> {
+      Set<String> byKey = flagged.get(key);
+      if (byKey != null) {
+        byKey.remove(fqcn);
+      }
+      Set<String> byName = flaggedByName.get(key.getName());
+      if (byName != null) {
+        byName.remove(fqcn);
+      }
+    });
+  }
+
+  private static void forEachFlag(TypeDef definition, Consumer<AttributeKey> consumer) {
+    if (definition == null || definition.getAttributes() == null) {
+      return;
+    }
+    for (Map.Entry<AttributeKey, Object> entry : definition.getAttributes().entrySet()) {
+      if (Boolean.TRUE.equals(entry.getValue())) {
+        consumer.accept(entry.getKey());
+      }
+    }
+  }
+
+  /**
+   * Intersect the specified sets of fully qualified names, by iterating over the smallest of them.
+   *
+   * @param candidates the sets to intersect.
+   * @param filter a filter to apply to the matching definitions.
+   * @return the matching definitions.
+   */
+  private Set<TypeDef> intersect(List<Set<String>> candidates, Predicate<TypeDef> filter) {
+    Set<String> smallest = candidates.stream().min(Comparator.comparingInt(Set::size)).orElse(Collections.emptySet());
+    Set<TypeDef> result = new LinkedHashSet<TypeDef>();
+    for (String fqcn : smallest) {
+      if (candidates.stream().allMatch(c -> c == smallest || c.contains(fqcn))) {
+        TypeDef definition = definitions.get(fqcn);
+        if (definition != null && filter.test(definition)) {
+          result.add(definition);
+        }
+      }
+    }
+    return result;
   }
 
   public static class WithRepo {
@@ -254,25 +402,23 @@ public class DefinitionRepository {
 
     private final DefinitionRepository repository;
 
-    public synchronized <V> V apply(Function<DefinitionRepository, V> function) {
-      try {
-        SCOPE = repository;
-        return function.apply(repository);
-      } catch (Exception e) {
-        throw new SundrException(e);
-      } finally {
-        SCOPE = null;
-      }
+    public <V> V apply(Function<DefinitionRepository, V> function) {
+      return call(() -> function.apply(repository));
     }
 
-    public synchronized <V> V call(Callable<V> callable) {
+    public <V> V call(Callable<V> callable) {
+      DefinitionRepository previous = SCOPE.get();
       try {
-        SCOPE = repository;
+        SCOPE.set(repository);
         return callable.call();
       } catch (Exception e) {
         throw new SundrException(e);
       } finally {
-        SCOPE = null;
+        if (previous != null) {
+          SCOPE.set(previous);
+        } else {
+          SCOPE.remove();
+        }
       }
     }
   }
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2016 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.model.repo;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import io.sundr.model.ClassRef;
+import io.sundr.model.TypeDef;
+
+/**
+ * An index of the type hierarchy of the definitions found in a {@link DefinitionRepository}.
+ *
+ * Each type name gets a dense id and each type gets two closures, as bitsets of ids: the closure of the extends list
+ * (superclasses, or super interfaces for interfaces) and the closure of all supertypes (extends and implements lists).
+ * The index is updated as definitions are registered. Supertypes that are not registered are resolved using the resolver
+ * that is passed to each query, the first time they are encountered.
+ *
+ * Closures are computed lazily and memoized. Memoized closures are only invalidated when the supertypes of an already
+ * indexed type change.
+ */
+public final class HierarchyIndex {
+
+  private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Integer, String> names = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Node> nodes = new ConcurrentHashMap<>();
+  private final AtomicInteger nextId = new AtomicInteger();
+  private final AtomicLong version = new AtomicLong();
+
+  HierarchyIndex() {
+  }
+
+  /**
+   * Get the names of all superclasses of the specified type (i.e. the transitive closure of the extends list).
+   *
+   * @param type the type.
+   * @param resolver resolves the definition of supertypes that have not been registered.
+   * @return the fully qualified names of the superclasses.
+   */
+  public Set<String> getSuperclasses(TypeDef type, Function<String, TypeDef> resolver) {
+    return toNames(closure(type, false, resolver));
+  }
+
+  /**
+   * Get the names of all the supertypes of the specified type (i.e. the transitive closure of the extends and implements
+   * lists).
+   *
+   * @param type the type.
+   * @param resolver resolves the definition of supertypes that have not been registered.
+   * @return the fully qualified names of the supertypes.
+   */
+  public Set<String> getSupertypes(TypeDef type, Function<String, TypeDef> resolver) {
+    return toNames(closure(type, true, resolver));
+  }
+
+  /**
+   * Checks if the type with the specified name is a supertype of the specified type.
+   *
+   * @param fullyQualifiedName the name of the candidate supertype.
+   * @param type the type.
+   * @param resolver resolves the definition of supertypes that have not been registered.
+   * @return true if the candidate is a supertype, false otherwise.
+   */
+  public boolean isSupertype(String fullyQualifiedName, TypeDef type, Function<String, TypeDef> resolver) {
+    BitSet closure = closure(type, true, resolver);
+    Integer id = ids.get(fullyQualifiedName);
+    return id != null && closure.get(id);
+  }
+
+  void update(TypeDef definition) {
+    Node node = new Node(definition);
+    Node previous = nodes.put(definition.getFullyQualifiedName(), node);
+    if (previous != null && !previous.hasSameSupertypes(node)) {
+      version.incrementAndGet();
+    }
+  }
+
+  void clear() {
+    nodes.clear();
+    version.incrementAndGet();
+  }
+
+  private BitSet closure(TypeDef type, boolean all, Function<String, TypeDef> resolver) {
+    long current = version.get();
+    Set<Integer> visiting = new HashSet<>();
+    BitSet result = new BitSet();
+    for (int superId : all ? concat(ids(type.getExtendsList()), ids(type.getImplementsList())) : ids(type.getExtendsList())) {
+      Closure closure = closure(node(superId, resolver), current, visiting, resolver);
+      result.or(all ? closure.supertypes : closure.superclasses);
+    }
+    return result;
+  }
+
+  private Closure closure(Node node, long current, Set<Integer> visiting, Function<String, TypeDef> resolver) {
+    Closure closure = node.closure;
+    if (closure != null && closure.version == current) {
+      return closure;
+    }
+
+    BitSet superclasses = new BitSet();
+    BitSet supertypes = new BitSet();
+    superclasses.set(node.id);
+    supertypes.set(node.id);
+    if (visiting.add(node.id)) {
+      try {
+        for (int superId : node.extendsIds) {
+          Closure c = closure(node(superId, resolver), current, visiting, resolver);
+          superclasses.or(c.superclasses);
+          supertypes.or(c.supertypes);
+        }
+        for (int superId : node.implementsIds) {
+          supertypes.or(closure(node(superId, resolver), current, visiting, resolver).supertypes);
+        }
+      } finally {
+        visiting.remove(node.id);
+      }
+    }
+    closure = new Closure(current, superclasses, supertypes);
+    node.closure = closure;
+    return closure;
+  }
+
+  private Node node(int id, Function<String, TypeDef> resolver) {
+    String name = names.get(id);
+    Node node = nodes.get(name);
+    if (node != null) {
+      return node;
+    }
+    TypeDef definition = resolver.apply(name);
+    //Resolving a definition may register it (and thus index it).
+    node = nodes.get(name);
+    if (node != null) {
+      return node;
+    }
+    node = definition != null && name.equals(definition.getFullyQualifiedName()) ? new Node(definition) : new Node(id);
+    Node previous = nodes.putIfAbsent(name, node);
+    return previous != null ? previous : node;
+  }
+
+  private int id(String fullyQualifiedName) {
+    return ids.computeIfAbsent(fullyQualifiedName, n -> {
+      int id = nextId.getAndIncrement();
+      names.put(id, n);
+      return id;
+    });
+  }
+
+  private int[] ids(List<ClassRef> refs) {
+    if (refs == null) {
+      return new int[0];
+    }
+    return refs.stream().mapToInt(r -> id(r.getFullyQualifiedName())).toArray();
+  }
+
+  private Set<String> toNames(BitSet bits) {
+    Set<String> result = new LinkedHashSet<>();
+    bits.stream().forEach(id -> result.add(names.get(id)));
+    return result;
+  }
+
+  private static int[] concat(int[] first, int[] second) {
+    int[] result = Arrays.copyOf(first, first.length + second.length);
+    System.arraycopy(second, 0, result, first.length, second.length);
+    return result;
+  }
+
+  private final class Node {
+    private final int id;
+    private final int[] extendsIds;
+    private final int[] implementsIds;
+    private volatile Closure closure;
+
+    private Node(TypeDef definition) {
+      this.id = id(definition.getFullyQualifiedName());
+      this.extendsIds = ids(definition.getExtendsList());
+      this.implementsIds = ids(definition.getImplementsList());
+    }
+
+    private Node(int id) {
+      this.id = id;
+      this.extendsIds = new int[0];
+      this.implementsIds = new int[0];
+    }
+
+    private boolean hasSameSupertypes(Node other) {
+      return Arrays.equals(extendsIds, other.extendsIds) && Arrays.equals(implementsIds, other.implementsIds);
+    }
+  }
+
+  private static final class Closure {
+    private final long version;
+    private final BitSet superclasses;
+    private final BitSet supertypes;
+
+    private Closure(long version, BitSet superclasses, BitSet supertypes) {
+      this.version = version;
+      this.superclasses = superclasses;
+      this.supertypes = supertypes;
+    }
+  }
+}
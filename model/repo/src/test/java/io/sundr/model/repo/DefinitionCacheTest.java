@@ -0,0 +1,202 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.model.repo;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.sundr.model.AnnotationRef;
+import io.sundr.model.AttributeKey;
+import io.sundr.model.Attributeable;
+import io.sundr.model.Block;
+import io.sundr.model.ClassRef;
+import io.sundr.model.Kind;
+import io.sundr.model.Method;
+import io.sundr.model.Modifiers;
+import io.sundr.model.PrimitiveRef;
+import io.sundr.model.Property;
+import io.sundr.model.StringStatement;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeParamDef;
+import io.sundr.model.TypeParamRef;
+import io.sundr.model.TypeRef;
+import io.sundr.model.ValueRef;
+import io.sundr.model.WildcardRef;
+
+public class DefinitionCacheTest {
+
+  private static final ClassRef STRING = ClassRef.forName("java.lang.String");
+  private static final AttributeKey<Boolean> BUILDABLE = new AttributeKey<>("BUILDABLE", Boolean.class);
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldRestoreDefinitions() throws Exception {
+    Path file = folder.getRoot().toPath().resolve("test.definitions");
+    TypeDef foo = foo();
+    assertEquals(1, DefinitionCache.write(file, "v1", Collections.singletonList(foo), BUILDABLE));
+
+    DefinitionCache cache = DefinitionCache.open(file, "v1", BUILDABLE);
+    assertEquals(1, cache.size());
+    assertTrue(cache.contains("my.pkg.Foo"));
+
+    TypeDef restored = cache.get("my.pkg.Foo");
+    assertNotNull(restored);
+    assertSame(restored, cache.get("my.pkg.Foo"));
+    assertEquals(foo.render(), restored.render());
+    assertEquals(Boolean.TRUE, restored.getAttribute(BUILDABLE));
+    assertEquals("init", restored.getProperties().get(0).getAttribute(Attributeable.INIT));
+    assertEquals("return name;", restored.getMethods().get(0).getBlock().getStatements().get(0).toString());
+
+    AnnotationRef annotation = restored.getAnnotations().get(0);
+    assertEquals(STRING, annotation.getParameters().get("type"));
+    assertArrayEquals(new int[] { 1, 2 }, (int[]) annotation.getParameters().get("values"));
+  }
+
+  @Test
+  public void shouldNotHoldSnapshotOpen() throws Exception {
+    Path file = folder.getRoot().toPath().resolve("test.definitions");
+    DefinitionCache.write(file, "v1", Collections.singletonList(foo()), BUILDABLE);
+    DefinitionCache cache = DefinitionCache.open(file, "v1", BUILDABLE);
+
+    //The snapshot of the next generation replaces the file, while definitions are still being decoded.
+    assertEquals(0, DefinitionCache.write(file, "v2", Collections.emptyList(), BUILDABLE));
+    Files.delete(file);
+    assertEquals(foo().render(), cache.get("my.pkg.Foo").render());
+  }
+
+  @Test
+  public void shouldDiscardStaleSnapshot() throws Exception {
+    Path file = folder.getRoot().toPath().resolve("test.definitions");
+    DefinitionCache.write(file, "v1", Collections.singletonList(foo()), BUILDABLE);
+
+    assertEquals(0, DefinitionCache.open(file, "v2", BUILDABLE).size());
+    assertFalse(Files.exists(file));
+  }
+
+  @Test
+  public void shouldSkipDefinitionsThatCantBeRestored() throws Exception {
+    Path file = folder.getRoot().toPath().resolve("test.definitions");
+    TypeDef initialized = type("Bar", new Property(Modifiers.create(), Collections.emptyMap(), null,
+        Collections.emptyList(), STRING, "name", Optional.of(new ValueRef("bar")), false, false));
+
+    assertEquals(0, DefinitionCache.write(file, "v1", Arrays.asList(foo(), initialized)));
+    assertEquals(0, DefinitionCache.open(file, "v1").size());
+  }
+
+  @Test
+  public void shouldRegisterCachedDefinitionsLazily() throws Exception {
+    Path file = folder.getRoot().toPath().resolve("test.definitions");
+    DefinitionCache.write(file, "v1", Collections.singletonList(foo()), BUILDABLE);
+
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    repository.addCache(DefinitionCache.open(file, "v1", BUILDABLE));
+    repository.registerIfAbsent("my.pkg.Foo", () -> {
+      throw new IllegalStateException("Should not be called");
+    });
+
+    assertTrue(repository.hasDefinition("my.pkg.Foo"));
+    assertTrue(repository.getDefinitions(false).isEmpty());
+    assertNotNull(repository.getDefinition("my.pkg.Foo", false));
+    assertEquals(1, repository.getDefinitions(BUILDABLE).size());
+    assertNull(repository.getDefinition("my.pkg.Other"));
+  }
+
+  @Test
+  public void shouldDetachCache() throws Exception {
+    Path file = folder.getRoot().toPath().resolve("test.definitions");
+    DefinitionCache.write(file, "v1", Collections.singletonList(foo()), BUILDABLE);
+
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    DefinitionCache cache = DefinitionCache.open(file, "v1", BUILDABLE);
+    repository.addCache(cache);
+    assertTrue(repository.hasDefinition("my.pkg.Foo"));
+    repository.removeCache(cache);
+    assertFalse(repository.hasDefinition("my.pkg.Foo"));
+  }
+
+  @Test
+  public void shouldFingerprintFiles() throws Exception {
+    File input = folder.newFile("input.jar");
+    String fingerprint = DefinitionCache.fingerprint(Collections.singletonList(input.toPath()));
+    assertEquals(fingerprint, DefinitionCache.fingerprint(Collections.singletonList(input.toPath())));
+
+    Files.write(input.toPath(), new byte[] { 1 });
+    assertFalse(fingerprint.equals(DefinitionCache.fingerprint(Collections.singletonList(input.toPath()))));
+  }
+
+  private static TypeDef foo() {
+    Map<AttributeKey, Object> propertyAttributes = new HashMap<>();
+    propertyAttributes.put(Attributeable.INIT, "init");
+    Property name = new Property(Modifiers.from(Modifier.PRIVATE), propertyAttributes, null, Collections.emptyList(),
+        STRING, "name", Optional.empty(), false, false);
+
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("type", STRING);
+    parameters.put("values", new int[] { 1, 2 });
+    AnnotationRef annotation = new AnnotationRef(ClassRef.forName("my.pkg.Marker"), parameters, Collections.emptyMap());
+
+    TypeRef list = new ClassRef("java.util.List", 0,
+        Collections.singletonList(new WildcardRef(WildcardRef.BoundKind.EXTENDS,
+            Collections.singletonList(new TypeParamRef("T", 0, Collections.emptyMap())), Collections.emptyMap())),
+        Collections.emptyMap());
+    Method getName = new Method(null, Collections.emptyList(), Collections.emptyList(), "getName", STRING,
+        Collections.emptyList(), false, Collections.emptyList(), false, new Block(new StringStatement("return name;")),
+        Modifiers.from(Modifier.PUBLIC), Collections.emptyMap());
+    Method size = new Method(null, Collections.emptyList(), Collections.emptyList(), "size",
+        new PrimitiveRef("int", 0, Collections.emptyMap()),
+        Collections.singletonList(new Property(Modifiers.create(), Collections.emptyMap(), null, Collections.emptyList(),
+            list, "items", Optional.empty(), false, false)),
+        false, Collections.emptyList(), false, null, Modifiers.from(Modifier.PUBLIC | Modifier.ABSTRACT),
+        Collections.emptyMap());
+
+    Map<AttributeKey, Object> attributes = new HashMap<>();
+    attributes.put(BUILDABLE, true);
+    return new TypeDef(Kind.CLASS, "my.pkg", "Foo", null, Collections.singletonList(annotation), Collections.emptyList(),
+        Collections.emptyList(),
+        Collections.singletonList(new TypeParamDef("T", Collections.emptyList(), Collections.emptyMap())),
+        Collections.singletonList(name), Collections.emptyList(), Arrays.asList(getName, size), null,
+        Collections.emptyList(), Modifiers.from(Modifier.PUBLIC | Modifier.ABSTRACT), attributes);
+  }
+
+  private static TypeDef type(String name, Property... properties) {
+    return new TypeDef(Kind.CLASS, "my.pkg", name, null, Collections.emptyList(), Collections.emptyList(),
+        Collections.emptyList(), Collections.emptyList(), Arrays.asList(properties), Collections.emptyList(),
+        Collections.emptyList(), null, Collections.emptyList(), Modifiers.create(), Collections.emptyMap());
+  }
+}
@@ -0,0 +1,167 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.model.repo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import io.sundr.model.AttributeKey;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeDefBuilder;
+
+public class DefinitionRepositoryTest {
+
+  private static final AttributeKey<Boolean> GENERATED = new AttributeKey<>("GENERATED", Boolean.class);
+  private static final AttributeKey<Boolean> BUILDABLE = new AttributeKey<>("BUILDABLE", Boolean.class);
+
+  @Test
+  public void shouldGetFlaggedDefinitions() {
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    repository.register(type("Foo"), GENERATED, BUILDABLE);
+    repository.register(type("Bar"), GENERATED);
+    repository.register(type("Baz"));
+
+    assertEquals(3, repository.getDefinitions().size());
+    assertEquals(2, repository.getDefinitions(GENERATED).size());
+    assertEquals(1, repository.getDefinitions(GENERATED, BUILDABLE).size());
+    assertEquals("Foo", repository.getDefinitions(BUILDABLE).iterator().next().getName());
+    assertEquals(2, repository.getDefinitions("GENERATED").size());
+    assertTrue(repository.getDefinitions("OTHER").isEmpty());
+  }
+
+  @Test
+  public void shouldUpdateIndexOnRegistration() {
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    repository.register(type("Foo"), GENERATED);
+    repository.register(type("Foo"));
+    assertTrue(repository.getDefinitions(GENERATED).isEmpty());
+
+    repository.registerIfAbsent(new TypeDefBuilder(type("Foo")).addToAttributes(GENERATED, true).build());
+    assertTrue(repository.getDefinitions(GENERATED).isEmpty());
+
+    repository.clear();
+    assertTrue(repository.getDefinitions().isEmpty());
+  }
+
+  @Test
+  public void shouldComputeSuppliedDefinitionOnce() {
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    AtomicReference<TypeDef> nested = new AtomicReference<>();
+    repository.registerIfAbsent("my.pkg.Foo", () -> {
+      nested.set(repository.getDefinition("my.pkg.Foo"));
+      return type("Foo");
+    });
+
+    assertTrue(repository.hasDefinition("my.pkg.Foo"));
+    TypeDef foo = repository.getDefinition("my.pkg.Foo");
+    assertEquals("Foo", foo.getName());
+    assertNull(nested.get());
+    assertSame(foo, repository.getDefinition("my.pkg.Foo"));
+  }
+
+  @Test
+  public void shouldRegisterConcurrently() throws Exception {
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        String name = "Type" + i;
+        boolean generated = i % 2 == 0;
+        futures.add(executor.submit(() -> generated ? repository.register(type(name), GENERATED)
+            : repository.register(type(name))));
+      }
+      for (Future<?> f : futures) {
+        f.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(100, repository.getDefinitions().size());
+    assertEquals(50, repository.getDefinitions(GENERATED).size());
+  }
+
+  @Test
+  public void shouldScopeRepositoryToThread() throws Exception {
+    DefinitionRepository global = DefinitionRepository.getRepository();
+    DefinitionRepository first = DefinitionRepository.createRepository();
+    DefinitionRepository second = DefinitionRepository.createRepository();
+
+    DefinitionRepository.withRepository(first).call(() -> {
+      assertSame(first, DefinitionRepository.getRepository());
+      DefinitionRepository.withRepository(second).call(() -> {
+        assertSame(second, DefinitionRepository.getRepository());
+        return null;
+      });
+      assertSame(first, DefinitionRepository.getRepository());
+
+      //The scope is not inherited, it has to be propagated explicitly.
+      AtomicReference<DefinitionRepository> inherited = new AtomicReference<>();
+      AtomicReference<DefinitionRepository> propagated = new AtomicReference<>();
+      DefinitionRepository current = DefinitionRepository.getRepository();
+      Thread child = new Thread(() -> {
+        inherited.set(DefinitionRepository.getRepository());
+        DefinitionRepository.withRepository(current).call(() -> propagated.getAndSet(DefinitionRepository.getRepository()));
+      });
+      child.start();
+      child.join();
+      assertSame(global, inherited.get());
+      assertSame(first, propagated.get());
+      return null;
+    });
+    assertSame(global, DefinitionRepository.getRepository());
+  }
+
+  @Test
+  public void shouldNotShareScopesAcrossThreads() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        int count = i;
+        futures.add(executor.submit(() -> DefinitionRepository.withNewRepository().call(() -> {
+          for (int j = 0; j < count; j++) {
+            DefinitionRepository.getRepository().register(type("Type" + j));
+            Thread.yield();
+          }
+          return DefinitionRepository.getRepository().getDefinitions().size();
+        })));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        assertEquals(i, futures.get(i).get().intValue());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static TypeDef type(String name) {
+    return new TypeDefBuilder().withPackageName("my.pkg").withName(name).build();
+  }
+}
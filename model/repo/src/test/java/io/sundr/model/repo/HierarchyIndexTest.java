@@ -0,0 +1,109 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.model.repo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import io.sundr.model.ClassRef;
+import io.sundr.model.Kind;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeDefBuilder;
+
+public class HierarchyIndexTest {
+
+  private static final Function<String, TypeDef> NONE = n -> null;
+
+  @Test
+  public void shouldComputeClosures() {
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    repository.register(type("Collection", Kind.INTERFACE));
+    repository.register(type("List", Kind.INTERFACE, extendsList("Collection")));
+    repository.register(type("AbstractList", Kind.CLASS, extendsList(), implementsList("List")));
+    TypeDef arrayList = repository.register(type("ArrayList", Kind.CLASS, extendsList("AbstractList"),
+        implementsList("RandomAccess")));
+
+    HierarchyIndex hierarchy = repository.getHierarchy();
+    assertEquals(new HashSet<>(Arrays.asList("my.pkg.AbstractList")), hierarchy.getSuperclasses(arrayList, NONE));
+    assertEquals(new HashSet<>(Arrays.asList("my.pkg.AbstractList", "my.pkg.List", "my.pkg.Collection", "my.pkg.RandomAccess")),
+        hierarchy.getSupertypes(arrayList, NONE));
+    assertTrue(hierarchy.isSupertype("my.pkg.Collection", arrayList, NONE));
+    assertFalse(hierarchy.isSupertype("my.pkg.ArrayList", arrayList, NONE));
+    assertFalse(hierarchy.isSupertype("my.pkg.Unknown", arrayList, NONE));
+  }
+
+  @Test
+  public void shouldResolveUnregisteredTypesOnce() {
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    AtomicInteger resolved = new AtomicInteger();
+    Function<String, TypeDef> resolver = n -> {
+      resolved.incrementAndGet();
+      return "my.pkg.List".equals(n) ? type("List", Kind.INTERFACE, extendsList("Collection")) : null;
+    };
+    TypeDef arrayList = type("ArrayList", Kind.CLASS, extendsList(), implementsList("List"));
+
+    assertTrue(repository.getHierarchy().isSupertype("my.pkg.Collection", arrayList, resolver));
+    assertTrue(repository.getHierarchy().isSupertype("my.pkg.List", arrayList, resolver));
+    assertEquals(2, resolved.get());
+  }
+
+  @Test
+  public void shouldUpdateClosuresWhenSupertypesChange() {
+    DefinitionRepository repository = DefinitionRepository.createRepository();
+    TypeDef list = repository.register(type("List", Kind.INTERFACE));
+    TypeDef arrayList = repository.register(type("ArrayList", Kind.CLASS, extendsList(), implementsList("List")));
+    assertFalse(repository.getHierarchy().isSupertype("my.pkg.Collection", arrayList, NONE));
+
+    repository.register(new TypeDefBuilder(list).withExtendsList(ClassRef.forName("my.pkg.Collection")).build());
+    assertTrue(repository.getHierarchy().isSupertype("my.pkg.Collection", arrayList, NONE));
+
+    repository.clear();
+    assertTrue(repository.getHierarchy().isSupertype("my.pkg.List", arrayList, NONE));
+    assertFalse(repository.getHierarchy().isSupertype("my.pkg.Collection", arrayList, NONE));
+  }
+
+  private static ClassRef[] extendsList(String... names) {
+    return Arrays.stream(names).map(n -> ClassRef.forName("my.pkg." + n)).toArray(ClassRef[]::new);
+  }
+
+  private static ClassRef[] implementsList(String... names) {
+    return extendsList(names);
+  }
+
+  private static TypeDef type(String name, Kind kind, ClassRef... extendsList) {
+    return type(name, kind, extendsList, new ClassRef[0]);
+  }
+
+  private static TypeDef type(String name, Kind kind, ClassRef[] extendsList, ClassRef[] implementsList) {
+    return new TypeDefBuilder()
+        .withKind(kind)
+        .withPackageName("my.pkg")
+        .withName(name)
+        .withExtendsList(extendsList)
+        .withImplementsList(implementsList)
+        .build();
+  }
+}
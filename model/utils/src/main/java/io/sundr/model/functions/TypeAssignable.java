@@ -19,9 +19,10 @@ package io.sundr.model.functions;
 
 import java.util.HashSet;
 
-import io.sundr.model.ClassRef;
 import io.sundr.model.Node;
 import io.sundr.model.TypeDef;
+import io.sundr.model.repo.DefinitionRepository;
+import io.sundr.model.repo.HierarchyIndex;
 
 public class TypeAssignable {
 
@@ -32,53 +33,47 @@ public class TypeAssignable {
   }
 
   public Boolean from(TypeDef other) {
-    return from(other, new HashSet<>());
-  }
-
-  public Boolean from(TypeDef other, HashSet<String> visited) {
     if (other.getFullyQualifiedName().equals(Node.JAVA_LANG_OBJECT)) {
       return false;
     }
-    if (t == other || t.equals(other)) {
-      return true;
-    }
-    if (t.getFullyQualifiedName().equals(other.getFullyQualifiedName())) {
+    if (t == other || t.equals(other) || isSameType(other)) {
       return true;
     }
 
-    if (t.getPackageName() == null && Node.JAVA_LANG.equals(other.getPackageName())
-        && t.getName().equalsIgnoreCase(other.getName())) {
-      return true;
-    }
-    if (other.getPackageName() == null && Node.JAVA_LANG.equals(t.getPackageName())
-        && t.getName().equalsIgnoreCase(other.getName())) {
+    HierarchyIndex hierarchy = DefinitionRepository.getRepository().getHierarchy();
+    if (hierarchy.isSupertype(t.getFullyQualifiedName(), other, GetDefinition::of)) {
       return true;
     }
 
-    if (visited.contains(other.getFullyQualifiedName())) {
-      return false;
-    }
-    visited.add(t.getFullyQualifiedName());
-
-    for (ClassRef e : other.getExtendsList()) {
-      if (t.getFullyQualifiedName().equals(e.getFullyQualifiedName())) {
-        return true;
-      } else if (from(GetDefinition.of(e), visited)) {
-        //This can be a little confusing, so we practically check if the TypeDef t is assignable from the definition of the candidate superclass
-        return true;
+    // Types that are only known by their simple name, may still match one of the java.lang supertypes.
+    if (t.getPackageName() == null || Node.JAVA_LANG.equals(t.getPackageName())) {
+      for (String supertype : hierarchy.getSupertypes(other, GetDefinition::of)) {
+        TypeDef definition = GetDefinition.of(supertype);
+        if (!definition.getFullyQualifiedName().equals(Node.JAVA_LANG_OBJECT) && isSameType(definition)) {
+          return true;
+        }
       }
     }
+    return false;
+  }
 
-    for (ClassRef i : other.getImplementsList()) {
-      if (t.getFullyQualifiedName().equals(i.getFullyQualifiedName())) {
-        return true;
-      }
-      if (from(GetDefinition.of(i), visited)) {
-        //This can be a little confusing, so we practically check if the TypeDef t is assignable from the definition of the candidate interface
-        return true;
-      }
-    }
+  /**
+   * @deprecated the hierarchy is now resolved using the {@link HierarchyIndex}, use {@link #from(TypeDef)} instead.
+   */
+  @Deprecated
+  public Boolean from(TypeDef other, HashSet<String> visited) {
+    return from(other);
+  }
 
-    return false;
+  private boolean isSameType(TypeDef other) {
+    if (t.getFullyQualifiedName().equals(other.getFullyQualifiedName())) {
+      return true;
+    }
+    if (t.getPackageName() == null && Node.JAVA_LANG.equals(other.getPackageName())
+        && t.getName().equalsIgnoreCase(other.getName())) {
+      return true;
+    }
+    return other.getPackageName() == null && Node.JAVA_LANG.equals(t.getPackageName())
+        && t.getName().equalsIgnoreCase(other.getName());
   }
 }
@@ -41,6 +41,8 @@ import io.sundr.model.visitors.ApplyTypeParamMappingToMethod;
 import io.sundr.model.visitors.ApplyTypeParamMappingToProperty;
 import io.sundr.model.visitors.ApplyTypeParamMappingToTypeArguments;
 import io.sundr.utils.Predicates;
+import io.sundr.utils.Profiler;
+import io.sundr.utils.Profiler.Phase;
 
 public class TypeArguments {
 
@@ -56,6 +58,10 @@ public class TypeArguments {
   }
 
   public static RichTypeDef apply(TypeDef definition) {
+    return Profiler.profile(Phase.TYPE_ARGUMENTS, () -> applyToDefinition(definition));
+  }
+
+  private static RichTypeDef applyToDefinition(TypeDef definition) {
     // resolve hierarchy
     final List<ClassRef> classRefs = definition.getExtendsList()
         .stream()
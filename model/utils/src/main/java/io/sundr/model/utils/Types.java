@@ -564,8 +564,11 @@ public final class Types {
     }
     Set<TypeDef> hierarchy = new HashSet<>();
     hierarchy.add(typeDef);
-    hierarchy.addAll(typeDef.getExtendsList().stream().flatMap(s -> unrollHierarchy(s.map(GetDefinition.FUNCTION)).stream())
-        .collect(Collectors.toSet()));
+    for (String superclass : DefinitionRepository.getRepository().getHierarchy().getSuperclasses(typeDef, GetDefinition::of)) {
+      if (!JAVA_LANG_OBJECT.equals(superclass)) {
+        hierarchy.add(GetDefinition.of(superclass));
+      }
+    }
     return hierarchy;
   }
 
@@ -588,19 +591,18 @@ public final class Types {
   }
 
   public static void visitParents(TypeDef type, List<TypeDef> types) {
-    visitParents(type, types, new ArrayList<>());
+    visitParents(type, types, new HashSet<>());
   }
 
-  public static void visitParents(TypeDef type, List<TypeDef> types, List<TypeDef> visited) {
+  public static void visitParents(TypeDef type, List<TypeDef> types, Collection<TypeDef> visited) {
     if (type == null || JAVA_LANG_OBJECT.equals(type.getFullyQualifiedName())) {
       return;
     }
 
-    if (visited.contains(type)) {
+    if (!visited.add(type)) {
       return;
     }
 
-    visited.add(type);
     List<TypeRef> allRefs = new ArrayList<>();
     allRefs.addAll(type.getImplementsList());
     allRefs.addAll(type.getExtendsList());
@@ -17,6 +17,8 @@
 
 package io.sundr.model.visitors;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import io.sundr.builder.Visitor;
@@ -24,14 +26,23 @@ import io.sundr.model.Attributeable;
 import io.sundr.model.ClassRef;
 import io.sundr.model.TypeDefFluent;
 import io.sundr.model.utils.Parsers;
+import io.sundr.utils.Resources;
 import io.sundr.utils.Strings;
 
 public class ApplyImportsFromResources implements Visitor<TypeDefFluent<?>> {
 
+  //Imports are parsed once per resource (and again if the resource is modified).
+  private static final Resources.Cache<List<ClassRef>> IMPORTS = Resources
+      .cache(content -> Collections.unmodifiableList(Parsers.parseImports(Strings.toLines(content))));
+
   private final List<ClassRef> imports;
 
   public ApplyImportsFromResources(String resourceName) {
-    this.imports = Parsers.parseImports(Strings.loadResourceQuietly(resourceName));
+    try {
+      this.imports = new ArrayList<>(IMPORTS.get(resourceName));
+    } catch (Exception e) {
+      throw new RuntimeException("Failed to load resource:" + resourceName, e);
+    }
   }
 
   @Override
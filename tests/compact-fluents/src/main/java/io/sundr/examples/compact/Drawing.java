@@ -0,0 +1,61 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.examples.compact;
+
+import java.util.List;
+import java.util.Set;
+
+import io.sundr.builder.annotations.Buildable;
+
+@Buildable(compactFluentEnabled = true, generateBuilderPackage = true, builderPackage = "io.sundr.examples.compact.builder")
+public class Drawing {
+
+  private final List<Shape> shapes;
+  private final List<Point> points;
+  private final Set<Point> anchors;
+  private final Point[] corners;
+  private final List<String> tags;
+
+  public Drawing(List<Shape> shapes, List<Point> points, Set<Point> anchors, Point[] corners, List<String> tags) {
+    this.shapes = shapes;
+    this.points = points;
+    this.anchors = anchors;
+    this.corners = corners;
+    this.tags = tags;
+  }
+
+  public List<Shape> getShapes() {
+    return shapes;
+  }
+
+  public List<Point> getPoints() {
+    return points;
+  }
+
+  public Set<Point> getAnchors() {
+    return anchors;
+  }
+
+  public Point[] getCorners() {
+    return corners;
+  }
+
+  public List<String> getTags() {
+    return tags;
+  }
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.examples.compact;
+
+import io.sundr.builder.annotations.Buildable;
+
+@Buildable(compactFluentEnabled = true, generateBuilderPackage = true, builderPackage = "io.sundr.examples.compact.builder")
+public class Square implements Shape {
+
+  private final int x;
+  private final int y;
+  private final int side;
+
+  public Square(int x, int y, int side) {
+    this.x = x;
+    this.y = y;
+    this.side = side;
+  }
+
+  @Override
+  public int getX() {
+    return x;
+  }
+
+  @Override
+  public int getY() {
+    return y;
+  }
+
+  public int getSide() {
+    return side;
+  }
+}
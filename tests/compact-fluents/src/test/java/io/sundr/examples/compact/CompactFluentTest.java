@@ -0,0 +1,88 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.examples.compact;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.sundr.examples.compact.builder.TypedVisitor;
+
+public class CompactFluentTest {
+
+  @Test
+  public void shouldAddSetAndRemoveItems() {
+    DrawingBuilder builder = new DrawingBuilder()
+        .addToPoints(new Point(1, 1), new Point(3, 3))
+        .addToPoints(1, new Point(2, 2))
+        .setToPoints(0, new Point(0, 0))
+        .addToShapes(new Circle(0, 0, 5), new Square(1, 1, 2))
+        .addToTags("a", "b");
+
+    Drawing drawing = builder.build();
+    assertEquals(3, drawing.getPoints().size());
+    assertEquals(0, drawing.getPoints().get(0).getX());
+    assertEquals(2, drawing.getPoints().get(1).getX());
+    assertEquals(2, drawing.getShapes().size());
+
+    builder.removeMatchingFromPoints(p -> p.getX() > 1).removeMatchingFromShapes(s -> s.build() instanceof Square);
+    drawing = builder.build();
+    assertEquals(1, drawing.getPoints().size());
+    assertEquals(1, drawing.getShapes().size());
+    assertTrue(drawing.getShapes().get(0) instanceof Circle);
+  }
+
+  @Test
+  public void shouldMatchItems() {
+    DrawingBuilder builder = new DrawingBuilder()
+        .addToPoints(new Point(1, 1), new Point(2, 2))
+        .addToAnchors(new Point(5, 5))
+        .addToTags("a", "b");
+
+    assertEquals(2, builder.buildMatchingPoint(p -> p.getY() == 2).getY());
+    assertNull(builder.buildMatchingPoint(p -> p.getY() == 3));
+    assertTrue(builder.hasMatchingAnchor(p -> p.getX() == 5));
+    assertFalse(builder.hasMatchingCorner(p -> true));
+    assertEquals("b", builder.getMatchingTag(t -> t.equals("b")));
+  }
+
+  @Test
+  public void shouldKeepVisitablesInSync() {
+    final AtomicInteger counter = new AtomicInteger();
+    DrawingBuilder builder = new DrawingBuilder()
+        .addToPoints(new Point(1, 1), new Point(2, 2))
+        .addToShapes(new Circle(0, 0, 5));
+    builder.removeMatchingFromPoints(p -> p.getX() == 1);
+
+    builder.accept(new TypedVisitor<PointBuilder>() {
+      @Override
+      public void visit(PointBuilder point) {
+        counter.incrementAndGet();
+        point.withX(point.getX() * 10);
+      }
+    });
+
+    assertEquals(1, counter.get());
+    assertEquals(20, builder.build().getPoints().get(0).getX());
+  }
+}